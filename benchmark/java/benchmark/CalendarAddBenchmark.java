@@ -0,0 +1,86 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.calendar.Calendar;
+import model.event.Event;
+import model.exceptions.ConflictingEventException;
+
+/**
+ * Write path of {@link Calendar#addEvent(Event, boolean)}, with the conflict check
+ * ({@code autoDecline = false}) and without it.
+ *
+ * <p>A single add takes about a microsecond, too little to time on its own or to surround with a
+ * per-call setup. Each measured shot therefore adds a batch of {@link #BATCH} distinct events to
+ * a calendar of {@code calendarSize} single events and {@code recurringSeries} series, freshly
+ * built before every iteration. The added events take the next free slots after the fixture's
+ * events, so none conflicts, and the calendar grows by at most {@link #BATCH} events while it is
+ * measured. Building the fixture runs the add path thousands of times, which also warms it up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class CalendarAddBenchmark {
+
+  /**
+   * The number of events each shot adds.
+   */
+  static final int BATCH = 10;
+
+  @Param({"100", "1000", "10000"})
+  public int calendarSize;
+
+  @Param({"0", "10", "50"})
+  public int recurringSeries;
+
+  private Calendar calendar;
+  private Event[] batch;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    calendar = CalendarFixture.build(calendarSize, recurringSeries);
+    batch = new Event[BATCH];
+    for (int i = 0; i < BATCH; i++) {
+      batch[i] = CalendarFixture.singleEvent(calendarSize + i);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int addEventWithConflictCheck() throws ConflictingEventException {
+    return addBatch(false);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int addEventAutoDecline() throws ConflictingEventException {
+    return addBatch(true);
+  }
+
+  private int addBatch(boolean autoDecline) throws ConflictingEventException {
+    int added = 0;
+    for (Event event : batch) {
+      if (calendar.addEvent(event, autoDecline)) {
+        added++;
+      }
+    }
+    return added;
+  }
+}
@@ -0,0 +1,71 @@
+package benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import model.calendar.Calendar;
+import model.event.Event;
+import model.event.RecurringEvent;
+import model.exceptions.ConflictingEventException;
+
+/**
+ * Builds the calendars the benchmarks run against.
+ *
+ * <p>Events last 30 minutes and start {@link #SLOT_MINUTES} minutes apart, because events that
+ * merely touch count as conflicting. Single events fill eight morning slots per day from
+ * {@link #FIRST_DAY} onwards, and each recurring series takes an evening slot on one weekday for
+ * {@link #SERIES_WEEKS} weeks, so nothing conflicts and every calendar of a given size has the
+ * same shape.
+ */
+final class CalendarFixture {
+
+  static final String TIMEZONE = "America/New_York";
+  static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+  static final int SLOTS_PER_DAY = 8;
+  static final long SLOT_MINUTES = 45;
+  static final int SERIES_WEEKS = 26;
+
+  private CalendarFixture() {
+  }
+
+  static Calendar build(int calendarSize, int recurringSeries) {
+    Calendar calendar = new Calendar("Benchmark", TIMEZONE);
+    try {
+      for (int i = 0; i < calendarSize; i++) {
+        calendar.addEvent(singleEvent(i), true);
+      }
+      for (int i = 0; i < recurringSeries; i++) {
+        calendar.addRecurringEvent(series(i), false);
+      }
+    } catch (ConflictingEventException e) {
+      throw new IllegalStateException("Benchmark fixture must not conflict", e);
+    }
+    return calendar;
+  }
+
+  static Event singleEvent(int index) {
+    LocalDateTime start = FIRST_DAY.plusDays(index / SLOTS_PER_DAY)
+            .atTime(8, 0).plusMinutes(SLOT_MINUTES * (index % SLOTS_PER_DAY));
+    return new Event("Meeting " + index, start, start.plusMinutes(30), "Benchmark event",
+            "Room " + (index % 10), true);
+  }
+
+  static RecurringEvent series(int index) {
+    DayOfWeek day = DayOfWeek.of(index % 7 + 1);
+    LocalDate first = FIRST_DAY;
+    while (first.getDayOfWeek() != day) {
+      first = first.plusDays(1);
+    }
+    LocalDateTime start = first.atTime(17, 0).plusMinutes(SLOT_MINUTES * (index / 7));
+    return new RecurringEvent.Builder("Series " + index, start, start.plusMinutes(30),
+            EnumSet.of(day))
+            .occurrences(SERIES_WEEKS)
+            .build();
+  }
+
+  static int days(int calendarSize) {
+    return Math.max(1, (calendarSize + SLOTS_PER_DAY - 1) / SLOTS_PER_DAY);
+  }
+}
@@ -0,0 +1,74 @@
+package benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.calendar.Calendar;
+import model.event.Event;
+
+/**
+ * Read paths of {@link Calendar}: range and single-day queries and busy checks.
+ *
+ * <p>The queried window moves through the populated days on every call so the results are not
+ * always served from the same part of the calendar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarQueryBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  public int calendarSize;
+
+  @Param({"0", "10", "50"})
+  public int recurringSeries;
+
+  private Calendar calendar;
+  private int days;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    calendar = CalendarFixture.build(calendarSize, recurringSeries);
+    days = CalendarFixture.days(calendarSize);
+  }
+
+  private LocalDate nextDay() {
+    cursor = (cursor + 1) % days;
+    return CalendarFixture.FIRST_DAY.plusDays(cursor);
+  }
+
+  @Benchmark
+  public List<Event> getEventsInRangeWeek() {
+    LocalDate from = nextDay();
+    return calendar.getEventsInRange(from, from.plusDays(6));
+  }
+
+  @Benchmark
+  public List<Event> getEventsOnDate() {
+    return calendar.getEventsOnDate(nextDay());
+  }
+
+  @Benchmark
+  public boolean isBusy() {
+    LocalDateTime time = nextDay().atTime(8, 15);
+    return calendar.isBusy(time);
+  }
+}
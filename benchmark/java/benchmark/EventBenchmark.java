@@ -0,0 +1,100 @@
+package benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.event.Event;
+import model.event.RecurringEvent;
+import utilities.TimeZoneHandler;
+
+/**
+ * Per-event building blocks of the calendar operations: recurring expansion, timezone conversion
+ * and the pairwise conflict test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+  /**
+   * The recurring series to expand, kept separate so only the expansion benchmark is
+   * parameterized by their number.
+   */
+  @State(Scope.Benchmark)
+  public static class Series {
+
+    @Param({"1", "10", "50"})
+    public int recurringSeries;
+
+    private RecurringEvent[] series;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+      series = new RecurringEvent[recurringSeries];
+      for (int i = 0; i < recurringSeries; i++) {
+        series[i] = CalendarFixture.series(i);
+      }
+    }
+  }
+
+  private TimeZoneHandler timezoneHandler;
+  private LocalDateTime localTime;
+  private Event event;
+  private Event overlapping;
+  private Event disjoint;
+
+  @Setup
+  public void setUp() {
+    timezoneHandler = new TimeZoneHandler();
+    localTime = LocalDateTime.of(2024, 3, 10, 1, 30);
+    event = CalendarFixture.singleEvent(0);
+    overlapping = new Event("Overlap", event.getStartDateTime().plusMinutes(15),
+            event.getEndDateTime().plusMinutes(15), null, null, true);
+    disjoint = CalendarFixture.singleEvent(1);
+  }
+
+  @Benchmark
+  public int getOccurrencesBetweenMonth(Series state) {
+    state.cursor = (state.cursor + 1) % 20;
+    LocalDate from = CalendarFixture.FIRST_DAY.plusWeeks(state.cursor);
+    int total = 0;
+    for (RecurringEvent recurring : state.series) {
+      List<Event> occurrences = recurring.getOccurrencesBetween(from, from.plusDays(30));
+      total += occurrences.size();
+    }
+    return total;
+  }
+
+  @Benchmark
+  public LocalDateTime convertToUTC() {
+    return timezoneHandler.convertToUTC(localTime, CalendarFixture.TIMEZONE);
+  }
+
+  @Benchmark
+  public boolean conflictsWithOverlapping() {
+    return event.conflictsWith(overlapping);
+  }
+
+  @Benchmark
+  public boolean conflictsWithDisjoint() {
+    return event.conflictsWith(disjoint);
+  }
+}
@@ -1,3 +1,5 @@
+import java.nio.file.Paths;
+
 import javax.swing.SwingUtilities;
 
 import controller.CalendarController;
@@ -28,6 +30,9 @@ public class CalendarApp {
   /**
    * Main method that serves as the entry point for the application.
    *
+   * <p>Setting the {@code calendar.metrics.file} system property writes the command metrics to
+   * that file every {@code calendar.metrics.interval} seconds (60 by default).
+   *
    * @param args Command line arguments:
    *             --mode interactive : Starts the application in interactive mode
    *             --mode headless file : Starts the application in headless mode
@@ -38,9 +43,21 @@ public class CalendarApp {
     commandLineArgs = args;
     handleCommandLineArguments(args);
     initializeApplication();
+    startMetricsDump();
     startApplication();
   }
 
+  /**
+   * Starts the periodic metrics dump if a metrics file is configured.
+   */
+  private static void startMetricsDump() {
+    String metricsFile = System.getProperty("calendar.metrics.file");
+    if (metricsFile != null && !metricsFile.trim().isEmpty()) {
+      long interval = Long.getLong("calendar.metrics.interval", 60L);
+      controller.getMetrics().startPeriodicDump(Paths.get(metricsFile.trim()), interval);
+    }
+  }
+
   /**
    * Initializes the core components of the application.
    */
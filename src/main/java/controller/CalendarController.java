@@ -12,6 +12,8 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import controller.command.event.CommandFactory;
+import controller.execution.CalendarMailboxExecutor;
+import controller.metrics.CommandMetrics;
 import controller.parser.CommandParser;
 import model.calendar.CalendarManager;
 import model.calendar.ICalendar;
@@ -42,7 +44,10 @@ public class CalendarController {
   private ICommandFactory calendarCommandFactory;
   private final CalendarManager calendarManager;
   private ICommandFactory commandFactory;
+  private final CalendarMailboxExecutor mailboxExecutor;
+  private final CommandMetrics metrics;
   private static final String EXIT_COMMAND = "exit";
+  private static final String SHOW_METRICS_COMMAND = "show metrics";
 
   /**
    * Constructs a new CalendarController with all necessary dependencies.
@@ -67,6 +72,10 @@ public class CalendarController {
     this.commandFactory = commandFactory;
     this.calendarCommandFactory = calendarCommandFactory;
     this.view = view;
+    this.mailboxExecutor = new CalendarMailboxExecutor();
+    // A removed calendar gets no more work, so its mailbox and thread can go
+    calendarManager.getCalendarRegistry().addRemovalListener(mailboxExecutor::release);
+    this.metrics = new CommandMetrics();
     if (commandFactory != null) {
       this.parser = new CommandParser(commandFactory);
     }
@@ -150,6 +159,15 @@ public class CalendarController {
    * command 3. Routing to appropriate handler (calendar or event) 4. Updating command factory if
    * calendar context changes 5. Returning the command execution result
    *
+   * <p>Execution is routed through the per-calendar mailboxes of the
+   * {@link CalendarMailboxExecutor}: event commands run in the mailbox of the active calendar,
+   * copy commands hold both the source and the target mailbox, and calendar management commands
+   * run on the control lane. Commands for different calendars therefore proceed in parallel while
+   * writes to the same calendar stay ordered.
+   *
+   * <p>Parse and execution times of every command are recorded in the controller's
+   * {@link CommandMetrics}, which the {@code show metrics} command prints.
+   *
    * @param commandString The command to process
    * @return Result message from command execution
    * @throws IllegalArgumentException if command is null or empty
@@ -160,10 +178,13 @@ public class CalendarController {
     }
 
     String normalizedCommand = normalizeCommand(commandString);
+    if (normalizedCommand.equalsIgnoreCase(SHOW_METRICS_COMMAND)) {
+      return metrics.report();
+    }
 
     try {
       if (isCalendarCommand(normalizedCommand)) {
-        String result = processCalendarCommand(normalizedCommand);
+        String result = routeCalendarCommand(normalizedCommand);
 
         if (normalizedCommand.startsWith("use calendar")) {
           String calendarName = extractCalendarName(normalizedCommand);
@@ -175,8 +196,11 @@ public class CalendarController {
         return result;
       }
 
-      CommandParser.CommandWithArgs commandWithArgs = parser.parseCommand(normalizedCommand);
-      return commandWithArgs.execute();
+      CommandParser.CommandWithArgs commandWithArgs = parseTimed(normalizedCommand);
+      String name = commandWithArgs.getCommand() != null
+              ? commandWithArgs.getCommand().getName() : verbOf(normalizedCommand);
+      return mailboxExecutor.execute(mailboxExecutor.executeControl(this::activeCalendar),
+              () -> metrics.timeExecution(name, commandWithArgs::execute));
     } catch (IllegalArgumentException e) {
       return "Error: " + e.getMessage();
     } catch (Exception e) {
@@ -184,6 +208,122 @@ public class CalendarController {
     }
   }
 
+  /**
+   * Parses an event command, recording the parse time under the name of the parsed command, or
+   * under the command's first word if it does not parse.
+   *
+   * @param commandStr the normalized command string
+   * @return the parsed command
+   */
+  private CommandParser.CommandWithArgs parseTimed(String commandStr) {
+    long start = System.nanoTime();
+    CommandParser.CommandWithArgs commandWithArgs;
+    try {
+      commandWithArgs = parser.parseCommand(commandStr);
+    } catch (RuntimeException e) {
+      metrics.recordParse(verbOf(commandStr), System.nanoTime() - start, true);
+      throw e;
+    }
+    long elapsed = System.nanoTime() - start;
+    metrics.recordParse(commandWithArgs.getCommand() != null
+            ? commandWithArgs.getCommand().getName() : verbOf(commandStr), elapsed, false);
+    return commandWithArgs;
+  }
+
+  private String verbOf(String commandStr) {
+    int space = commandStr.indexOf(' ');
+    return (space < 0 ? commandStr : commandStr.substring(0, space)).toLowerCase();
+  }
+
+  /**
+   * Gets the metrics recorded for the commands processed by this controller.
+   *
+   * @return the command metrics
+   */
+  public CommandMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Routes a calendar management command to the mailbox that owns it.
+   *
+   * <p>The calendar registry is only read and written on the control lane, so calendars are
+   * looked up there. Copy commands touch the active calendar and the target calendar, so they run
+   * as a coordinated two-mailbox step. Editing a calendar changes the registry as well as the
+   * calendar, so it runs on the control lane while holding that calendar's mailbox. Creating and
+   * selecting calendars run on the control lane.
+   *
+   * @param commandStr The calendar command string
+   * @return Result of command execution
+   * @throws Exception if command execution fails
+   */
+  private String routeCalendarCommand(String commandStr) throws Exception {
+    String[] parts = parseCommand(commandStr);
+
+    if (commandStr.startsWith("copy")) {
+      ICalendar source = mailboxExecutor.executeControl(this::activeCalendar);
+      ICalendar target = mailboxExecutor.executeControl(
+              () -> calendarNamed(tokenAfter(parts, "--target")));
+      return mailboxExecutor.executeAcross(source, target,
+              () -> processCalendarCommand(commandStr));
+    }
+    if (commandStr.startsWith("edit calendar")) {
+      ICalendar edited = mailboxExecutor.executeControl(
+              () -> calendarNamed(tokenAfter(parts, "--name")));
+      return mailboxExecutor.executeControl(() -> processCalendarCommand(commandStr), edited);
+    }
+    return mailboxExecutor.executeControl(() -> processCalendarCommand(commandStr));
+  }
+
+  /**
+   * Gets the active calendar, which owns the mailbox for event commands. Must be called on the
+   * control lane.
+   *
+   * @return the active calendar, or null if there is no active calendar
+   */
+  private ICalendar activeCalendar() {
+    try {
+      return calendarManager.getActiveCalendar();
+    } catch (CalendarNotFoundException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets a calendar by name. Must be called on the control lane.
+   *
+   * @param name the name of the calendar
+   * @return the calendar, or null if there is no calendar with that name
+   */
+  private ICalendar calendarNamed(String name) {
+    if (name == null || !calendarManager.hasCalendar(name)) {
+      return null;
+    }
+    try {
+      return calendarManager.getCalendar(name);
+    } catch (CalendarNotFoundException e) {
+      return null;
+    }
+  }
+
+  private String tokenAfter(String[] parts, String flag) {
+    for (int i = 0; i < parts.length - 1; i++) {
+      if (parts[i].equals(flag)) {
+        return parts[i + 1];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the execution layer that serializes commands per calendar.
+   *
+   * @return the mailbox executor
+   */
+  public CalendarMailboxExecutor getMailboxExecutor() {
+    return mailboxExecutor;
+  }
+
   /**
    * Checks if a command is a calendar management command.
    *
@@ -234,16 +374,21 @@ public class CalendarController {
    * @throws Exception if command execution fails
    */
   private String processCalendarCommand(String commandStr) throws Exception {
+    long parseStart = System.nanoTime();
     String[] parts = parseCommand(commandStr);
     if (parts.length < 2) {
+      metrics.recordParse(verbOf(commandStr), System.nanoTime() - parseStart, true);
       return "Error: Invalid calendar command format";
     }
 
     String action = parts[0];
     String targetType = parts[1];
+    String name = action.equals("copy") ? action : action + " " + targetType;
+    metrics.recordParse(name, System.nanoTime() - parseStart, false);
 
     if (action.equals("copy")) {
-      return calendarCommandFactory.getCommand("copy").execute(parts);
+      return metrics.timeExecution(name,
+              () -> calendarCommandFactory.getCommand("copy").execute(parts));
     }
 
     // For other calendar commands
@@ -257,7 +402,8 @@ public class CalendarController {
     }
 
     if (calendarCommandFactory.hasCommand(action)) {
-      return calendarCommandFactory.getCommand(action).execute(args);
+      return metrics.timeExecution(name,
+              () -> calendarCommandFactory.getCommand(action).execute(args));
     } else {
       return "Error: Unknown calendar command: " + action;
     }
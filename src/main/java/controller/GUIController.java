@@ -15,6 +15,7 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -26,6 +27,7 @@ import controller.command.event.ExportCalendarCommand;
 import controller.command.event.ImportCalendarCommand;
 import model.calendar.CalendarManager;
 import model.calendar.ICalendar;
+import model.calendar.iterator.PagedEventIterator;
 import model.event.Event;
 import model.event.RecurringEvent;
 import model.exceptions.CalendarNotFoundException;
@@ -33,6 +35,7 @@ import model.exceptions.ConflictingEventException;
 import model.exceptions.EventNotFoundException;
 import model.exceptions.InvalidEventException;
 import utilities.CalendarNameValidator;
+import utilities.Log;
 import utilities.TimeZoneHandler;
 import view.ButtonStyler;
 import view.CalendarViewFeatures;
@@ -41,6 +44,7 @@ import view.GUICalendarPanel;
 import view.GUICalendarSelectorPanel;
 import view.GUIEventPanel;
 import view.GUIExportImportPanel;
+import view.display.EventListModel;
 import viewmodel.ExportImportViewModel;
 
 /**
@@ -69,42 +73,41 @@ public class GUIController {
    * Initializes the application.
    */
   public void initialize() throws CalendarNotFoundException {
-    System.out.println("Initializing GUI controller...");
+    Log.info("Initializing GUI controller...");
     try {
       CalendarNameValidator.removeAllCalendarNames();
 
       String defaultCalendar = "Default_Calendar";
       if (calendarManager.getCalendarCount() == 0) {
-        System.out.println("Creating default calendar...");
+        Log.info("Creating default calendar...");
         String timezone = timezoneHandler.getSystemDefaultTimezone();
         calendarManager.createCalendar(defaultCalendar, timezone);
 
       }
 
-      System.out.println("Getting first available calendar...");
+      Log.info("Getting first available calendar...");
       currentCalendar = calendarManager.getCalendar(defaultCalendar);
       if (currentCalendar == null) {
         throw new CalendarNotFoundException("No calendars available");
       }
-      System.out.println("Setting up view with calendar: " + defaultCalendar);
+      Log.info(() -> "Setting up view with calendar: " + defaultCalendar);
       view.setSelectedCalendar(defaultCalendar);
       view.updateCalendarView(currentCalendar);
       view.updateCalendarList(new ArrayList<>(calendarManager
               .getCalendarRegistry().getCalendarNames()));
 
-      System.out.println("Setting up event listeners...");
+      Log.info("Setting up event listeners...");
       setupEventListeners();
 
-      System.out.println("Updating calendar display...");
+      Log.info("Updating calendar display...");
       List<Event> events = getAllEvents();
       List<RecurringEvent> recurringEvents = getAllRecurringEvents();
       view.getCalendarPanel().updateEvents(events);
       view.getCalendarPanel().updateRecurringEvents(recurringEvents);
-      System.out.println("GUI controller initialized successfully.");
+      Log.info("GUI controller initialized successfully.");
 
     } catch (Exception e) {
-      System.out.println("Error initializing GUI controller: " + e.getMessage());
-      e.printStackTrace();
+      Log.error(() -> "Error initializing GUI controller: " + e.getMessage(), e);
       view.displayError("Failed to initialize calendar: " + e.getMessage());
       throw new CalendarNotFoundException("Failed to initialize calendar: " + e.getMessage());
     }
@@ -119,14 +122,14 @@ public class GUIController {
             .addCalendarSelectorListener(new GUICalendarSelectorPanel.CalendarSelectorListener() {
               @Override
               public void onCalendarSelected(ICalendar calendar) {
-                System.out.println("[DEBUG] Calendar selected (ICalendar): " + calendar);
+                Log.debug(() -> "Calendar selected (ICalendar): " + calendar);
                 try {
                   if (calendar == null) {
                     view.displayError("Please select a valid calendar");
                     return;
                   }
-                  System.out.println("[DEBUG] Calendar details: " + calendar.toString());
-                  System.out.println("[DEBUG] Calendar has "
+                  Log.debug(() -> "Calendar details: " + calendar.toString());
+                  Log.debug(() -> "Calendar has "
                           + calendar.getAllEvents().size() + " events");
                   currentCalendar = calendar;
                   view.updateCalendarView(calendar);
@@ -141,14 +144,14 @@ public class GUIController {
                   view.getCalendarPanel().updateRecurringEvents(recurringEvents);
                   view.displayMessage("Selected calendar: " + calendar.toString());
                 } catch (Exception e) {
-                  System.out.println("[DEBUG] Calendar selection error: " + e.getMessage());
+                  Log.debug(() -> "Calendar selection error: " + e.getMessage());
                   view.displayError("Failed to select calendar: " + e.getMessage());
                 }
               }
 
               @Override
               public void onCalendarSelected(String calendarName) {
-                System.out.println("[DEBUG] Calendar selected by name: " + calendarName);
+                Log.debug(() -> "Calendar selected by name: " + calendarName);
                 try {
                   if (calendarName == null || calendarName.isEmpty()) {
                     view.displayError("Please select a valid calendar");
@@ -158,14 +161,14 @@ public class GUIController {
                   // Get the calendar by name
                   ICalendar calendar = calendarManager.getCalendar(calendarName);
                   if (calendar == null) {
-                    System.out.println("[ERROR] Could not find calendar with name: "
+                    Log.error(() -> "Could not find calendar with name: "
                             + calendarName);
                     view.displayError("Could not find calendar: " + calendarName);
                     return;
                   }
 
-                  System.out.println("[DEBUG] Found calendar: " + calendar.toString());
-                  System.out.println("[DEBUG] Calendar has " + calendar.getAllEvents().size()
+                  Log.debug(() -> "Found calendar: " + calendar.toString());
+                  Log.debug(() -> "Calendar has " + calendar.getAllEvents().size()
                           + " events");
 
                   currentCalendar = calendar;
@@ -179,13 +182,13 @@ public class GUIController {
 
                   LocalDate currentDate = view.getCalendarPanel().getSelectedDate();
                   YearMonth currentMonth = YearMonth.from(currentDate);
-                  System.out.println("[DEBUG] Getting events for current month: " + currentMonth);
+                  Log.debug(() -> "Getting events for current month: " + currentMonth);
 
                   List<Event> allEvents = currentCalendar.getAllEvents();
                   List<RecurringEvent> recurringEvents = currentCalendar.getAllRecurringEvents();
-                  System.out.println("[DEBUG] Found " + allEvents.size()
+                  Log.debug(() -> "Found " + allEvents.size()
                           + " total events in calendar");
-                  System.out.println("[DEBUG] Calendar has " + recurringEvents.size()
+                  Log.debug(() -> "Calendar has " + recurringEvents.size()
                           + " recurring events in total");
 
                   view.getCalendarPanel().updateEvents(allEvents);
@@ -200,20 +203,19 @@ public class GUIController {
 
                   view.refreshView();
                 } catch (Exception e) {
-                  System.out.println("[DEBUG] Calendar selection error: " + e.getMessage());
-                  e.printStackTrace();
+                  Log.debug(() -> "Calendar selection error: " + e.getMessage(), e);
                   view.displayError("Failed to select calendar: " + e.getMessage());
                 }
               }
 
               @Override
               public void onCalendarCreated(String name, String timezone) {
-                System.out.println("[DEBUG] Calendar creation initiated: "
+                Log.debug(() -> "Calendar creation initiated: "
                         + name + " with timezone: " + timezone);
                 try {
                   // Validate timezone format
                   if (!timezone.contains("/")) {
-                    System.out.println("[DEBUG] Invalid timezone format: " + timezone);
+                    Log.debug(() -> "Invalid timezone format: " + timezone);
                     view.showErrorMessage("Invalid timezone format. "
                             + "Please use Area/Location format.");
                     return;
@@ -221,7 +223,7 @@ public class GUIController {
 
                   // Create the calendar
                   calendarManager.createCalendar(name, timezone);
-                  System.out.println("[DEBUG] Calendar created");
+                  Log.debug("Calendar created");
 
                   // Update the view
                   view.updateCalendarList(new ArrayList<>(calendarManager
@@ -231,7 +233,7 @@ public class GUIController {
                   view.displayMessage("Calendar created successfully: " + name);
                   view.refreshView();
                 } catch (Exception ex) {
-                  System.out.println("[DEBUG] Calendar creation error: " + ex.getMessage());
+                  Log.debug(() -> "Calendar creation error: " + ex.getMessage());
                   view.showErrorMessage("Could not create calendar: " + ex.getMessage());
                 }
               }
@@ -240,17 +242,16 @@ public class GUIController {
     view.getCalendarPanel().addCalendarPanelListener(new GUICalendarPanel.CalendarPanelListener() {
       @Override
       public void onDateSelected(LocalDate date) {
-        System.out.println("[DEBUG] Date selected: " + date);
+        Log.debug(() -> "Date selected: " + date);
         try {
           if (date == null) {
             view.displayError("Please select a valid date");
             return;
           }
-          System.out.println("[DEBUG] Processing date selection for: " + date);
+          Log.debug(() -> "Processing date selection for: " + date);
           setSelectedDate(date);
         } catch (Exception e) {
-          System.out.println("[ERROR] Date selection error: " + e.getMessage());
-          e.printStackTrace();
+          Log.error(() -> "Date selection error: " + e.getMessage(), e);
           view.displayError("Failed to get events for date: " + e.getMessage());
         }
       }
@@ -284,7 +285,7 @@ public class GUIController {
 
       @Override
       public void onEventsListRequested(LocalDate date) {
-        System.out.println("[DEBUG] Events list requested for date: " + date);
+        Log.debug(() -> "Events list requested for date: " + date);
         if (date == null) {
           view.displayError("Please select a valid date");
           return;
@@ -294,19 +295,19 @@ public class GUIController {
 
       @Override
       public void onDateRangeSelected(LocalDate startDate, LocalDate endDate) {
-        System.out.println("[DEBUG] Date range selected: " + startDate + " to " + endDate);
+        Log.debug(() -> "Date range selected: " + startDate + " to " + endDate);
         showRange(startDate, endDate);
       }
 
       @Override
       public void onEditEvent(Event event) {
-        System.out.println("[DEBUG] Edit event requested: " + event.getSubject());
+        Log.debug(() -> "Edit event requested: " + event.getSubject());
         editEvent(event);
       }
 
       @Override
       public void onPrintEvent(Event event) {
-        System.out.println("[DEBUG] Print event requested: " + event.getSubject());
+        Log.debug(() -> "Print event requested: " + event.getSubject());
         printEvent(event);
       }
     });
@@ -352,15 +353,16 @@ public class GUIController {
 
       @Override
       public List<String> getAvailableCalendarNames() {
-        System.out.println("[DEBUG] Getting available calendar names from GUIController");
+        Log.debug("Getting available calendar names from GUIController");
         List<String> calendarNames = new ArrayList<>();
         try {
           if (calendarManager != null) {
             calendarNames = new ArrayList<>(calendarManager.getCalendarNames());
-            System.out.println("[DEBUG] Found " + calendarNames.size() + " calendars");
+            int found = calendarNames.size();
+            Log.debug(() -> "Found " + found + " calendars");
           }
         } catch (Exception ex) {
-          System.out.println("[DEBUG] Error getting calendar names: " + ex.getMessage());
+          Log.debug(() -> "Error getting calendar names: " + ex.getMessage());
         }
         return calendarNames;
       }
@@ -489,8 +491,8 @@ public class GUIController {
     }
 
     try {
-      System.out.println("[DEBUG] Listing events for date: " + date);
-      System.out.println("[DEBUG] Current calendar: " + (currentCalendar != null
+      Log.debug(() -> "Listing events for date: " + date);
+      Log.debug(() -> "Current calendar: " + (currentCalendar != null
               ? currentCalendar.getName() : "null"));
 
       if (currentCalendar == null) {
@@ -499,7 +501,7 @@ public class GUIController {
       }
 
       List<Event> events = currentCalendar.getEventsOnDate(date);
-      System.out.println("[DEBUG] Found " + events.size() + " events for date " + date);
+      Log.debug(() -> "Found " + events.size() + " events for date " + date);
 
       view.updateEventList(events);
       view.getCalendarPanel().updateEventList(date);
@@ -510,8 +512,7 @@ public class GUIController {
         view.displayMessage("Found " + events.size() + " events for " + date);
       }
     } catch (Exception e) {
-      System.err.println("[ERROR] Failed to list events: " + e.getMessage());
-      e.printStackTrace();
+      Log.error(() -> "Failed to list events: " + e.getMessage(), e);
       view.displayError("Failed to list events: " + e.getMessage());
     }
   }
@@ -534,8 +535,8 @@ public class GUIController {
         return;
       }
 
-      System.out.println("[DEBUG] Showing events in range: " + startDate + " to " + endDate);
-      System.out.println("[DEBUG] Current calendar: " + (currentCalendar != null
+      Log.debug(() -> "Showing events in range: " + startDate + " to " + endDate);
+      Log.debug(() -> "Current calendar: " + (currentCalendar != null
               ? currentCalendar.getName() : "null"));
 
       if (currentCalendar == null) {
@@ -543,21 +544,19 @@ public class GUIController {
         return;
       }
 
-      // Get events in the date range from the current calendar
-      List<Event> events = currentCalendar.getEventsInRange(startDate, endDate);
-      System.out.println("[DEBUG] Found " + events.size() + " events in date range");
+      // Stream the range into the event list a page at a time as the user scrolls
+      Iterator<Event> events = new PagedEventIterator(currentCalendar, startDate, endDate,
+              EventListModel.DEFAULT_PAGE_SIZE);
+      boolean found = events.hasNext();
+      view.getCalendarPanel().updateEventListRangeFromCursor(startDate, endDate, events);
 
-      // Update the event list with the range of events
-      view.getCalendarPanel().updateEventListRange(startDate, endDate, events);
-
-      if (events.isEmpty()) {
+      if (!found) {
         view.displayMessage("No events found in selected date range");
       } else {
-        view.displayMessage("Found " + events.size() + " events in selected date range");
+        view.displayMessage("Showing events from " + startDate + " to " + endDate);
       }
     } catch (Exception e) {
-      System.err.println("[ERROR] Failed to get events in range: " + e.getMessage());
-      e.printStackTrace();
+      Log.error(() -> "Failed to get events in range: " + e.getMessage(), e);
       view.displayError("Failed to get events in range: " + e.getMessage());
     }
   }
@@ -647,32 +646,30 @@ public class GUIController {
    * @param event the event to edit
    */
   public void editEvent(Event event) {
-    System.out.println("[DEBUG] GUIController.editEvent called for: " + event.getSubject());
-    System.out.println("[DEBUG] Editing event: " + event.getSubject());
-    System.out.println("[DEBUG] Event details: ID=" + event.getId() + ", start="
+    Log.debug(() -> "GUIController.editEvent called for: " + event.getSubject());
+    Log.debug(() -> "Editing event: " + event.getSubject());
+    Log.debug(() -> "Event details: ID=" + event.getId() + ", start="
             + event.getStartDateTime() + ", end=" + event.getEndDateTime());
 
     try {
-      System.out.println("[DEBUG] About to show edit popup image");
+      Log.debug("About to show edit popup image");
       if (view instanceof JFrame) {
         ButtonStyler.showEditEventPopup((JFrame) view);
       } else {
-        System.out.println("[DEBUG] View is not a JFrame, using alternative approach for popup");
+        Log.debug("View is not a JFrame, using alternative approach for popup");
         ButtonStyler.showEditEventPopup(null);
       }
-      System.out.println("[DEBUG] Edit popup image display method called");
+      Log.debug("Edit popup image display method called");
     } catch (Exception e) {
-      System.err.println("[ERROR] Error showing edit popup: " + e.getMessage());
-      e.printStackTrace();
+      Log.error(() -> "Error showing edit popup: " + e.getMessage(), e);
     }
 
     try {
-      System.out.println("[DEBUG] About to show event edit dialog");
+      Log.debug("About to show event edit dialog");
       view.showEventEditDialog(event, false);
-      System.out.println("[DEBUG] Event edit dialog displayed");
+      Log.debug("Event edit dialog displayed");
     } catch (Exception e) {
-      System.err.println("[ERROR] Error showing edit dialog: " + e.getMessage());
-      e.printStackTrace();
+      Log.error(() -> "Error showing edit dialog: " + e.getMessage(), e);
     }
   }
 
@@ -683,7 +680,7 @@ public class GUIController {
    */
   public void onEventSaved(EventFormData formData) {
     try {
-      System.out.println("[DEBUG] Saving event: " + formData.getSubject());
+      Log.debug(() -> "Saving event: " + formData.getSubject());
 
       if (currentCalendar == null) {
         view.displayError("Please select a calendar first");
@@ -696,88 +693,89 @@ public class GUIController {
         view.displayError("Invalid event data");
         return;
       }
-      System.out.println("[DEBUG] Creating event with following parameters:");
-      System.out.println("[DEBUG] Subject: " + formData.getSubject());
-      System.out.println("[DEBUG] Start Time: " + formData.getStartTime());
-      System.out.println("[DEBUG] End Time: " + formData.getEndTime());
-      System.out.println("[DEBUG] Is Recurring: " + formData.isRecurring());
+      Log.debug("Creating event with following parameters:");
+      Log.debug(() -> "Subject: " + formData.getSubject());
+      Log.debug(() -> "Start Time: " + formData.getStartTime());
+      Log.debug(() -> "End Time: " + formData.getEndTime());
+      Log.debug(() -> "Is Recurring: " + formData.isRecurring());
 
       if (formData.isRecurring()) {
-        System.out.println("[DEBUG] Recurring event details:");
-        System.out.println("[DEBUG] Repeat days: " + formData.getWeekdays());
+        Log.debug("Recurring event details:");
+        Log.debug(() -> "Repeat days: " + formData.getWeekdays());
         if (formData.getOccurrences() > 0) {
-          System.out.println("[DEBUG] Occurrences: " + formData.getOccurrences());
+          Log.debug(() -> "Occurrences: " + formData.getOccurrences());
         } else if (formData.getRecurringEndDate() != null) {
-          System.out.println("[DEBUG] End date: " + formData.getRecurringEndDate());
+          Log.debug(() -> "End date: " + formData.getRecurringEndDate());
         }
       }
 
       String result = executeCommand("create", args);
       if (result.startsWith("Error")) {
-        System.out.println("[ERROR] Failed to create event: " + result);
+        Log.error(() -> "Failed to create event: " + result);
         view.displayError(result);
       } else {
-        System.out.println("[DEBUG] Event created successfully: " + formData.getSubject());
-        System.out.println("[DEBUG] Result from command: " + result);
+        Log.debug(() -> "Event created successfully: " + formData.getSubject());
+        Log.debug(() -> "Result from command: " + result);
         view.displayMessage(result);
 
         Date selectedDate = formData.getSelectedDate();
         LocalDate eventDate = selectedDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-        System.out.println("[DEBUG] Updating display for date: " + eventDate);
+        Log.debug(() -> "Updating display for date: " + eventDate);
 
         List<Event> allEvents = currentCalendar.getAllEvents();
-        System.out.println("[DEBUG] Total events in calendar after creation: " + allEvents.size());
+        Log.debug(() -> "Total events in calendar after creation: " + allEvents.size());
         view.getCalendarPanel().updateEvents(allEvents);
 
         List<RecurringEvent> recurringEvents = currentCalendar.getAllRecurringEvents();
-        System.out.println("[DEBUG] Total recurring events in calendar: " + recurringEvents.size());
+        Log.debug(() -> "Total recurring events in calendar: " + recurringEvents.size());
 
-        if (!recurringEvents.isEmpty() && formData.isRecurring()) {
+        // Expanding the series for the details below is only worth it if they are logged
+        if (Log.isEnabled(Log.Level.DEBUG) && !recurringEvents.isEmpty()
+                && formData.isRecurring()) {
           RecurringEvent lastAdded = recurringEvents.get(recurringEvents.size() - 1);
-          System.out.println("*************************************************************");
-          System.out.println("[DEBUG-RECURRING] Latest recurring event details:");
-          System.out.println("[DEBUG-RECURRING] Subject: " + lastAdded.getSubject());
-          System.out.println("[DEBUG-RECURRING] Start Date/Time: " + lastAdded.getStartDateTime());
-          System.out.println("[DEBUG-RECURRING] End Date/Time: " + lastAdded.getEndDateTime());
-          System.out.println("[DEBUG-RECURRING] Location: " + lastAdded.getLocation());
-          System.out.println("[DEBUG-RECURRING] Description: " + lastAdded.getDescription());
-          System.out.println("[DEBUG-RECURRING] Repeat days: " + lastAdded.getRepeatDays());
-          System.out.println("[DEBUG-RECURRING] All-day: " + lastAdded.isAllDay());
+          Log.debug("RECURRING Latest recurring event details:");
+          Log.debug(() -> "RECURRING Subject: " + lastAdded.getSubject());
+          Log.debug(() -> "RECURRING Start Date/Time: " + lastAdded.getStartDateTime());
+          Log.debug(() -> "RECURRING End Date/Time: " + lastAdded.getEndDateTime());
+          Log.debug(() -> "RECURRING Location: " + lastAdded.getLocation());
+          Log.debug(() -> "RECURRING Description: " + lastAdded.getDescription());
+          Log.debug(() -> "RECURRING Repeat days: " + lastAdded.getRepeatDays());
+          Log.debug(() -> "RECURRING All-day: " + lastAdded.isAllDay());
 
           if (lastAdded.getOccurrences() > 0) {
-            System.out.println("[DEBUG-RECURRING] Occurrences limit: "
+            Log.debug(() -> "RECURRING Occurrences limit: "
                     + lastAdded.getOccurrences());
           } else if (lastAdded.getEndDate() != null) {
-            System.out.println("[DEBUG-RECURRING] End date: " + lastAdded.getEndDate());
+            Log.debug(() -> "RECURRING End date: " + lastAdded.getEndDate());
           }
-          System.out.println("[DEBUG-RECURRING] Recurring ID: " + lastAdded.getRecurringId());
+          Log.debug(() -> "RECURRING Recurring ID: " + lastAdded.getRecurringId());
 
           LocalDate today = LocalDate.now();
 
           LocalDate startOfWeek = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
           LocalDate endOfWeek = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
           List<Event> weeklyOccurrences = lastAdded.getOccurrencesBetween(startOfWeek, endOfWeek);
-          System.out.println("[DEBUG-RECURRING] Generated " + weeklyOccurrences.size()
+          Log.debug(() -> "RECURRING Generated " + weeklyOccurrences.size()
                   + " occurrences for current week");
 
           LocalDate firstOfMonth = today.withDayOfMonth(1);
           LocalDate lastOfMonth = today.withDayOfMonth(today.lengthOfMonth());
           List<Event> monthlyOccurrences = lastAdded.getOccurrencesBetween(firstOfMonth,
                   lastOfMonth);
-          System.out.println("[DEBUG-RECURRING] Generated " + monthlyOccurrences.size()
+          Log.debug(() -> "RECURRING Generated " + monthlyOccurrences.size()
                   + " occurrences for current month");
 
-          System.out.println("[DEBUG-RECURRING] Sample occurrences:");
+          Log.debug("RECURRING Sample occurrences:");
           List<Event> allOccurrences = lastAdded.getAllOccurrences();
           int occurrencesToShow = Math.min(5, allOccurrences.size());
           for (int i = 0; i < occurrencesToShow; i++) {
             Event occurrence = allOccurrences.get(i);
-            System.out.println("[DEBUG-RECURRING] #" + (i + 1) + ": "
+            int number = i + 1;
+            Log.debug(() -> "RECURRING #" + number + ": "
                     + occurrence.getStartDateTime().toLocalDate()
                     + " (" + occurrence.getStartDateTime().getDayOfWeek()
                     + ") with ID: " + occurrence.getId());
           }
-          System.out.println("*************************************************************");
         }
 
         view.getCalendarPanel().updateRecurringEvents(recurringEvents);
@@ -789,8 +787,7 @@ public class GUIController {
         view.getEventPanel().clearForm();
       }
     } catch (Exception e) {
-      System.out.println("[ERROR] Exception while saving event: " + e.getMessage());
-      e.printStackTrace();
+      Log.error(() -> "Exception while saving event: " + e.getMessage(), e);
       view.displayError("Failed to save event: " + e.getMessage());
     }
   }
@@ -802,8 +799,8 @@ public class GUIController {
    */
   public void onEventUpdated(EventFormData formData) {
     try {
-      System.out.println("[DEBUG] Updating event: " + formData.getSubject());
-      System.out.println("[DEBUG] Updated details: Subject=" + formData.getSubject() +
+      Log.debug(() -> "Updating event: " + formData.getSubject());
+      Log.debug(() -> "Updated details: Subject=" + formData.getSubject() +
               ", Location=" + formData.getLocation() +
               ", AllDay=" + formData.isAllDay());
       if (currentCalendar == null) {
@@ -834,8 +831,8 @@ public class GUIController {
         Date startDate = formData.getStartTime();
         Date endDate = formData.getEndTime();
 
-        System.out.println("[DEBUG] GUIController.onEventUpdated - Raw start time: " + startDate);
-        System.out.println("[DEBUG] GUIController.onEventUpdated - Raw end time: " + endDate);
+        Log.debug(() -> "GUIController.onEventUpdated - Raw start time: " + startDate);
+        Log.debug(() -> "GUIController.onEventUpdated - Raw end time: " + endDate);
 
         LocalDate selectedDate = formData.getSelectedDate().toInstant()
                 .atZone(ZoneId.systemDefault()).toLocalDate();
@@ -853,13 +850,13 @@ public class GUIController {
         startDateTime = selectedDate.atTime(startHour, startMinute);
         endDateTime = selectedDate.atTime(endHour, endMinute);
 
-        System.out.println("[DEBUG] GUIController.onEventUpdated - Parsed start time: "
+        Log.debug(() -> "GUIController.onEventUpdated - Parsed start time: "
                 + startDateTime);
-        System.out.println("[DEBUG] GUIController.onEventUpdated - Parsed end time: "
+        Log.debug(() -> "GUIController.onEventUpdated - Parsed end time: "
                 + endDateTime);
 
         if (endDateTime.isBefore(startDateTime) || endDateTime.equals(startDateTime)) {
-          System.out.println("[ERROR] GUIController.onEventUpdated - End time validation failed: " +
+          Log.error(() -> "GUIController.onEventUpdated - End time validation failed: " +
                   "Start=" + startDateTime + ", End=" + endDateTime);
           view.displayError("End date/time cannot be before or equal to start date/time");
           return;
@@ -875,11 +872,11 @@ public class GUIController {
       LocalDateTime utcStartDateTime = timezoneHandler.convertToUTC(startDateTime, systemTimezone);
       LocalDateTime utcEndDateTime = timezoneHandler.convertToUTC(endDateTime, systemTimezone);
 
-      System.out.println("[DEBUG] Event times - Local Start: " + startDateTime);
-      System.out.println("[DEBUG] Event times - Local End: " + endDateTime);
-      System.out.println("[DEBUG] Event times - UTC Start: " + utcStartDateTime);
-      System.out.println("[DEBUG] Event times - UTC End: " + utcEndDateTime);
-      System.out.println("[DEBUG] Calendar timezone: " + calendarTimezone);
+      Log.debug(() -> "Event times - Local Start: " + startDateTime);
+      Log.debug(() -> "Event times - Local End: " + endDateTime);
+      Log.debug(() -> "Event times - UTC Start: " + utcStartDateTime);
+      Log.debug(() -> "Event times - UTC End: " + utcEndDateTime);
+      Log.debug(() -> "Calendar timezone: " + calendarTimezone);
 
       try {
         Event updatedEvent = new Event(
@@ -893,14 +890,14 @@ public class GUIController {
                 currentEvent.isAllDay()
         );
 
-        System.out.println("[DEBUG] GUIController.onEventUpdated - Updating event with ID: "
+        Log.debug(() -> "GUIController.onEventUpdated - Updating event with ID: "
                 + currentEvent.getId());
-        System.out.println("[DEBUG] GUIController.onEventUpdated - Event details before update: "
+        Log.debug(() -> "GUIController.onEventUpdated - Event details before update: "
                 + "Subject=" + currentEvent.getSubject()
                 + ", Location=" + currentEvent.getLocation()
                 + ", Start=" + currentEvent.getStartDateTime()
                 + ", End=" + currentEvent.getEndDateTime());
-        System.out.println("[DEBUG] GUIController.onEventUpdated - Event details after update: "
+        Log.debug(() -> "GUIController.onEventUpdated - Event details after update: "
                 + "Subject=" + updatedEvent.getSubject()
                 + ", Location=" + updatedEvent.getLocation()
                 + ", Start=" + updatedEvent.getStartDateTime()
@@ -909,7 +906,7 @@ public class GUIController {
         boolean success = currentCalendar.updateEvent(currentEvent.getId(), updatedEvent);
 
         if (success) {
-          System.out.println("[DEBUG] GUIController.onEventUpdated - Update successful");
+          Log.debug("GUIController.onEventUpdated - Update successful");
           view.displayMessage("Event updated successfully");
           LocalDate selectedDate = startDateTime.toLocalDate();
           setSelectedDate(selectedDate);
@@ -918,7 +915,7 @@ public class GUIController {
 
           Event refreshedEvent = null;
           for (Event event : updatedEvents) {
-            System.out.println("[DEBUG] GUIController.onEventUpdated - Found event in list: " +
+            Log.debug(() -> "GUIController.onEventUpdated - Found event in list: " +
                     "ID=" + event.getId() +
                     ", Subject=" + event.getSubject() +
                     ", Location=" + event.getLocation());
@@ -929,11 +926,12 @@ public class GUIController {
           }
 
           if (refreshedEvent != null) {
-            System.out.println("[DEBUG] GUIController.onEventUpdated - Displaying updated event: "
-                    + refreshedEvent.getSubject());
+            String refreshedSubject = refreshedEvent.getSubject();
+            Log.debug(() -> "GUIController.onEventUpdated - Displaying updated event: "
+                    + refreshedSubject);
             view.showEventDetails(refreshedEvent);
           } else {
-            System.out.println("[DEBUG] GUIController.onEventUpdated "
+            Log.debug(() -> "GUIController.onEventUpdated "
                     + "- Updated event not found in list, using original");
             view.showEventDetails(updatedEvent);
           }
@@ -943,16 +941,15 @@ public class GUIController {
           view.refreshEventView();
           view.refreshView();
         } else {
-          System.out.println("[ERROR] GUIController.onEventUpdated - Failed to update event");
+          Log.error("GUIController.onEventUpdated - Failed to update event");
           view.displayError("Failed to update event");
         }
       } catch (IllegalArgumentException e) {
-        System.out.println("[ERROR] Validation error: " + e.getMessage());
+        Log.error(() -> "Validation error: " + e.getMessage());
         view.displayError("Failed to update event: " + e.getMessage());
       }
     } catch (Exception e) {
-      System.out.println("[ERROR] Exception while updating event: " + e.getMessage());
-      e.printStackTrace();
+      Log.error(() -> "Exception while updating event: " + e.getMessage(), e);
       view.displayError("Failed to update event: " + e.getMessage());
     }
   }
@@ -963,7 +960,7 @@ public class GUIController {
    * @param event the updated event
    */
   public void onEventUpdated(Event event) {
-    System.out.println("[DEBUG] Event updated: " + event.getSubject());
+    Log.debug(() -> "Event updated: " + event.getSubject());
 
     if (currentCalendar == null) {
       view.displayError("Please select a calendar first");
@@ -1028,7 +1025,7 @@ public class GUIController {
    */
   public boolean copyEvent(Event event, String targetCalendarName,
                            LocalDateTime targetStartDateTime, LocalDateTime targetEndDateTime) {
-    System.out.println("[DEBUG] Copying event: " + event.getSubject()
+    Log.debug(() -> "Copying event: " + event.getSubject()
             + " to calendar: " + targetCalendarName);
 
     if (currentCalendar == null) {
@@ -1051,7 +1048,7 @@ public class GUIController {
         return false;
       }
 
-      System.out.println("[DEBUG] Copying event directly to target calendar");
+      Log.debug("Copying event directly to target calendar");
 
       Event copiedEvent = new Event(
               event.getSubject(), // Keep the original subject
@@ -1068,13 +1065,13 @@ public class GUIController {
         view.refreshView();
         return true;
       } catch (Exception ex) {
-        System.out.println("[ERROR] Failed to add event to target calendar: " + ex.getMessage());
+        Log.error(() -> "Failed to add event to target calendar: " + ex.getMessage());
         view.showErrorMessage("Failed to copy event");
         return false;
       }
     } catch (Exception e) {
       view.showErrorMessage("Error copying event: " + e.getMessage());
-      e.printStackTrace();
+      Log.error(() -> "Error copying event: " + e.getMessage(), e);
       return false;
     }
   }
@@ -1085,7 +1082,7 @@ public class GUIController {
    * @param event the event to print
    */
   public void printEvent(Event event) {
-    System.out.println("[DEBUG] Printing event: " + event.getSubject());
+    Log.debug(() -> "Printing event: " + event.getSubject());
 
     if (currentCalendar == null) {
       view.displayError("Please select a calendar first");
@@ -1213,10 +1210,10 @@ public class GUIController {
    * @return a String message indicating the result of command execution (success or error message)
    */
   public String executeCommand(String command, String[] args) {
-    System.out.println("[DEBUG] Executing command: " + command
+    Log.debug(() -> "Executing command: " + command
             + " with args: " + String.join(", ", args));
     if (currentCalendar == null) {
-      System.out.println("[DEBUG] No calendar selected!");
+      Log.debug("No calendar selected!");
       return "Error: No calendar selected";
     }
 
@@ -1237,22 +1234,23 @@ public class GUIController {
           try {
             startDateTime = LocalDateTime.parse(args[3]);
           } catch (DateTimeParseException e) {
-            System.out.println("[DEBUG] Failed to parse date directly: " + e.getMessage());
+            Log.debug(() -> "Failed to parse date directly: " + e.getMessage());
             return "Error: Invalid date format. Use yyyy-MM-ddTHH:mm format.";
           }
         }
       }
 
+      String eventSubject = subject;
       switch (command.toLowerCase()) {
         case "create":
           if (args.length < 4) {
-            System.out.println("[DEBUG] Invalid number of arguments for create command");
+            Log.debug("Invalid number of arguments for create command");
             return "Error: Invalid command arguments";
           }
 
           if (args.length >= 6) {
             try {
-              System.out.println("[DEBUG] Creating event from form data: " + subject);
+              Log.debug(() -> "Creating event from form data: " + eventSubject);
 
               String dateStr = args[3];
               String startTimeStr = args[4];
@@ -1313,7 +1311,7 @@ public class GUIController {
                         repeatDays.add(DayOfWeek.SUNDAY);
                         break;
                       default:
-                        System.out.println("[DEBUG] Unknown day: " + day);
+                        Log.debug(() -> "Unknown day: " + day);
                     }
                   }
                   i++;
@@ -1329,7 +1327,7 @@ public class GUIController {
               boolean added;
 
               if (isRecurring && !repeatDays.isEmpty()) {
-                System.out.println("[DEBUG] Creating recurring event with repeat days: "
+                Log.debug(() -> "Creating recurring event with repeat days: "
                         + repeatDays);
 
                 UUID recurringSeriesId = UUID.randomUUID();
@@ -1346,22 +1344,24 @@ public class GUIController {
                         .recurringId(recurringSeriesId);
 
                 if (untilDate != null) {
-                  builder = builder.endDate(untilDate);
-                  System.out.println("[DEBUG] Recurring event will repeat until: " + untilDate);
+                  LocalDate repeatUntil = untilDate;
+                  builder = builder.endDate(repeatUntil);
+                  Log.debug(() -> "Recurring event will repeat until: " + repeatUntil);
                 } else if (occurrences > 0) {
-                  builder = builder.occurrences(occurrences);
-                  System.out.println("[DEBUG] Recurring event will have "
-                          + occurrences + " occurrences");
+                  int repeatCount = occurrences;
+                  builder = builder.occurrences(repeatCount);
+                  Log.debug(() -> "Recurring event will have "
+                          + repeatCount + " occurrences");
                 } else {
                   builder = builder.occurrences(10);
-                  System.out.println("[DEBUG] Defaulting to 10 occurrences for recurring event");
+                  Log.debug("Defaulting to 10 occurrences for recurring event");
                 }
 
                 RecurringEvent builtEvent = builder.build();
-                System.out.println("[DEBUG] Adding recurring event to calendar: "
+                Log.debug(() -> "Adding recurring event to calendar: "
                         + builtEvent.getSubject());
                 added = currentCalendar.addRecurringEvent(builtEvent, false);
-                System.out.println("[DEBUG] Recurring event added: " + added);
+                Log.debug(() -> "Recurring event added: " + added);
               } else {
                 Event event = new Event(
                         subject,
@@ -1372,13 +1372,9 @@ public class GUIController {
                         !isPrivate
                 );
 
-                System.out.println("[DEBUG] Adding event to calendar: Event{subject='" + subject
-                        + "', startDateTime=" + startDateTime
-                        + ", endDateTime=" + endDateTime
-                        + ", isAllDay=false"
-                        + ", location='" + location + "'}");
+                Log.debug(() -> "Adding event to calendar: " + event);
                 added = currentCalendar.addEvent(event, false);
-                System.out.println("[DEBUG] Event added: " + added);
+                Log.debug(() -> "Event added: " + added);
               }
 
               if (added) {
@@ -1395,15 +1391,14 @@ public class GUIController {
                 return "Error: Failed to add event";
               }
             } catch (Exception e) {
-              System.out.println("[DEBUG] Error creating event: " + e.getMessage());
-              e.printStackTrace();
+              Log.debug(() -> "Error creating event: " + e.getMessage(), e);
               return "Error: " + e.getMessage();
             }
           } else if ("single".equals(eventType)) {
-            System.out.println("[DEBUG] Creating single event: " + subject);
+            Log.debug(() -> "Creating single event: " + eventSubject);
             String[] eventDetails = args[4].split(",");
             if (eventDetails.length < 4) {
-              System.out.println("[DEBUG] Invalid event details format");
+              Log.debug("Invalid event details format");
               return "Error: Invalid event details format";
             }
 
@@ -1415,9 +1410,9 @@ public class GUIController {
                     eventDetails[3],
                     true
             );
-            System.out.println("[DEBUG] Adding event to calendar: " + event);
+            Log.debug(() -> "Adding event to calendar: " + event);
             boolean added = currentCalendar.addEvent(event, false);
-            System.out.println("[DEBUG] Event added: " + added);
+            Log.debug(() -> "Event added: " + added);
             if (added) {
               LocalDate singleEventDate = startDateTime.toLocalDate();
               updateEventList(singleEventDate);
@@ -1429,10 +1424,10 @@ public class GUIController {
               return "Error: Failed to add event";
             }
           } else if ("series_from_date".equals(eventType)) {
-            System.out.println("[DEBUG] Creating recurring event: " + subject);
+            Log.debug(() -> "Creating recurring event: " + eventSubject);
             String[] eventDetails = args[4].split(",");
             if (eventDetails.length < 7) {
-              System.out.println("[DEBUG] Invalid recurring event details format");
+              Log.debug("Invalid recurring event details format");
               return "Error: Invalid recurring event details format";
             }
 
@@ -1453,9 +1448,9 @@ public class GUIController {
                     .occurrences(Integer.parseInt(eventDetails[4])) // occurrences
                     .endDate(LocalDate.parse(eventDetails[6])) // untilDate
                     .build();
-            System.out.println("[DEBUG] Adding recurring event to calendar: " + recurringEvent);
+            Log.debug(() -> "Adding recurring event to calendar: " + recurringEvent);
             boolean added = currentCalendar.addRecurringEvent(recurringEvent, false);
-            System.out.println("[DEBUG] Recurring event added: " + added);
+            Log.debug(() -> "Recurring event added: " + added);
             if (added) {
               LocalDate recurringEventDate = startDateTime.toLocalDate();
               updateEventList(recurringEventDate);
@@ -1470,15 +1465,15 @@ public class GUIController {
 
         case "edit":
           if (args.length < 4) {
-            System.out.println("[DEBUG] Invalid number of arguments for edit command");
+            Log.debug("Invalid number of arguments for edit command");
             return "Error: Invalid command arguments";
           }
 
           if ("single".equals(eventType)) {
-            System.out.println("[DEBUG] Editing single event: " + subject);
+            Log.debug(() -> "Editing single event: " + eventSubject);
             String[] eventDetails = args[4].split(",");
             if (eventDetails.length < 4) {
-              System.out.println("[DEBUG] Invalid event details format");
+              Log.debug("Invalid event details format");
               return "Error: Invalid event details format";
             }
 
@@ -1490,9 +1485,9 @@ public class GUIController {
                     eventDetails[3], // location
                     true // isPublic
             );
-            System.out.println("[DEBUG] Updating event in calendar: " + event);
+            Log.debug(() -> "Updating event in calendar: " + event);
             boolean updated = currentCalendar.addEvent(event, false);
-            System.out.println("[DEBUG] Event updated: " + updated);
+            Log.debug(() -> "Event updated: " + updated);
             if (updated) {
               // Refresh all calendar views to immediately display the updated event
               LocalDate updatedEventDate = startDateTime.toLocalDate();
@@ -1504,10 +1499,10 @@ public class GUIController {
             }
             return "Failed to update event";
           } else if ("series_from_date".equals(eventType)) {
-            System.out.println("[DEBUG] Editing recurring event: " + subject);
+            Log.debug(() -> "Editing recurring event: " + eventSubject);
             String[] eventDetails = args[4].split(",");
             if (eventDetails.length < 7) {
-              System.out.println("[DEBUG] Invalid recurring event details format");
+              Log.debug("Invalid recurring event details format");
               return "Error: Invalid recurring event details format";
             }
 
@@ -1528,9 +1523,9 @@ public class GUIController {
                     .occurrences(Integer.parseInt(eventDetails[4])) // occurrences
                     .endDate(LocalDate.parse(eventDetails[6])) // untilDate
                     .build();
-            System.out.println("[DEBUG] Updating recurring event in calendar: " + recurringEvent);
+            Log.debug(() -> "Updating recurring event in calendar: " + recurringEvent);
             boolean updated = currentCalendar.addRecurringEvent(recurringEvent, false);
-            System.out.println("[DEBUG] Recurring event updated: " + updated);
+            Log.debug(() -> "Recurring event updated: " + updated);
             if (updated) {
               // Refresh all calendar views to immediately display the updated recurring event
               LocalDate updatedRecurringDate = startDateTime.toLocalDate();
@@ -1545,13 +1540,12 @@ public class GUIController {
           break;
 
         default:
-          System.out.println("[DEBUG] Unknown command: " + command);
+          Log.debug(() -> "Unknown command: " + command);
           return "Error: Unknown command";
       }
       return "Error: Invalid command arguments";
     } catch (Exception e) {
-      System.out.println("[DEBUG] Error executing command: " + e.getMessage());
-      e.printStackTrace();
+      Log.debug(() -> "Error executing command: " + e.getMessage(), e);
       return "Error: " + e.getMessage();
     }
   }
@@ -1573,7 +1567,7 @@ public class GUIController {
     if (date == null) {
       return;
     }
-    System.out.println("[DEBUG] Setting selected date to: " + date);
+    Log.debug(() -> "Setting selected date to: " + date);
     view.getEventPanel().clearForm();
     view.getEventPanel().setDate(date);
     view.getCalendarPanel().setSelectedDate(date);
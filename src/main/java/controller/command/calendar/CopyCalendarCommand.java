@@ -29,7 +29,7 @@ public class CopyCalendarCommand implements ICommand {
     String targetName = args[2];
 
     try {
-      calendarManager.getCalendarRegistry().updateCalendarName(sourceName, targetName);
+      calendarManager.getCalendarRegistry().copyCalendar(sourceName, targetName);
       return "Calendar copied: " + sourceName + " -> " + targetName;
     } catch (IllegalArgumentException e) {
       return "Error: " + e.getMessage();
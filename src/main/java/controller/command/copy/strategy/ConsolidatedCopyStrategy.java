@@ -3,8 +3,8 @@ package controller.command.copy.strategy;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
 import java.util.List;
 
 import model.calendar.Calendar;
@@ -362,55 +362,12 @@ public class ConsolidatedCopyStrategy implements CopyStrategy {
       return "No events found on " + sourceDate + " to copy.";
     }
 
-    String sourceTimezone = ((Calendar) sourceCalendar).getTimeZone().getID();
-    String targetTimezone = ((Calendar) calendarManager.getCalendar(targetCalendarName))
-            .getTimeZone().getID();
+    String sourceTimezone = sourceCalendar.getTimeZone().getID();
 
-    // Calculate the difference in days between source and target dates
+    // Shift the whole day by the difference between source and target dates
     long daysDifference = ChronoUnit.DAYS.between(sourceDate, targetDate);
-
-    int successCount = 0;
-    for (Event sourceEvent : eventsToCopy) {
-      // Calculate the duration of the event
-      Duration eventDuration = Duration.between(
-              sourceEvent.getStartDateTime(),
-              sourceEvent.getEndDateTime()
-      );
-
-      // Get the local time components from the source event
-      int hour = sourceEvent.getStartDateTime().getHour();
-      int minute = sourceEvent.getStartDateTime().getMinute();
-      
-      // Create new datetime in the target date with the same local time
-      LocalDateTime newStartDateTime = LocalDateTime.of(
-              targetDate, 
-              LocalTime.of(hour, minute)
-      );
-      LocalDateTime newEndDateTime = newStartDateTime.plus(eventDuration);
-
-      Event newEvent = new Event(
-              sourceEvent.getSubject(),
-              newStartDateTime,
-              newEndDateTime,
-              sourceEvent.getDescription(),
-              sourceEvent.getLocation(),
-              sourceEvent.isPublic()
-      );
-
-      try {
-        calendarManager.executeOnCalendar(targetCalendarName, calendar -> {
-          try {
-            calendar.addEvent(newEvent, false);
-            return true;
-          } catch (ConflictingEventException e) {
-            return false;
-          }
-        });
-        successCount++;
-      } catch (Exception e) {
-        continue;
-      }
-    }
+    int successCount = copyShifted(eventsToCopy, sourceTimezone, targetCalendarName,
+            daysDifference);
 
     if (successCount == 0) {
       return "Failed to copy any events to calendar '" + targetCalendarName + "'.";
@@ -445,64 +402,12 @@ public class ConsolidatedCopyStrategy implements CopyStrategy {
       return "No events found between " + sourceStartDate + " and " + sourceEndDate + " to copy.";
     }
 
-    String sourceTimezone = ((Calendar) sourceCalendar).getTimeZone().getID();
-    String targetTimezone = ((Calendar) calendarManager.getCalendar(targetCalendarName))
-            .getTimeZone().getID();
-            
-    // Calculate the difference in days between source start and target start
-    long daysDifference = ChronoUnit.DAYS.between(sourceStartDate, targetStartDate);
-
-    int successCount = 0;
-    for (Event sourceEvent : eventsToCopy) {
-      // Calculate the duration of the event
-      Duration eventDuration = Duration.between(
-              sourceEvent.getStartDateTime(),
-              sourceEvent.getEndDateTime()
-      );
-
-      // Calculate how many days from source start date this event is
-      long eventDaysFromStart = ChronoUnit.DAYS.between(
-              sourceStartDate,
-              sourceEvent.getStartDateTime().toLocalDate()
-      );
-      
-      // Calculate the target date for this event
-      LocalDate eventTargetDate = targetStartDate.plusDays(eventDaysFromStart);
-      
-      // Get the local time components from the source event
-      int hour = sourceEvent.getStartDateTime().getHour();
-      int minute = sourceEvent.getStartDateTime().getMinute();
-      
-      // Create new datetime in the target date with the same local time
-      LocalDateTime newStartDateTime = LocalDateTime.of(
-              eventTargetDate, 
-              LocalTime.of(hour, minute)
-      );
-      LocalDateTime newEndDateTime = newStartDateTime.plus(eventDuration);
-
-      Event newEvent = new Event(
-              sourceEvent.getSubject(),
-              newStartDateTime,
-              newEndDateTime,
-              sourceEvent.getDescription(),
-              sourceEvent.getLocation(),
-              sourceEvent.isPublic()
-      );
+    String sourceTimezone = sourceCalendar.getTimeZone().getID();
 
-      try {
-        calendarManager.executeOnCalendar(targetCalendarName, calendar -> {
-          try {
-            boolean added = calendar.addEvent(newEvent, false);
-            return true;
-          } catch (ConflictingEventException e) {
-            return false;
-          }
-        });
-        successCount++;
-      } catch (Exception e) {
-        continue;
-      }
-    }
+    // Shift the whole window by the difference between source start and target start
+    long daysDifference = ChronoUnit.DAYS.between(sourceStartDate, targetStartDate);
+    int successCount = copyShifted(eventsToCopy, sourceTimezone, targetCalendarName,
+            daysDifference);
 
     if (successCount == 0) {
       return "Failed to copy any events to calendar '" + targetCalendarName + "'.";
@@ -514,4 +419,16 @@ public class ConsolidatedCopyStrategy implements CopyStrategy {
               + targetCalendarName + "'.";
     }
   }
+
+  /**
+   * Copies a batch of events into the target calendar in one bulk operation.
+   *
+   * @return the number of events that were copied without conflicts
+   */
+  private int copyShifted(List<Event> eventsToCopy, String sourceTimezone,
+                          String targetCalendarName, long daysDifference) throws Exception {
+    BitSet rejected = calendarManager.executeOnCalendar(targetCalendarName,
+        calendar -> calendar.addShiftedCopies(eventsToCopy, sourceTimezone, daysDifference));
+    return eventsToCopy.size() - rejected.cardinality();
+  }
 }
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.UUID;
 
 import model.calendar.ICalendar;
@@ -155,11 +156,9 @@ public class ConsolidatedEventEditor implements EventEditor {
                 + processedSubject + " at " + startDateTime);
       }
 
-      updateEventProperty(event, processedProperty, processedValue);
+      Event updated = applyEdit(calendar, event, processedProperty, processedValue);
 
-      calendar.addEvent(event, true);
-
-      return "Event updated: " + event.getSubject();
+      return "Event updated: " + updated.getSubject();
     } catch (DateTimeParseException e) {
       throw new InvalidEventException("Invalid date/time format: " + startDateTime);
     }
@@ -197,26 +196,11 @@ public class ConsolidatedEventEditor implements EventEditor {
    */
   private String editSingleEvent(ICalendar calendar, UUID eventId, String property, String value)
           throws EventNotFoundException, InvalidEventException, ConflictingEventException {
-    Event event = null;
-    for (Event e : calendar.getAllEvents()) {
-      if (e.getId().equals(eventId)) {
-        event = e;
-        break;
-      }
-    }
-    if (event == null) {
-      throw new EventNotFoundException("Event not found with ID: " + eventId);
-    }
+    Event event = findById(calendar, eventId);
 
-    updateEventProperty(event, property, value);
-    try {
-      calendar.findEvent(event.getSubject(), event.getStartDateTime());
-      calendar.addEvent(event, true);
-    } catch (ConflictingEventException e) {
-      throw e;
-    }
+    Event updated = applyEdit(calendar, event, property, value);
 
-    return "Event updated: " + event.getSubject();
+    return "Event updated: " + updated.getSubject();
   }
 
   /**
@@ -224,39 +208,16 @@ public class ConsolidatedEventEditor implements EventEditor {
    */
   private String editAllEvents(ICalendar calendar, UUID eventId, String property, String value)
           throws EventNotFoundException, InvalidEventException, ConflictingEventException {
-    Event event = null;
-    for (Event e : calendar.getAllEvents()) {
-      if (e.getId().equals(eventId)) {
-        event = e;
-        break;
-      }
-    }
-    if (event == null) {
-      throw new EventNotFoundException("Event not found with ID: " + eventId);
-    }
-
-    if (!(event instanceof RecurringEvent)) {
+    Event event = findById(calendar, eventId);
+    UUID seriesId = calendar.getSeriesId(eventId);
+    if (seriesId == null) {
       return editSingleEvent(calendar, eventId, property, value);
     }
 
-    RecurringEvent recurringEvent = (RecurringEvent) event;
-    UUID seriesId = recurringEvent.getId();
-
     int count = 0;
-    for (Event e : calendar.getAllEvents()) {
-      if (e instanceof RecurringEvent) {
-        RecurringEvent re = (RecurringEvent) e;
-        if (re.getId().equals(seriesId)) {
-          updateEventProperty(e, property, value);
-          try {
-            calendar.findEvent(e.getSubject(), e.getStartDateTime());
-            calendar.addEvent(e, true);
-          } catch (ConflictingEventException ex) {
-            throw ex;
-          }
-          count++;
-        }
-      }
+    for (Event member : seriesMembers(calendar, event, seriesId)) {
+      applyEdit(calendar, member, property, value);
+      count++;
     }
 
     return "Updated " + count + " events in the series";
@@ -268,85 +229,108 @@ public class ConsolidatedEventEditor implements EventEditor {
   private String editSeriesFromDate(ICalendar calendar, UUID eventId,
                                     String property, String value, LocalDate fromDate)
           throws EventNotFoundException, InvalidEventException, ConflictingEventException {
-    Event event = null;
-    for (Event e : calendar.getAllEvents()) {
-      if (e.getId().equals(eventId)) {
-        event = e;
-        break;
+    Event event = findById(calendar, eventId);
+    UUID seriesId = calendar.getSeriesId(eventId);
+    if (seriesId == null) {
+      return editSingleEvent(calendar, eventId, property, value);
+    }
+
+    int count = 0;
+    for (Event member : seriesMembers(calendar, event, seriesId)) {
+      if (!member.getStartDateTime().toLocalDate().isBefore(fromDate)) {
+        applyEdit(calendar, member, property, value);
+        count++;
       }
     }
+
+    return "Updated " + count + " events in the series from " + fromDate;
+  }
+
+  /**
+   * Looks up the event being edited by its ID.
+   */
+  private Event findById(ICalendar calendar, UUID eventId) throws EventNotFoundException {
+    Event event = calendar.getEventById(eventId);
     if (event == null) {
       throw new EventNotFoundException("Event not found with ID: " + eventId);
     }
+    return event;
+  }
 
-    if (!(event instanceof RecurringEvent)) {
-      return editSingleEvent(calendar, eventId, property, value);
-    }
-
-    RecurringEvent recurringEvent = (RecurringEvent) event;
-    UUID seriesId = recurringEvent.getId();
-
-    int count = 0;
-    for (Event e : calendar.getAllEvents()) {
-      if (e instanceof RecurringEvent) {
-        RecurringEvent re = (RecurringEvent) e;
-        if (re.getId().equals(seriesId) && !e.getStartDateTime().toLocalDate().isBefore(fromDate)) {
-          updateEventProperty(e, property, value);
-          try {
-            calendar.findEvent(e.getSubject(), e.getStartDateTime());
-            calendar.addEvent(e, true);
-          } catch (ConflictingEventException ex) {
-            throw ex;
-          }
-          count++;
+  /**
+   * Gets the events of a series, including the series definition itself when that is the event
+   * being edited.
+   */
+  private List<Event> seriesMembers(ICalendar calendar, Event event, UUID seriesId) {
+    List<Event> members = calendar.getSeriesEvents(seriesId);
+    if (event instanceof RecurringEvent) {
+      for (Event member : members) {
+        if (member == event) {
+          return members;
         }
       }
+      members.add(0, event);
     }
-
-    return "Updated " + count + " events in the series from " + fromDate;
+    return members;
   }
 
   /**
-   * Updates a specific property of an event.
+   * Edits a property of an event through the calendar, so the calendar can keep its indexes up to
+   * date, and returns the edited event.
    */
-  private void updateEventProperty(Event event, String property, String value)
-          throws InvalidEventException {
+  private Event applyEdit(ICalendar calendar, Event event, String property, String value)
+          throws EventNotFoundException, InvalidEventException, ConflictingEventException {
+    String calendarProperty;
+    String calendarValue = value;
     switch (property.toLowerCase()) {
       case "title":
       case "subject":
-        event.setSubject(value);
+        if (value.trim().isEmpty()) {
+          throw new IllegalArgumentException("Event subject cannot be null or empty");
+        }
+        calendarProperty = "subject";
         break;
       case "description":
-        event.setDescription(value);
+        calendarProperty = "description";
         break;
       case "location":
-        event.setLocation(value);
+        calendarProperty = "location";
         break;
       case "start":
         try {
-          LocalDateTime startDateTime = parseDateTime(value);
-          event.setStartDateTime(startDateTime);
+          calendarValue = parseDateTime(value).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         } catch (DateTimeParseException e) {
           throw new InvalidEventException("Invalid start date/time format: " + value);
         }
+        calendarProperty = "start";
         break;
       case "end":
         try {
-          LocalDateTime endDateTime = parseDateTime(value);
-          event.setEndDateTime(endDateTime);
+          calendarValue = parseDateTime(value).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         } catch (DateTimeParseException e) {
           throw new InvalidEventException("Invalid end date/time format: " + value);
         }
+        calendarProperty = "end";
         break;
       case "privacy":
       case "private":
       case "public":
         boolean isPublic = "public".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value);
-        event.setPublic(isPublic);
+        calendarProperty = "public";
+        calendarValue = String.valueOf(isPublic);
         break;
       default:
         throw new InvalidEventException("Unknown property: " + property);
     }
+
+    if (!calendar.editEventById(event.getId(), calendarProperty, calendarValue)) {
+      String what = "start".equals(calendarProperty) || "end".equals(calendarProperty)
+              ? calendarProperty + " date/time" : property;
+      throw new InvalidEventException("Invalid " + what + " for " + event.getSubject()
+              + ": " + value);
+    }
+    Event updated = calendar.getEventById(event.getId());
+    return updated != null ? updated : event;
   }
 
   /**
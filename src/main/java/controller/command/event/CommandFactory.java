@@ -55,6 +55,8 @@ public class CommandFactory implements ICommandFactory {
 
     commands.put("show", new ShowStatusCommand(calendar)::execute);
 
+    commands.put("search", new SearchEventsCommand(calendar)::execute);
+
     commands.put("export", new ExportCalendarCommand(calendar)::execute);
 
     commands.put("import", new ImportCalendarCommand(calendar)::execute);
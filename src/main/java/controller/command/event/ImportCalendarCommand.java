@@ -2,9 +2,12 @@ package controller.command.event;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import controller.command.ICommand;
+import model.calendar.ConflictPolicy;
 import model.calendar.ICalendar;
 import model.event.Event;
 import model.export.CSVExporter;
@@ -94,19 +97,10 @@ public class ImportCalendarCommand implements ICommand {
         return "No events found in the CSV file";
       }
 
-      int successCount = 0;
-      for (Event event : importedEvents) {
-        try {
-          // Add each event to the calendar
-          boolean added = calendar.addEvent(event, true); // Set autoDecline to true
-          if (added) {
-            successCount++;
-          }
-        } catch (Exception e) {
-          // Log the error but continue processing
-          System.err.println("Error adding event: " + e.getMessage());
-        }
-      }
+      // Add the whole file at once, skipping events that conflict with the calendar or with
+      // an earlier event of the file
+      BitSet rejected = calendar.addEvents(importedEvents, ConflictPolicy.REJECT);
+      int successCount = importedEvents.size() - rejected.cardinality();
 
       if (successCount == 0) {
         return "Failed to import any events";
@@ -117,7 +111,12 @@ public class ImportCalendarCommand implements ICommand {
         view.getCalendarPanel().updateCalendar(calendar);
       }
 
-      return "Successfully imported " + successCount + " events";
+      String result = "Successfully imported " + successCount + " events";
+      if (!rejected.isEmpty()) {
+        result += "; rejected events " + rejected.stream().map(i -> i + 1)
+                .mapToObj(String::valueOf).collect(Collectors.joining(", "));
+      }
+      return result;
     } catch (IOException e) {
       return "Error importing events: " + e.getMessage();
     }
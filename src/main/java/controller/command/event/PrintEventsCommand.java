@@ -6,9 +6,10 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.TimeZone;
-import java.util.stream.Collectors;
+import java.util.function.BiFunction;
 
 import controller.command.ICommand;
+import model.calendar.EventPage;
 import model.calendar.ICalendar;
 import model.event.Event;
 import model.export.CSVExporter;
@@ -19,6 +20,11 @@ import utilities.DateTimeUtil;
  */
 public class PrintEventsCommand implements ICommand {
 
+  /**
+   * The number of events read from the calendar at a time when printing a range.
+   */
+  public static final int PAGE_SIZE = 500;
+
   private final ICalendar calendar;
   private final CSVExporter csvExporter;
 
@@ -104,29 +110,12 @@ public class PrintEventsCommand implements ICommand {
   }
 
   private String printEventsOnDate(LocalDate date) {
-    // Get events directly from the calendar
-    List<Event> eventsOnDate = calendar.getEventsOnDate(date);
+    // The calendar decides which events fall on the local date, so one query is enough
+    List<Event> allEvents = new ArrayList<>(calendar.getEventsOnDate(date));
 
     // Format the date in a more human-readable format
     DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    
-    // Check for events that occur just after midnight (early hours of next day)
-    LocalDate nextDay = date.plusDays(1);
-    List<Event> earlyMorningEvents = calendar.getEventsOnDate(nextDay)
-            .stream()
-            .filter(e -> {
-                LocalDateTime start = e.getStartDateTime();
-                return start != null && 
-                       start.toLocalDate().equals(nextDay) && 
-                       start.getHour() < 6;  // Events in early morning hours
-            })
-            .collect(Collectors.toList());
-    
-    // Create a new mutable list and add all events to it
-    List<Event> allEvents = new ArrayList<>(eventsOnDate);
-    // Add early morning events that belong logically to the current day
-    allEvents.addAll(earlyMorningEvents);
-    
+
     if (allEvents.isEmpty()) {
       return "No events on " + date.format(dateFormatter);
     }
@@ -143,67 +132,68 @@ public class PrintEventsCommand implements ICommand {
   }
 
   private String printEventsInRange(LocalDate startDate, LocalDate endDate) {
-    // Get events directly from the calendar for the requested range
-    List<Event> eventsInRange = calendar.getEventsInRange(startDate, endDate);
-    
     // Format the dates in a more human-readable format
     DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    
-    if (eventsInRange.isEmpty()) {
+
+    String listing = formatPages((pageSize, token) ->
+            calendar.getEventsInRange(startDate, endDate, pageSize, token));
+    if (listing.isEmpty()) {
       return "No events from " + startDate.format(dateFormatter) + " to "
               + endDate.format(dateFormatter);
     }
 
-    // Get calendar's timezone for display
-    TimeZone calendarTimeZone = calendar.getTimeZone();
-    String timeZoneId = calendarTimeZone.getID();
-
     StringBuilder result = new StringBuilder();
     result.append("Events from ").append(startDate.format(dateFormatter))
             .append(" to ").append(endDate.format(dateFormatter)).append(":\n");
-    result.append(csvExporter.formatForDisplay(eventsInRange, true, timeZoneId));
+    result.append(listing);
 
     return result.toString();
   }
 
   private String printEventsInDateTimeRange(LocalDateTime startDateTime, LocalDateTime endDateTime) {
-    // Get events by date range first, then filter by time
-    LocalDate startDate = startDateTime.toLocalDate();
-    LocalDate endDate = endDateTime.toLocalDate();
-    
-    List<Event> allEvents = calendar.getEventsInRange(startDate, endDate);
-    
-    // Filter the events to only include those within the specific time range
-    List<Event> eventsInTimeRange = allEvents.stream()
-        .filter(event -> {
-            LocalDateTime eventStart = event.getStartDateTime();
-            LocalDateTime eventEnd = event.getEndDateTime();
-            
-            // Check if event overlaps with the time range
-            return !(eventEnd.isBefore(startDateTime) || eventStart.isAfter(endDateTime));
-        })
-        .collect(Collectors.toList());
-    
+    // Ask the calendar for exactly the local time window, page by page
+    String listing = formatPages((pageSize, token) ->
+            calendar.getEventsInWindow(startDateTime, endDateTime, pageSize, token));
+
     // Format the times in a more human-readable format
     DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-    
-    if (eventsInTimeRange.isEmpty()) {
+
+    if (listing.isEmpty()) {
       return "No events from " + startDateTime.format(formatter) + " to "
               + endDateTime.format(formatter);
     }
 
-    // Get calendar's timezone for display
-    TimeZone calendarTimeZone = calendar.getTimeZone();
-    String timeZoneId = calendarTimeZone.getID();
-
     StringBuilder result = new StringBuilder();
     result.append("Events from ").append(startDateTime.format(formatter))
             .append(" to ").append(endDateTime.format(formatter)).append(":\n");
-    result.append(csvExporter.formatForDisplay(eventsInTimeRange, true, timeZoneId));
+    result.append(listing);
 
     return result.toString();
   }
 
+  /**
+   * Formats the events of a paged query one page at a time, so that only a page of events is
+   * held at once however long the range is.
+   *
+   * @param pages reads the page of the given size that follows the given token
+   * @return the formatted events, or an empty string if there were none
+   */
+  private String formatPages(BiFunction<Integer, String, EventPage> pages) {
+    String timeZoneId = calendar.getTimeZone().getID();
+    StringBuilder listing = new StringBuilder();
+    String token = null;
+    do {
+      EventPage page = pages.apply(PAGE_SIZE, token);
+      if (!page.getEvents().isEmpty()) {
+        // formatForDisplay sorts its input, and the page's list is unmodifiable
+        listing.append(csvExporter.formatForDisplay(new ArrayList<>(page.getEvents()), true,
+                timeZoneId));
+      }
+      token = page.getNextPageToken();
+    } while (token != null);
+    return listing.toString();
+  }
+
   /**
    * fetches the name of the command.
    *
@@ -0,0 +1,136 @@
+package controller.command.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import controller.command.ICommand;
+import model.calendar.ICalendar;
+import model.calendar.SearchResult;
+import model.event.Event;
+import utilities.DateTimeUtil;
+import utilities.TimeZoneHandler;
+
+/**
+ * Command for searching the subject, description and location of events, optionally within a
+ * date range. Results are ranked best match first and shown {@value #PAGE_SIZE} at a time.
+ */
+public class SearchEventsCommand implements ICommand {
+
+  /**
+   * The number of results shown per page.
+   */
+  public static final int PAGE_SIZE = 20;
+
+  private static final DateTimeFormatter DATE_TIME_FORMAT =
+          DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+  private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+  private final ICalendar calendar;
+  private final TimeZoneHandler timezoneHandler;
+
+  /**
+   * Creates a SearchEventsCommand with the given calendar.
+   *
+   * @param calendar the calendar to search
+   */
+  public SearchEventsCommand(ICalendar calendar) {
+    if (calendar == null) {
+      throw new IllegalArgumentException("Calendar cannot be null");
+    }
+    this.calendar = calendar;
+    this.timezoneHandler = new TimeZoneHandler();
+  }
+
+  /**
+   * Executes the search.
+   *
+   * @param args the query, the optional start and end dates and the optional page number
+   * @return the page of results, or an error message
+   */
+  @Override
+  public String execute(String[] args) {
+    if (args == null) {
+      throw new IllegalArgumentException("Arguments array cannot be null");
+    }
+    if (args.length < 1 || args[0] == null || args[0].trim().isEmpty()) {
+      return "Error: Missing query for 'search events' command";
+    }
+
+    String query = args[0];
+    LocalDate from;
+    LocalDate to;
+    int page;
+    try {
+      from = args.length > 1 && args[1] != null ? DateTimeUtil.parseDate(args[1]) : null;
+      to = args.length > 2 && args[2] != null ? DateTimeUtil.parseDate(args[2]) : null;
+      page = args.length > 3 && args[3] != null ? Integer.parseInt(args[3]) : 1;
+    } catch (Exception e) {
+      return "Error parsing search arguments: " + e.getMessage();
+    }
+    if (page < 1) {
+      return "Error: Page number must be at least 1";
+    }
+
+    SearchResult result;
+    try {
+      result = calendar.searchEvents(query, from, to, (page - 1) * PAGE_SIZE, PAGE_SIZE);
+    } catch (IllegalArgumentException e) {
+      return "Error: " + e.getMessage();
+    }
+    return format(query, result, from, to, page);
+  }
+
+  private String format(String query, SearchResult result, LocalDate from, LocalDate to,
+                        int page) {
+    List<Event> events = result.getEvents();
+    if (events.isEmpty()) {
+      return result.getTotal() == 0 ? "No events matching \"" + query + "\""
+              : "No results on page " + page + " of " + result.getTotal() + " matches";
+    }
+
+    String timeZoneId = calendar.getTimeZone().getID();
+    StringBuilder builder = new StringBuilder();
+    builder.append("Events matching \"").append(query).append("\" (")
+            .append(result.getOffset() + 1).append("-")
+            .append(result.getOffset() + events.size()).append(" of ")
+            .append(result.getTotal()).append("):\n");
+
+    int rank = result.getOffset();
+    for (Event event : events) {
+      LocalDateTime start = timezoneHandler.convertFromUTC(event.getStartDateTime(), timeZoneId);
+      LocalDateTime end = timezoneHandler.convertFromUTC(event.getEndDateTime(), timeZoneId);
+      builder.append(++rank).append(". ").append(event.getSubject()).append(" on ")
+              .append(start.format(DATE_TIME_FORMAT));
+      if (end.toLocalDate().equals(start.toLocalDate())) {
+        builder.append(" to ").append(end.format(TIME_FORMAT));
+      } else {
+        builder.append(" to ").append(end.format(DATE_TIME_FORMAT));
+      }
+      if (event.getLocation() != null && !event.getLocation().trim().isEmpty()) {
+        builder.append(" at ").append(event.getLocation());
+      }
+      builder.append("\n");
+    }
+
+    if (result.hasMore()) {
+      builder.append("More results: search events \"").append(query).append("\"");
+      if (from != null && to != null) {
+        builder.append(" from ").append(from).append(" to ").append(to);
+      }
+      builder.append(" page ").append(page + 1).append("\n");
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Gets the name of the command.
+   *
+   * @return the name of command as String.
+   */
+  @Override
+  public String getName() {
+    return "search";
+  }
+}
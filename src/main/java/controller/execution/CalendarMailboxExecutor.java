@@ -0,0 +1,293 @@
+package controller.execution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.calendar.ICalendar;
+
+/**
+ * Single-writer execution layer that gives every calendar its own mailbox.
+ *
+ * <p>Each calendar maps to a dedicated single-threaded executor. Tasks submitted for the same
+ * calendar are therefore applied strictly in submission order without any locking inside the
+ * model, while tasks for different calendars run in parallel on their own threads. Mailboxes are
+ * keyed by the calendar object itself rather than by its name, so renaming a calendar keeps its
+ * mailbox.
+ *
+ * <p>Operations that touch two calendars (for example copying events to a target calendar) use
+ * {@link #executeAcross(ICalendar, ICalendar, Callable)}, which parks the second mailbox while the
+ * task runs on the first one. All halves of such a step are enqueued atomically so every mailbox
+ * sees multi-mailbox steps in the same global order, which rules out deadlocks between two
+ * opposing copies.
+ *
+ * <p>Work that is not bound to a single calendar, such as creating, renaming or selecting
+ * calendars, runs on a separate control lane via {@link #executeControl(Callable)}. Such work
+ * can also hold the mailboxes of the calendars it modifies, via
+ * {@link #executeControl(Callable, ICalendar...)}.
+ */
+public class CalendarMailboxExecutor {
+
+  private static final String CONTROL_LANE = "control";
+
+  private final Map<ICalendar, Mailbox> mailboxes;
+  private final Mailbox controlLane;
+  private final AtomicLong mailboxCount;
+  private final Object crossCalendarLock;
+  private final ThreadLocal<Mailbox> currentLane;
+
+  /**
+   * Constructs a new CalendarMailboxExecutor with no mailboxes. Mailboxes are created lazily the
+   * first time a calendar receives a task.
+   */
+  public CalendarMailboxExecutor() {
+    this.mailboxes = Collections.synchronizedMap(new IdentityHashMap<>());
+    this.mailboxCount = new AtomicLong();
+    this.controlLane = new Mailbox(CONTROL_LANE, mailboxCount.getAndIncrement());
+    this.crossCalendarLock = new Object();
+    this.currentLane = new ThreadLocal<>();
+  }
+
+  /**
+   * Executes a task in the mailbox of the given calendar and waits for its result.
+   *
+   * <p>If the calling thread is already draining that mailbox the task runs inline, so nested
+   * calls issued from inside a command cannot deadlock on their own mailbox.
+   *
+   * @param <T>      the result type
+   * @param calendar the calendar that owns the task, or null for the control lane
+   * @param task     the task to execute
+   * @return the result of the task
+   * @throws Exception if the task throws an exception
+   */
+  public <T> T execute(ICalendar calendar, Callable<T> task) throws Exception {
+    if (calendar == null) {
+      return executeControl(task);
+    }
+    Mailbox mailbox = mailboxFor(calendar);
+    if (mailbox == currentLane.get()) {
+      return task.call();
+    }
+    return await(mailbox.executor.submit(inLane(mailbox, task)));
+  }
+
+  /**
+   * Queues a task in the mailbox of the given calendar without waiting for it. Tasks queued for
+   * the same calendar run one at a time, in the order they were queued.
+   *
+   * @param <T>      the result type
+   * @param calendar the calendar that owns the task
+   * @param task     the task to queue
+   * @return the pending result of the task
+   */
+  public <T> Future<T> submit(ICalendar calendar, Callable<T> task) {
+    if (calendar == null) {
+      throw new IllegalArgumentException("Calendar cannot be null");
+    }
+    Mailbox mailbox = mailboxFor(calendar);
+    return mailbox.executor.submit(inLane(mailbox, task));
+  }
+
+  /**
+   * Executes a task that needs exclusive access to two calendars and waits for its result.
+   *
+   * <p>The task runs in the mailbox that was created first, while the other mailbox is held by a
+   * parked task until the operation completes. Writes already queued for either calendar are
+   * applied before the task, and writes queued afterwards are applied after it.
+   *
+   * @param <T>    the result type
+   * @param first  one calendar involved in the operation
+   * @param second the other calendar involved in the operation
+   * @param task   the task to execute
+   * @return the result of the task
+   * @throws Exception if the task throws an exception
+   */
+  public <T> T executeAcross(ICalendar first, ICalendar second, Callable<T> task)
+          throws Exception {
+    if (first == null || second == null || first == second) {
+      return execute(first != null ? first : second, task);
+    }
+    return executeHolding(Arrays.asList(mailboxFor(first), mailboxFor(second)), task);
+  }
+
+  /**
+   * Executes a task on the control lane, which serializes operations that are not owned by a
+   * single calendar, and waits for its result.
+   *
+   * @param <T>  the result type
+   * @param task the task to execute
+   * @return the result of the task
+   * @throws Exception if the task throws an exception
+   */
+  public <T> T executeControl(Callable<T> task) throws Exception {
+    if (currentLane.get() == controlLane) {
+      return task.call();
+    }
+    return await(controlLane.executor.submit(inLane(controlLane, task)));
+  }
+
+  /**
+   * Executes a task on the control lane while holding the mailboxes of the calendars it
+   * modifies, and waits for its result. Writes already queued for those calendars are applied
+   * before the task, and writes queued afterwards are applied after it.
+   *
+   * @param <T>       the result type
+   * @param task      the task to execute
+   * @param calendars the calendars the task modifies; null entries are ignored
+   * @return the result of the task
+   * @throws Exception if the task throws an exception
+   */
+  public <T> T executeControl(Callable<T> task, ICalendar... calendars) throws Exception {
+    List<Mailbox> held = new ArrayList<>();
+    held.add(controlLane);
+    for (ICalendar calendar : calendars) {
+      if (calendar != null && !held.contains(mailboxFor(calendar))) {
+        held.add(mailboxFor(calendar));
+      }
+    }
+    return held.size() == 1 ? executeControl(task) : executeHolding(held, task);
+  }
+
+  /**
+   * Releases the mailbox of a calendar that is no longer used. Tasks already queued for the
+   * calendar are still applied, after which its thread ends and the mailbox no longer refers to
+   * the calendar. A task submitted for the calendar afterwards gets a new mailbox.
+   *
+   * @param calendar the calendar whose mailbox to release
+   */
+  public void release(ICalendar calendar) {
+    Mailbox mailbox = calendar != null ? mailboxes.remove(calendar) : null;
+    if (mailbox != null) {
+      mailbox.executor.shutdown();
+    }
+  }
+
+  /**
+   * Gets the number of calendar mailboxes currently held.
+   *
+   * @return the number of mailboxes
+   */
+  public int getMailboxCount() {
+    return mailboxes.size();
+  }
+
+  /**
+   * Stops accepting new tasks and lets queued tasks drain.
+   */
+  public void shutdown() {
+    controlLane.executor.shutdown();
+    synchronized (mailboxes) {
+      for (Mailbox mailbox : mailboxes.values()) {
+        mailbox.executor.shutdown();
+      }
+    }
+  }
+
+  /**
+   * Runs a task in the first created of several mailboxes while the others are parked.
+   */
+  private <T> T executeHolding(List<Mailbox> held, Callable<T> task) throws Exception {
+    Mailbox current = currentLane.get();
+    if (current != null && held.contains(current)) {
+      return task.call();
+    }
+
+    List<Mailbox> ordered = new ArrayList<>(held);
+    ordered.sort(Comparator.comparingLong(mailbox -> mailbox.order));
+    Mailbox owner = ordered.get(0);
+    List<Mailbox> parked = ordered.subList(1, ordered.size());
+
+    CountDownLatch parkedReady = new CountDownLatch(parked.size());
+    CountDownLatch released = new CountDownLatch(1);
+    Future<T> result;
+
+    synchronized (crossCalendarLock) {
+      for (Mailbox mailbox : parked) {
+        mailbox.executor.submit(() -> {
+          parkedReady.countDown();
+          released.await();
+          return null;
+        });
+      }
+      result = owner.executor.submit(inLane(owner, () -> {
+        try {
+          parkedReady.await();
+          return task.call();
+        } finally {
+          released.countDown();
+        }
+      }));
+    }
+
+    return await(result);
+  }
+
+  private Mailbox mailboxFor(ICalendar calendar) {
+    return mailboxes.computeIfAbsent(calendar,
+            key -> new Mailbox("calendar-" + key.getName(), mailboxCount.getAndIncrement()));
+  }
+
+  private <T> Callable<T> inLane(Mailbox lane, Callable<T> task) {
+    return () -> {
+      currentLane.set(lane);
+      try {
+        return task.call();
+      } finally {
+        currentLane.remove();
+      }
+    };
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    return runnable -> {
+      Thread thread = new Thread(runnable, "mailbox-" + name);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * A single-threaded executor together with its creation order, which fixes the order in which
+   * multi-mailbox steps take their mailboxes.
+   */
+  private static final class Mailbox {
+    private final ExecutorService executor;
+    private final long order;
+
+    private Mailbox(String name, long order) {
+      this.executor = Executors.newSingleThreadExecutor(daemonThreads(name));
+      this.order = order;
+    }
+  }
+}
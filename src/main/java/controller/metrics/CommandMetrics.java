@@ -0,0 +1,244 @@
+package controller.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import utilities.Log;
+
+/**
+ * Registry of per-command latency metrics.
+ *
+ * <p>For every command name the registry keeps the number of invocations, the number that
+ * failed, and two {@link LatencyHistogram}s: one for the time spent parsing the command text and
+ * one for the time spent executing the parsed command. Execution time is measured where the
+ * command actually runs, so time spent waiting in a calendar mailbox is not counted. A command
+ * fails if parsing or execution throws, or if it returns an error message.
+ *
+ * <p>Recording is lock-free. {@link #report()} renders a table of the current numbers, and
+ * {@link #startPeriodicDump(Path, long)} writes that table to a file at a fixed interval.
+ */
+public class CommandMetrics {
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final Map<String, CommandStats> stats;
+  private ScheduledExecutorService dumper;
+
+  /**
+   * Constructs an empty registry.
+   */
+  public CommandMetrics() {
+    this.stats = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Records the time spent parsing a command.
+   *
+   * @param command the command name
+   * @param nanos   the parse time in nanoseconds
+   * @param failed  whether parsing failed
+   */
+  public void recordParse(String command, long nanos, boolean failed) {
+    CommandStats commandStats = statsFor(command);
+    commandStats.invocations.incrementAndGet();
+    commandStats.parse.record(nanos);
+    if (failed) {
+      commandStats.errors.incrementAndGet();
+    }
+  }
+
+  /**
+   * Records the time spent executing a command.
+   *
+   * @param command the command name
+   * @param nanos   the execution time in nanoseconds
+   * @param failed  whether execution failed
+   */
+  public void recordExecute(String command, long nanos, boolean failed) {
+    CommandStats commandStats = statsFor(command);
+    commandStats.execute.record(nanos);
+    if (failed) {
+      commandStats.errors.incrementAndGet();
+    }
+  }
+
+  /**
+   * Runs a command and records its execution time.
+   *
+   * @param command the command name
+   * @param task    the command execution
+   * @return the result of the command
+   * @throws Exception if the command throws an exception
+   */
+  public String timeExecution(String command, Callable<String> task) throws Exception {
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      String result = task.call();
+      failed = result != null && result.startsWith("Error");
+      return result;
+    } finally {
+      recordExecute(command, System.nanoTime() - start, failed);
+    }
+  }
+
+  /**
+   * Gets the metrics of a command.
+   *
+   * @param command the command name
+   * @return the metrics, or null if the command has not been seen
+   */
+  public CommandStats getStats(String command) {
+    return stats.get(command);
+  }
+
+  /**
+   * Clears all recorded metrics.
+   */
+  public void reset() {
+    stats.clear();
+  }
+
+  /**
+   * Renders the current metrics as a table, one row per command. Times are in milliseconds.
+   *
+   * @return the report
+   */
+  public String report() {
+    Map<String, CommandStats> sorted = new TreeMap<>(stats);
+    if (sorted.isEmpty()) {
+      return "No commands recorded";
+    }
+
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%-16s %7s %7s | %9s %9s | %9s %9s %9s %9s %9s%n",
+            "command", "count", "errors", "parse p50", "parse p99",
+            "exec p50", "exec p90", "exec p99", "exec max", "exec mean"));
+    for (Map.Entry<String, CommandStats> entry : sorted.entrySet()) {
+      CommandStats commandStats = entry.getValue();
+      LatencyHistogram parse = commandStats.parse;
+      LatencyHistogram execute = commandStats.execute;
+      report.append(String.format("%-16s %7d %7d | %9.3f %9.3f | %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+              entry.getKey(), commandStats.getCount(), commandStats.getErrorCount(),
+              millis(parse.getPercentile(50)), millis(parse.getPercentile(99)),
+              millis(execute.getPercentile(50)), millis(execute.getPercentile(90)),
+              millis(execute.getPercentile(99)), millis(execute.getMax()),
+              execute.getMean() / NANOS_PER_MILLI));
+    }
+    return report.toString();
+  }
+
+  /**
+   * Writes the current report to a file, replacing it.
+   *
+   * @param file the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public void dump(Path file) throws IOException {
+    Path absolute = file.toAbsolutePath();
+    Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+    Files.write(temp, report().getBytes(StandardCharsets.UTF_8));
+    Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Starts writing the report to a file at a fixed interval, replacing any dump already running.
+   *
+   * @param file            the file to write
+   * @param intervalSeconds the interval between dumps, in seconds
+   */
+  public synchronized void startPeriodicDump(Path file, long intervalSeconds) {
+    if (intervalSeconds <= 0) {
+      throw new IllegalArgumentException("Dump interval must be positive");
+    }
+    stopPeriodicDump();
+    dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "command-metrics-dump");
+      thread.setDaemon(true);
+      return thread;
+    });
+    dumper.scheduleAtFixedRate(() -> {
+      try {
+        dump(file);
+      } catch (IOException e) {
+        Log.warn(() -> "Could not write command metrics to " + file + ": " + e.getMessage());
+      }
+    }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Stops the periodic dump, if one is running.
+   */
+  public synchronized void stopPeriodicDump() {
+    if (dumper != null) {
+      dumper.shutdownNow();
+      dumper = null;
+    }
+  }
+
+  private CommandStats statsFor(String command) {
+    return stats.computeIfAbsent(command != null ? command : "unknown",
+            name -> new CommandStats());
+  }
+
+  private static double millis(long nanos) {
+    return nanos / NANOS_PER_MILLI;
+  }
+
+  /**
+   * The metrics of one command.
+   */
+  public static class CommandStats {
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final LatencyHistogram parse = new LatencyHistogram();
+    private final LatencyHistogram execute = new LatencyHistogram();
+
+    /**
+     * Gets the number of times the command was issued.
+     *
+     * @return the invocation count
+     */
+    public long getCount() {
+      return invocations.get();
+    }
+
+    /**
+     * Gets the number of times the command failed to parse or execute.
+     *
+     * @return the error count
+     */
+    public long getErrorCount() {
+      return errors.get();
+    }
+
+    /**
+     * Gets the distribution of parse times.
+     *
+     * @return the parse histogram
+     */
+    public LatencyHistogram getParseHistogram() {
+      return parse;
+    }
+
+    /**
+     * Gets the distribution of execution times.
+     *
+     * @return the execution histogram
+     */
+    public LatencyHistogram getExecuteHistogram() {
+      return execute;
+    }
+  }
+}
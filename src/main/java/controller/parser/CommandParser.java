@@ -21,7 +21,7 @@ public class CommandParser {
   private final ICommandFactory commandFactory;
   private final Map<String, CommandPattern> commandPatterns;
   private static final List<String> VALID_COMMANDS = Arrays.asList("create", "use", "show", "edit",
-          "copy", "exit", "print", "export");
+          "copy", "exit", "print", "export", "search");
   private static final Set<String> VALID_COMMANDS_SET = new HashSet<>(VALID_COMMANDS);
 
   /**
@@ -115,6 +115,11 @@ public class CommandParser {
                     + "to (\\d{4}-\\d{2}-\\d{2}(?:T\\d{2}:\\d{2})?)"),
             this::parsePrintEventsRangeCommand);
 
+    registerPattern("search_events", Pattern.compile("search events \"([^\"]+)\""
+                    + "(?: from (\\d{4}-\\d{2}-\\d{2}) to (\\d{4}-\\d{2}-\\d{2}))?"
+                    + "(?: page (\\d+))?"),
+            this::parseSearchEventsCommand);
+
     // Edit calendar pattern
     registerPattern("edit_calendar",
             Pattern.compile("edit calendar --name ([\\w-]+) --property (\\w+) ([\\w/]+)"),
@@ -360,6 +365,16 @@ public class CommandParser {
     return new CommandWithArgs(printCommand, args);
   }
 
+  /**
+   * Parse search events command.
+   */
+  private CommandWithArgs parseSearchEventsCommand(Matcher matcher) {
+    ICommand searchCommand = commandFactory.getCommand("search");
+
+    String[] args = {matcher.group(1), matcher.group(2), matcher.group(3), matcher.group(4)};
+    return new CommandWithArgs(searchCommand, args);
+  }
+
   private CommandWithArgs parseCreateCalendarCommand(Matcher matcher) {
     String calendarName = removeQuotes(matcher.group(1));
     String timezone = matcher.group(2);
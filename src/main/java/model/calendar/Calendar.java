@@ -2,26 +2,40 @@ package model.calendar;
 
 import java.io.IOException;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import model.calendar.iterator.ConsolidatedIterator;
 import model.event.Event;
 import model.event.EventPropertyUpdater;
+import model.event.Intervals;
 import model.event.RecurringEvent;
 import model.exceptions.ConflictingEventException;
 import model.export.IDataExporter;
 import utilities.DateTimeUtil;
+import utilities.Log;
 import utilities.TimeZoneHandler;
+import utilities.ZoneOffsetCursor;
+import utilities.trace.AddEventTrace;
+import utilities.trace.AddEventsTrace;
+import utilities.trace.AddRecurringEventTrace;
+import utilities.trace.ConflictCheckTrace;
+import utilities.trace.RangeQueryTrace;
 
 /**
  * Implementation of the ICalendar interface that manages a calendar's events and operations. This
@@ -37,14 +51,12 @@ import utilities.TimeZoneHandler;
  */
 public class Calendar implements ICalendar {
 
-  private final List<Event> events;
-  private final List<RecurringEvent> recurringEvents;
-  private final Map<UUID, Event> eventById;
-  private final Map<UUID, RecurringEvent> recurringEventById;
+  private EventStore store;
   private String name;
   private TimeZone timezone;
   private final Map<String, EventPropertyUpdater> propertyUpdaters;
   private final TimeZoneHandler timezoneHandler;
+  private final List<CalendarChangeListener> changeListeners = new CopyOnWriteArrayList<>();
 
   /**
    * Constructs a new Calendar instance with default settings. Initializes empty event collections
@@ -53,12 +65,9 @@ public class Calendar implements ICalendar {
    * modification
    */
   public Calendar() {
-    this.events = new ArrayList<>();
-    this.recurringEvents = new ArrayList<>();
-    this.eventById = new HashMap<>();
-    this.recurringEventById = new HashMap<>();
     this.name = "Default";
     this.timezone = TimeZone.getTimeZone("America/New_York");
+    this.store = new EventStore(this.timezone.getID());
 
     this.propertyUpdaters = new HashMap<>();
     initializePropertyUpdaters();
@@ -76,10 +85,23 @@ public class Calendar implements ICalendar {
   public Calendar(String name, String timezone) {
     this.name = name;
     this.timezone = TimeZone.getTimeZone(timezone);
-    this.events = new ArrayList<>();
-    this.recurringEvents = new ArrayList<>();
-    this.eventById = new HashMap<>();
-    this.recurringEventById = new HashMap<>();
+    this.store = new EventStore(this.timezone.getID());
+
+    this.propertyUpdaters = new HashMap<>();
+    initializePropertyUpdaters();
+    this.timezoneHandler = new TimeZoneHandler();
+  }
+
+  /**
+   * Constructs a copy of a calendar that shares the source's event storage copy-on-write.
+   *
+   * @param source the calendar to copy
+   * @param name   the name of the copy
+   */
+  private Calendar(Calendar source, String name) {
+    this.name = name;
+    this.timezone = (TimeZone) source.timezone.clone();
+    this.store = source.store.share();
 
     this.propertyUpdaters = new HashMap<>();
     initializePropertyUpdaters();
@@ -100,6 +122,27 @@ public class Calendar implements ICalendar {
       throw new IllegalArgumentException("Event cannot be null");
     }
 
+    AddEventTrace trace = new AddEventTrace();
+    trace.begin();
+    boolean added = false;
+    try {
+      added = insertEvent(event, autoDecline);
+      return added;
+    } finally {
+      trace.record(name, event.getSubject(), autoDecline, added, store.events.size());
+    }
+  }
+
+  /**
+   * Converts an event to UTC, checks it for conflicts and stores it.
+   *
+   * @param event       the event to add, in this calendar's timezone
+   * @param autoDecline whether to skip the conflict check
+   * @return true if the event was added
+   * @throws ConflictingEventException if there is a conflict and autoDecline is false
+   */
+  private boolean insertEvent(Event event, boolean autoDecline) throws ConflictingEventException {
+
     LocalDateTime startUTC = timezoneHandler.convertToUTC(event.getStartDateTime(),
             timezone.getID());
     LocalDateTime endUTC = timezoneHandler.convertToUTC(event.getEndDateTime(), timezone.getID());
@@ -114,18 +157,16 @@ public class Calendar implements ICalendar {
     );
 
     if (!autoDecline) {
-      for (Event existingEvent : events) {
-        if (utcEvent.conflictsWith(existingEvent)) {
-          throw new ConflictingEventException("Event conflicts with existing event");
-        }
+      if (hasConflict(utcEvent)) {
+        throw new ConflictingEventException("Event conflicts with existing event");
       }
     }
 
-    events.add(utcEvent);
+    mutableStore().add(utcEvent);
     // Store the event in the eventById map for future lookup
-    eventById.put(utcEvent.getId(), utcEvent);
-    System.out.println("[DEBUG] Calendar.addEvent - Added event to map with ID: "
+    Log.debug(() -> "Calendar.addEvent - Added event to map with ID: "
             + utcEvent.getId());
+    fireChange(CalendarChange.added(utcEvent));
 
     return true;
   }
@@ -150,7 +191,31 @@ public class Calendar implements ICalendar {
       throw new IllegalArgumentException("Recurring event cannot be null");
     }
 
+    AddRecurringEventTrace trace = new AddRecurringEventTrace();
+    trace.begin();
     List<Event> occurrences = recurringEvent.getAllOccurrences();
+    boolean added = false;
+    try {
+      added = insertRecurringEvent(recurringEvent, occurrences, autoDecline);
+      return added;
+    } finally {
+      trace.record(name, recurringEvent.getSubject(), occurrences.size(), added,
+              store.events.size());
+    }
+  }
+
+  /**
+   * Converts the occurrences of a series to UTC, checks them for conflicts and stores the series
+   * with all of its occurrences.
+   *
+   * @param recurringEvent the series to add
+   * @param occurrences    the occurrences of the series, in this calendar's timezone
+   * @param autoDecline    if true, throws on conflict; if false, returns false
+   * @return true if the series was added
+   * @throws ConflictingEventException if there is a conflict and autoDecline is true
+   */
+  private boolean insertRecurringEvent(RecurringEvent recurringEvent, List<Event> occurrences,
+                                       boolean autoDecline) throws ConflictingEventException {
 
     List<Event> utcOccurrences = new ArrayList<>();
     for (Event occurrence : occurrences) {
@@ -180,17 +245,140 @@ public class Calendar implements ICalendar {
       }
     }
 
-    recurringEvents.add(recurringEvent);
-    recurringEventById.put(recurringEvent.getId(), recurringEvent);
+    mutableStore().recurringEvents.add(recurringEvent);
+    store.recurringEventById.put(recurringEvent.getId(), recurringEvent);
 
     for (Event utcOccurrence : utcOccurrences) {
-      events.add(utcOccurrence);
-      eventById.put(utcOccurrence.getId(), utcOccurrence);
+      store.add(utcOccurrence, recurringEvent.getRecurringId());
+      fireChange(CalendarChange.added(utcOccurrence));
     }
 
     return true;
   }
 
+  /**
+   * Copies a window of events from another calendar into this one, shifted by whole days.
+   *
+   * <p>Each source event keeps its local wall-clock time: it is converted from UTC to the source
+   * timezone, moved forward by {@code dayOffset} days, interpreted in this calendar's timezone and
+   * converted back to UTC. The copy keeps the source event's duration. Conversions go through a
+   * {@link ZoneOffsetCursor} per timezone, so the zone rules are consulted once per offset
+   * transition rather than once per event.
+   *
+   * <p>Conflicts are detected with a single merge-join sweep of the sorted copies against this
+   * calendar's time index. A copy is rejected if it conflicts with an existing event or with an
+   * earlier copy from the same batch, which matches inserting the copies one at a time.
+   *
+   * @param sourceEvents   the events to copy, with times stored in UTC
+   * @param sourceTimezone the timezone of the calendar the events come from
+   * @param dayOffset      the number of days to shift each event by
+   * @return a bit set in which bit {@code i} is set if {@code sourceEvents.get(i)} was rejected
+   */
+  public BitSet addShiftedCopies(List<Event> sourceEvents, String sourceTimezone,
+                                 long dayOffset) {
+    if (sourceEvents == null) {
+      throw new IllegalArgumentException("Source events cannot be null");
+    }
+
+    ZoneOffsetCursor sourceZone = new ZoneOffsetCursor(sourceTimezone);
+    ZoneOffsetCursor targetZone = new ZoneOffsetCursor(timezone.getID());
+
+    Integer[] order = new Integer[sourceEvents.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> sourceEvents.get(a).getStartDateTime()
+            .compareTo(sourceEvents.get(b).getStartDateTime()));
+
+    Event[] shifted = new Event[order.length];
+    for (Integer position : order) {
+      Event source = sourceEvents.get(position);
+      LocalDateTime localStart = sourceZone.fromUTC(source.getStartDateTime()).plusDays(dayOffset);
+      LocalDateTime startUTC = targetZone.toUTC(localStart);
+      LocalDateTime endUTC = startUTC.plus(Duration.between(source.getStartDateTime(),
+              source.getEndDateTime()));
+      shifted[position] = new Event(source.getSubject(), startUTC, endUTC,
+              source.getDescription(), source.getLocation(), source.isPublic());
+    }
+
+    // Shifting preserves order except around DST overlaps, so the re-sort is nearly free
+    return insertBatch(shifted, ConflictPolicy.REJECT);
+  }
+
+  /**
+   * Adds a batch of events to the calendar.
+   *
+   * <p>The events are converted to UTC with a single {@link ZoneOffsetCursor}, sorted by start
+   * time once, and checked for conflicts with one merge-join sweep against the time index, so
+   * the cost grows with the size of the batch and the events it overlaps rather than with the
+   * size of the calendar times the batch. Under {@link ConflictPolicy#REJECT} the result is the
+   * same as adding the events one at a time in start-time order.
+   *
+   * @param events the events to add, in this calendar's timezone
+   * @param policy how events that conflict are treated
+   * @return a bit set in which bit {@code i} is set if the {@code i}-th event was rejected
+   */
+  @Override
+  public BitSet addEvents(Collection<Event> events, ConflictPolicy policy) {
+    if (events == null || policy == null) {
+      throw new IllegalArgumentException("Events and conflict policy cannot be null");
+    }
+
+    AddEventsTrace trace = new AddEventsTrace();
+    trace.begin();
+    ZoneOffsetCursor zone = new ZoneOffsetCursor(timezone.getID());
+    Event[] utcEvents = new Event[events.size()];
+    int position = 0;
+    for (Event event : events) {
+      if (event == null) {
+        throw new IllegalArgumentException("Event cannot be null");
+      }
+      utcEvents[position++] = new Event(event.getSubject(), zone.toUTC(event.getStartDateTime()),
+              zone.toUTC(event.getEndDateTime()), event.getDescription(), event.getLocation(),
+              event.isPublic());
+    }
+
+    BitSet rejected = insertBatch(utcEvents, policy);
+    trace.record(name, policy.name(), utcEvents.length, rejected.cardinality(),
+            store.events.size());
+    return rejected;
+  }
+
+  /**
+   * Stores a batch of UTC events in start-time order, rejecting conflicts as the policy says.
+   *
+   * @param utcEvents the events to store, with times in UTC
+   * @param policy    how events that conflict are treated
+   * @return a bit set in which bit {@code i} is set if {@code utcEvents[i]} was rejected
+   */
+  private BitSet insertBatch(Event[] utcEvents, ConflictPolicy policy) {
+    Integer[] order = new Integer[utcEvents.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> utcEvents[a].getStartDateTime()
+            .compareTo(utcEvents[b].getStartDateTime()));
+    List<Event> sorted = new ArrayList<>(order.length);
+    for (Integer position : order) {
+      sorted.add(utcEvents[position]);
+    }
+
+    EventStore target = mutableStore();
+    BitSet conflicts = policy == ConflictPolicy.REJECT
+            ? target.timeIndex.findConflicts(sorted) : new BitSet();
+    BitSet rejected = new BitSet(order.length);
+    for (int i = 0; i < sorted.size(); i++) {
+      if (conflicts.get(i)) {
+        rejected.set(order[i]);
+        continue;
+      }
+      Event event = sorted.get(i);
+      target.add(event);
+      fireChange(CalendarChange.added(event));
+    }
+    return rejected;
+  }
+
   /**
    * Creates a recurring event that repeats on specified weekdays until a given end date.
    *
@@ -282,22 +470,20 @@ public class Calendar implements ICalendar {
 
     LocalDateTime utcStartTime = timezoneHandler.convertToUTC(startDateTime, timezone.getID());
 
-    Event event = events.stream()
-            .filter(e -> e.getSubject().equals(subject) &&
-                    e.getStartDateTime().equals(utcStartTime))
-            .findFirst()
-            .orElse(null);
-
+    Event event = store.subjectIndex.find(subject, utcStartTime);
     if (event != null) {
-      return event;
+      return handOut(event);
     }
 
-    for (RecurringEvent recurringEvent : recurringEvents) {
-      if (recurringEvent.getSubject().equals(subject)) {
-        List<Event> occurrences = recurringEvent.getAllOccurrences();
-        for (Event occurrence : occurrences) {
+    // Only the series with this subject can match, and only on the day of the start time
+    LocalDate startDate = utcStartTime.toLocalDate();
+    for (RecurringEvent recurringEvent : store.recurringEvents) {
+      if (recurringEvent.getSubject().equals(subject)
+              && recurringEvent.getOccurrenceDatesBetween(startDate, startDate).hasNext()) {
+        for (Event occurrence : recurringEvent.getOccurrencesBetween(startDate, startDate)) {
           if (occurrence.getStartDateTime().equals(utcStartTime)) {
-            return occurrence;
+            // Generated occurrences are shared with the series' cache
+            return occurrence.copy();
           }
         }
       }
@@ -323,6 +509,96 @@ public class Calendar implements ICalendar {
     return allEvents;
   }
 
+  /**
+   * Gets an event by its ID: a stored event or recurring series is a map lookup. Occurrences that
+   * are only generated from a series, and never stored, are found by expanding the series over
+   * the same window as {@link #getEventIterator()}.
+   *
+   * @param eventId the ID of the event
+   * @return the event, or null if the calendar has no event with that ID
+   */
+  @Override
+  public Event getEventById(UUID eventId) {
+    if (eventId == null) {
+      return null;
+    }
+    Event event = store.eventById.get(eventId);
+    if (event != null) {
+      return handOut(event);
+    }
+    RecurringEvent series = store.recurringEventById.get(eventId);
+    if (series != null) {
+      return handOut(series);
+    }
+    return findGeneratedOccurrence(eventId);
+  }
+
+  /**
+   * Gets the recurring ID of the series an event belongs to.
+   *
+   * @param eventId the ID of a stored occurrence, a series or a generated occurrence
+   * @return the recurring ID of its series, or null if the event is not part of a series
+   */
+  @Override
+  public UUID getSeriesId(UUID eventId) {
+    if (eventId == null) {
+      return null;
+    }
+    UUID seriesId = store.seriesByEventId.get(eventId);
+    if (seriesId != null) {
+      return seriesId;
+    }
+    if (store.eventById.containsKey(eventId)) {
+      return null;
+    }
+    RecurringEvent series = store.recurringEventById.get(eventId);
+    if (series != null) {
+      return series.getRecurringId();
+    }
+    for (RecurringEvent recurringEvent : store.recurringEvents) {
+      if (generates(recurringEvent, eventId) != null) {
+        return recurringEvent.getRecurringId();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the stored occurrences of a recurring series, in the order they were added. The lookup
+   * goes straight to the series, so its cost does not depend on how many other events the
+   * calendar holds. Occurrences that are only generated from the series definition are not
+   * stored, so they are not included.
+   *
+   * @param recurringId the recurring ID of the series
+   * @return the stored occurrences of the series, with times in UTC
+   */
+  @Override
+  public List<Event> getSeriesEvents(UUID recurringId) {
+    List<Event> occurrences = recurringId != null ? store.occurrencesBySeries.get(recurringId)
+            : null;
+    return occurrences != null ? handOut(occurrences) : new ArrayList<>();
+  }
+
+  private Event findGeneratedOccurrence(UUID eventId) {
+    for (RecurringEvent recurringEvent : store.recurringEvents) {
+      Event occurrence = generates(recurringEvent, eventId);
+      if (occurrence != null) {
+        return occurrence.copy();
+      }
+    }
+    return null;
+  }
+
+  private Event generates(RecurringEvent recurringEvent, UUID eventId) {
+    LocalDate today = LocalDate.now();
+    for (Event occurrence : recurringEvent.getOccurrencesBetween(today, today.plusYears(1))) {
+      if (occurrence.getId().equals(eventId)) {
+        return occurrence;
+      }
+    }
+    return null;
+  }
+
   /**
    * Edits a specific event in calendar.
    *
@@ -344,6 +620,27 @@ public class Calendar implements ICalendar {
     return updateEventProperty(eventToEdit, property, newValue);
   }
 
+  /**
+   * Edits one property of a stored event or recurring series, found by its ID. Occurrences that
+   * are only generated from a series are not stored, so they cannot be edited on their own.
+   *
+   * @param eventId  the ID of the event to edit
+   * @param property the property to edit
+   * @param newValue the new value for the property
+   * @return true if the event was found and edited, false otherwise
+   */
+  @Override
+  public boolean editEventById(UUID eventId, String property, String newValue) {
+    if (eventId == null) {
+      return false;
+    }
+    Event event = store.eventById.get(eventId);
+    if (event == null) {
+      event = store.recurringEventById.get(eventId);
+    }
+    return event != null && updateEventProperty(event, property, newValue);
+  }
+
   /**
    * Edits a specific event in calendar for a given date.
    *
@@ -358,8 +655,8 @@ public class Calendar implements ICalendar {
                                 String newValue) {
     int count = 0;
 
-    List<Event> matchingEvents = events.stream().filter(e -> e.getSubject().equals(subject)
-                    && !e.getStartDateTime().isBefore(startDateTime)).collect(Collectors.toList());
+    // A copy, since each edit moves the event within the index
+    List<Event> matchingEvents = store.subjectIndex.getFrom(subject, startDateTime);
 
     for (Event event : matchingEvents) {
       if (updateEventProperty(event, property, newValue)) {
@@ -382,8 +679,7 @@ public class Calendar implements ICalendar {
   public int editAllEvents(String subject, String property, String newValue) {
     int count = 0;
 
-    List<Event> matchingEvents = events.stream().filter(e -> e.getSubject().equals(subject))
-            .collect(Collectors.toList());
+    List<Event> matchingEvents = store.subjectIndex.get(subject);
 
     for (Event event : matchingEvents) {
       if (updateEventProperty(event, property, newValue)) {
@@ -393,6 +689,39 @@ public class Calendar implements ICalendar {
     return count;
   }
 
+  /**
+   * Searches the calendar's events using its full-text index. The date bounds are local dates in
+   * the calendar's timezone; an event is included if any part of it falls within them.
+   *
+   * @param query  the words to search for
+   * @param from   the first date of the events to search, or null for no lower bound
+   * @param to     the last date of the events to search, or null for no upper bound
+   * @param offset the number of ranked matches to skip
+   * @param limit  the largest number of matches to return
+   * @return the requested page of matches
+   */
+  @Override
+  public SearchResult searchEvents(String query, LocalDate from, LocalDate to, int offset,
+                                   int limit) {
+    if (query == null) {
+      throw new IllegalArgumentException("Search query cannot be null");
+    }
+    if (from != null && to != null && from.isAfter(to)) {
+      throw new IllegalArgumentException("Start date cannot be after end date");
+    }
+
+    LocalDateTime windowStart = from == null ? null
+            : timezoneHandler.convertToUTC(from.atStartOfDay(), timezone.getID());
+    LocalDateTime windowEnd = to == null ? null
+            : timezoneHandler.convertToUTC(to.plusDays(1).atStartOfDay(), timezone.getID());
+    SearchResult result = store.searchIndex.search(query,
+            event -> (windowStart == null || !event.getEndDateTime().isBefore(windowStart))
+                    && (windowEnd == null || event.getStartDateTime().isBefore(windowEnd)),
+            offset, limit);
+    return store.isShared() ? new SearchResult(handOut(result.getEvents()), result.getTotal(),
+            result.getOffset()) : result;
+  }
+
   /**
    * Retrieves all recurring events in the calendar.
    *
@@ -400,7 +729,14 @@ public class Calendar implements ICalendar {
    */
   @Override
   public List<RecurringEvent> getAllRecurringEvents() {
-    return new ArrayList<>(recurringEvents);
+    if (!store.isShared()) {
+      return new ArrayList<>(store.recurringEvents);
+    }
+    List<RecurringEvent> copies = new ArrayList<>(store.recurringEvents.size());
+    for (RecurringEvent recurringEvent : store.recurringEvents) {
+      copies.add(recurringEvent.copy());
+    }
+    return copies;
   }
 
   /**
@@ -418,19 +754,23 @@ public class Calendar implements ICalendar {
     if (exporter == null) {
       throw new IllegalArgumentException("Exporter cannot be null");
     }
-    return exporter.export(filePath, events);
+    return exporter.export(filePath, store.events);
   }
 
   /**
-   * Checks if an event conflicts with any existing event in the calendar.
+   * Checks if an event conflicts with any existing event in the calendar. Only the stored events
+   * that overlap it in the time index are compared; recurring series need no expansion because
+   * their occurrences are stored.
    *
-   * @param event the event to check for conflicts
+   * @param event the event to check for conflicts, with times in UTC
    * @return true if there is a conflict, false otherwise
    */
   private boolean hasConflict(Event event) {
-    EventFilter conflictFilter = existingEvent -> event.conflictsWith(existingEvent);
-    ConsolidatedIterator.IEventIterator iterator = getFilteredEventIterator(conflictFilter);
-    return iterator.hasNext();
+    ConflictCheckTrace trace = new ConflictCheckTrace();
+    trace.begin();
+    boolean conflict = store.timeIndex.hasConflict(event);
+    trace.record(name, conflict, store.events.size());
+    return conflict;
   }
 
   /**
@@ -447,18 +787,47 @@ public class Calendar implements ICalendar {
       return false;
     }
 
+    // The caller may hold a copy, or an event of storage shared with a copy of this calendar;
+    // edit the instance this calendar owns
+    EventStore own = mutableStore();
+    Event stored = own.eventById.get(event.getId());
+    if (stored == null) {
+      stored = own.recurringEventById.get(event.getId());
+    }
+    if (stored != null) {
+      event = stored;
+    }
+
+    Event previous = changeListeners.isEmpty() ? null : event.copy();
+    boolean indexed = store.unindex(event);
+    boolean updated;
     try {
-      return updater.update(event, newValue);
+      updated = updater.update(event, newValue);
     } catch (Exception e) {
-      return false;
+      updated = false;
+    } finally {
+      if (indexed) {
+        store.index(event);
+      }
+    }
+    if (updated && previous != null) {
+      fireChange(CalendarChange.updated(previous, event));
     }
+    return updated;
   }
 
   /**
    * Gets all events on a specific date.
    *
+   * <p>The date is taken in this calendar's timezone. Its local day, from the first instant of
+   * the date up to the first instant of the next one, is converted to the exact UTC interval it
+   * covers and read from the time index with a single seek. Days on which a DST transition
+   * happens are therefore 23 or 25 hours long, and a date whose midnight falls in a DST gap
+   * starts at the first valid local time. Events that end exactly when the day starts belong to
+   * the day before. The returned events keep their UTC times.
+   *
    * @param date the date to get events for
-   * @return a list of events on the specified date
+   * @return a list of events on the specified date, ordered by start time
    */
   @Override
   public List<Event> getEventsOnDate(LocalDate date) {
@@ -466,139 +835,223 @@ public class Calendar implements ICalendar {
       throw new IllegalArgumentException("Date cannot be null");
     }
 
-    Map<UUID, Event> eventsOnDateById = new HashMap<>();
-
-    // Get events for a wider date range to catch timezone-affected events
-    // We need to look at the day before and after to catch events that might be
-    // on a different day in UTC
-    LocalDate dayBefore = date.minusDays(1);
-    LocalDate dayAfter = date.plusDays(1);
-    
-    // First get all events in the expanded date range
-    List<Event> allEventsInRange = getEventsInRange(dayBefore, dayAfter);
-    
-    // Filter events based on both local date and UTC date
-    LocalDate localDate = date;  // Target date in local timezone
-    
-    for (Event event : allEventsInRange) {
-        // For events happening at day boundaries, we need to be lenient in our filtering
-        if (event.getStartDateTime() != null && event.getEndDateTime() != null) {
-            LocalDate eventStartDate = event.getStartDateTime().toLocalDate();
-            LocalDate eventEndDate = event.getEndDateTime().toLocalDate();
-            
-            // Event is related to our date if:
-            // 1. The event starts or ends on our target date (classic case)
-            if (eventStartDate.equals(localDate) || eventEndDate.equals(localDate)) {
-                eventsOnDateById.put(event.getId(), event);
-            }
-            // 2. The event spans across our target date (less common)
-            else if (eventStartDate.isBefore(localDate) && eventEndDate.isAfter(localDate)) {
-                eventsOnDateById.put(event.getId(), event);
-            }
-            // 3. Special case: when an event starts VERY late (e.g., 8pm-11pm), it might be stored 
-            // as midnight-3am the next day in UTC. So events at the "start" of the next day
-            // might actually belong to our target date.
-            else if (eventStartDate.equals(localDate.plusDays(1)) && 
-                    event.getStartDateTime().getHour() < 6) { // Early hours of next day
-                eventsOnDateById.put(event.getId(), event);
-            }
-            // 4. Special case: when an event ends VERY early (e.g., 11pm-3am), it might 
-            // end on our target date. So events that end early on our target date might
-            // actually be from the previous day.
-            else if (eventEndDate.equals(localDate) && 
-                    event.getEndDateTime().getHour() < 6) { // Early hours of target day
-                eventsOnDateById.put(event.getId(), event);
-            }
-            // 5. Special case for events that start exactly at midnight
-            else if (eventStartDate.equals(localDate) && 
-                    event.getStartDateTime().getHour() == 0 && 
-                    event.getStartDateTime().getMinute() == 0) {
-                // Always include events that start exactly at midnight of the target date
-                eventsOnDateById.put(event.getId(), event);
-            }
-            // 6. Also check the day before for events crossing midnight
-            else if (eventStartDate.equals(localDate.minusDays(1)) && 
-                     eventEndDate.equals(localDate) ||
-                     eventEndDate.isAfter(localDate)) {
-                // For events that start the day before and cross midnight
-                if (event.getStartDateTime().getHour() >= 23 || 
-                    event.getEndDateTime().getHour() <= 1) {
-                    eventsOnDateById.put(event.getId(), event);
-                }
-            }
-        } else if (event.getDate() != null && event.getDate().equals(localDate)) {
-            eventsOnDateById.put(event.getId(), event);
-        }
-    }
-    
-    // Handle recurring events
-    for (RecurringEvent recurringEvent : this.recurringEvents) {
-      List<Event> occurrences = recurringEvent.getOccurrencesBetween(date, date);
-      for (Event occurrence : occurrences) {
-        eventsOnDateById.put(occurrence.getId(), occurrence);
+    RangeQueryTrace trace = new RangeQueryTrace();
+    trace.begin();
+    ZoneOffsetCursor zone = new ZoneOffsetCursor(timezone.getID());
+    LocalDateTime dayStartUTC = zone.toUTC(date.atStartOfDay());
+    LocalDateTime nextDayStartUTC = zone.toUTC(date.plusDays(1).atStartOfDay());
+
+    List<Event> eventsOnDate = new ArrayList<>();
+    for (Event event : store.timeIndex.page(dayStartUTC, nextDayStartUTC.minusNanos(1), null,
+            null, Integer.MAX_VALUE)) {
+      if (event.getEndDateTime().isAfter(dayStartUTC)
+              || !event.getStartDateTime().isBefore(dayStartUTC)) {
+        eventsOnDate.add(handOut(event));
       }
     }
-    
-    return new ArrayList<>(eventsOnDateById.values());
+
+    trace.record(name, "eventsOnDate", date, date, eventsOnDate.size(), store.events.size());
+    return eventsOnDate;
   }
 
+
   /**
    * Gets all events in a date range.
    *
+   * <p>The dates are local dates in this calendar's timezone, as for
+   * {@link #getEventsInRange(LocalDate, LocalDate, int, String)}: the result is every page of
+   * that query read in one go, ordered by start time. Recurring occurrences are included because
+   * they are stored alongside single events.
+   *
    * @param startDate the start date of the range
    * @param endDate   the end date of the range
    * @return a list of events within the date range
    */
   @Override
   public List<Event> getEventsInRange(LocalDate startDate, LocalDate endDate) {
+    RangeQueryTrace trace = new RangeQueryTrace();
+    trace.begin();
+    List<Event> eventsInRange = getEventsInRange(startDate, endDate, Integer.MAX_VALUE, null)
+            .getEvents();
+    trace.record(name, "eventsInRange", startDate, endDate, eventsInRange.size(),
+            store.events.size());
+    return eventsInRange;
+  }
+
+  /**
+   * Gets one page of the events that overlap a range of local dates, read from the time index.
+   *
+   * <p>The range is the window from the start of the first date to the end of the last one, read
+   * with {@link #getEventsInWindow(LocalDateTime, LocalDateTime, int, String)}.
+   *
+   * @param startDate the first local date of the range
+   * @param endDate   the last local date of the range
+   * @param pageSize  the largest number of events on the page
+   * @param pageToken the token returned with the previous page, or null for the first page
+   * @return the page of events
+   */
+  @Override
+  public EventPage getEventsInRange(LocalDate startDate, LocalDate endDate, int pageSize,
+                                    String pageToken) {
     if (startDate == null || endDate == null) {
       throw new IllegalArgumentException("Dates cannot be null");
     }
+    if (startDate.isAfter(endDate)) {
+      throw new IllegalArgumentException("Start date cannot be after end date");
+    }
+    return getEventsInWindow(startDate.atStartOfDay(),
+            endDate.plusDays(1).atStartOfDay().minusNanos(1), pageSize, pageToken);
+  }
+
+  /**
+   * Gets one page of the events that overlap a window of local date-times, read from the time
+   * index.
+   *
+   * <p>The window is interpreted in this calendar's timezone and converted to the exact UTC
+   * interval it covers, so a page is a single seek of the index with no events outside the window
+   * read. Each page seeks to the position recorded in the token and reads one event past the page
+   * to tell whether another follows, so neither the time to the first event nor the memory used
+   * grows with the length of the window. The returned events keep their UTC times.
+   *
+   * @param from      the start of the window in local time
+   * @param to        the end of the window in local time
+   * @param pageSize  the largest number of events on the page
+   * @param pageToken the token returned with the previous page, or null for the first page
+   * @return the page of events
+   */
+  @Override
+  public EventPage getEventsInWindow(LocalDateTime from, LocalDateTime to, int pageSize,
+                                     String pageToken) {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Date-times cannot be null");
+    }
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("Start date-time cannot be after end date-time");
+    }
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+
+    LocalDateTime afterStart = pageToken != null ? EventPage.tokenStart(pageToken) : null;
+    UUID afterId = pageToken != null ? EventPage.tokenId(pageToken) : null;
+    ZoneOffsetCursor zone = new ZoneOffsetCursor(timezone.getID());
+    LocalDateTime fromUTC = zone.toUTC(from);
+    LocalDateTime toUTC = zone.toUTC(to);
+
+    List<Event> page = store.timeIndex.page(fromUTC, toUTC, afterStart, afterId,
+            pageSize < Integer.MAX_VALUE ? pageSize + 1 : pageSize);
+    if (page.size() <= pageSize) {
+      return new EventPage(handOut(page), null);
+    }
+    page.remove(pageSize);
+    return new EventPage(handOut(page), EventPage.tokenAfter(page.get(pageSize - 1)));
+  }
 
+  /**
+   * Gets a lazy, start-ordered cursor over the events that overlap a range of local dates.
+   *
+   * <p>The dates are interpreted in this calendar's timezone and converted to an exact UTC window
+   * before the time index is walked, so no events outside the range are read. Recurring
+   * occurrences are included because they are stored alongside single events. The returned
+   * events keep their UTC times and must be consumed before the calendar is modified.
+   *
+   * @param startDate the first local date of the range
+   * @param endDate   the last local date of the range
+   * @return an iterator over the matching events ordered by start time
+   */
+  public Iterator<Event> getEventCursor(LocalDate startDate, LocalDate endDate) {
+    if (startDate == null || endDate == null) {
+      throw new IllegalArgumentException("Dates cannot be null");
+    }
     if (startDate.isAfter(endDate)) {
       throw new IllegalArgumentException("Start date cannot be after end date");
     }
 
-    Map<UUID, Event> eventsInRangeById = new HashMap<>();
-
-    // Use a more comprehensive filter that checks for any overlap with the date range
-    EventFilter dateRangeFilter = event -> {
-      if (event.getStartDateTime() != null && event.getEndDateTime() != null) {
-        LocalDate eventStartDate = event.getStartDateTime().toLocalDate();
-        LocalDate eventEndDate = event.getEndDateTime().toLocalDate();
-        
-        // Event overlaps with range if:
-        // 1. Starts within the range, or
-        // 2. Ends within the range, or
-        // 3. Completely spans the range (starts before and ends after)
-        boolean startsInRange = !eventStartDate.isBefore(startDate) && !eventStartDate.isAfter(endDate);
-        boolean endsInRange = !eventEndDate.isBefore(startDate) && !eventEndDate.isAfter(endDate);
-        boolean spansRange = eventStartDate.isBefore(startDate) && eventEndDate.isAfter(endDate);
-        
-        return startsInRange || endsInRange || spansRange;
-      }
-      return false;
-    };
+    ZoneOffsetCursor zone = new ZoneOffsetCursor(timezone.getID());
+    LocalDateTime fromUTC = zone.toUTC(startDate.atStartOfDay());
+    LocalDateTime toUTC = zone.toUTC(endDate.plusDays(1).atStartOfDay()).minusNanos(1);
+    return getEventCursorBetween(fromUTC, toUTC);
+  }
 
-    ConsolidatedIterator.IEventIterator iterator = getFilteredEventIterator(dateRangeFilter);
-    while (iterator.hasNext()) {
-      Event event = iterator.next();
-      eventsInRangeById.put(event.getId(), event);
+  /**
+   * Gets a lazy, start-ordered cursor over the events that overlap a UTC interval (inclusive at
+   * both ends). The returned events must be consumed before the calendar is modified.
+   *
+   * @param fromUTC the start of the interval in UTC
+   * @param toUTC   the end of the interval in UTC
+   * @return an iterator over the matching events ordered by start time
+   */
+  public Iterator<Event> getEventCursorBetween(LocalDateTime fromUTC, LocalDateTime toUTC) {
+    if (fromUTC == null || toUTC == null) {
+      throw new IllegalArgumentException("Date/times cannot be null");
     }
+    Iterator<Event> cursor = store.timeIndex.iterator(fromUTC, toUTC);
+    if (!store.isShared()) {
+      return cursor;
+    }
+    return new Iterator<Event>() {
+      @Override
+      public boolean hasNext() {
+        return cursor.hasNext();
+      }
 
-    // Process recurring events day by day
-    LocalDate currentDate = startDate;
-    while (!currentDate.isAfter(endDate)) {
-      for (RecurringEvent recurringEvent : this.recurringEvents) {
-        List<Event> occurrences = recurringEvent.getOccurrencesBetween(currentDate, currentDate);
-        for (Event occurrence : occurrences) {
-          eventsInRangeById.put(occurrence.getId(), occurrence);
-        }
+      @Override
+      public Event next() {
+        return cursor.next().copy();
       }
-      currentDate = currentDate.plusDays(1);
+    };
+  }
+
+  /**
+   * Gets the precomputed summary of a local day: its event count, first distinct subjects and
+   * whether it has timed events. Summaries are kept up to date as events change, so this is a
+   * map lookup regardless of how many events the calendar holds.
+   *
+   * @param date the date in this calendar's timezone
+   * @return the summary of the day, which is empty if the day has no events
+   */
+  public DaySummary getDaySummary(LocalDate date) {
+    if (date == null) {
+      throw new IllegalArgumentException("Date cannot be null");
     }
+    return store.getDaySummary(date);
+  }
 
-    return new ArrayList<>(eventsInRangeById.values());
+  /**
+   * Gets the precomputed summaries of a range of local days.
+   *
+   * @param startDate the first date of the range
+   * @param endDate   the last date of the range
+   * @return the summary of every date in the range, in date order
+   */
+  public Map<LocalDate, DaySummary> getDaySummaries(LocalDate startDate, LocalDate endDate) {
+    return getDaySummaries(startDate, endDate, store.getTimezone());
+  }
+
+  /**
+   * Gets the precomputed summaries of a range of local days in the timezone of a view. The first
+   * request for a timezone other than this calendar's indexes the events by day in that timezone
+   * once; the index is then kept up to date like the calendar's own, so later requests for the
+   * same timezone are map lookups too.
+   *
+   * @param startDate the first date of the range
+   * @param endDate   the last date of the range
+   * @param timezone  the timezone in which events are grouped into days
+   * @return the summary of every date in the range, in date order
+   */
+  public Map<LocalDate, DaySummary> getDaySummaries(LocalDate startDate, LocalDate endDate,
+                                                    String timezone) {
+    if (startDate == null || endDate == null) {
+      throw new IllegalArgumentException("Dates cannot be null");
+    }
+    if (timezone == null) {
+      throw new IllegalArgumentException("Timezone cannot be null");
+    }
+    Map<LocalDate, DaySummary> summaries = new LinkedHashMap<>();
+    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+      summaries.put(date, store.getDaySummary(date, timezone));
+    }
+    return summaries;
   }
 
   /**
@@ -705,10 +1158,17 @@ public class Calendar implements ICalendar {
   /**
    * Gets events that match a specific filter.
    *
+   * <p>An {@link EventQuery} is planned against the calendar's indexes and matched against the
+   * stored events; any other filter is applied to every event of {@link #getEventIterator()}.
+   *
    * @param filter the filter to apply
    * @return a list of events that match the filter
    */
   public List<Event> getFilteredEvents(EventFilter filter) {
+    if (filter instanceof EventQuery) {
+      return query((EventQuery) filter);
+    }
+
     // Use the iterator pattern to filter events
     ConsolidatedIterator.IEventIterator iterator = getFilteredEventIterator(filter);
     List<Event> result = new ArrayList<>();
@@ -720,6 +1180,40 @@ public class Calendar implements ICalendar {
     return result;
   }
 
+  /**
+   * Chooses how to answer a query from the calendar's indexes.
+   *
+   * @param query the query
+   * @return the plan, which should be executed straight away
+   */
+  public QueryPlan plan(EventQuery query) {
+    if (query == null) {
+      throw new IllegalArgumentException("Query cannot be null");
+    }
+    QueryPlan plan = QueryPlanner.plan(query, store);
+    return store.isShared() ? plan.returningCopies() : plan;
+  }
+
+  /**
+   * Gets the stored events that match a query, reading them from the most selective index.
+   *
+   * @param query the query
+   * @return the matching events
+   */
+  public List<Event> query(EventQuery query) {
+    return plan(query).execute();
+  }
+
+  /**
+   * Describes how a query would be answered.
+   *
+   * @param query the query
+   * @return the chosen access path and the conditions checked after it
+   */
+  public String explain(EventQuery query) {
+    return plan(query).explain();
+  }
+
   /**
    * Gets an iterator for all events in this calendar.
    * This includes both regular and recurring events.
@@ -728,8 +1222,8 @@ public class Calendar implements ICalendar {
    */
   public ConsolidatedIterator.IEventIterator getEventIterator() {
     List<ConsolidatedIterator.IEventIterator> iterators = new ArrayList<>();
-    iterators.add(ConsolidatedIterator.forEvents(events));
-    iterators.add(ConsolidatedIterator.forRecurringEvents(recurringEvents,
+    iterators.add(ConsolidatedIterator.forEvents(handOut(store.events)));
+    iterators.add(ConsolidatedIterator.forRecurringEvents(store.recurringEvents,
             LocalDate.now(), LocalDate.now().plusYears(1)));
     return ConsolidatedIterator.composite(iterators);
   }
@@ -754,13 +1248,13 @@ public class Calendar implements ICalendar {
     String systemTimezone = handler.getSystemDefaultTimezone();
     LocalDateTime utcDateTime = handler.convertToUTC(dateTime, systemTimezone);
 
-    for (Event event : events) {
+    for (Event event : store.events) {
       if (isTimeWithinEventRange(utcDateTime, event)) {
         return true;
       }
     }
 
-    for (RecurringEvent recurringEvent : recurringEvents) {
+    for (RecurringEvent recurringEvent : store.recurringEvents) {
       if (isRecurringEventActiveAt(utcDateTime, recurringEvent)) {
         return true;
       }
@@ -781,11 +1275,15 @@ public class Calendar implements ICalendar {
       return false;
     }
 
-    // Check if the dateTime is within the event time range (inclusive of both start and end)
-    return (dateTime.isEqual(event.getStartDateTime())
-            || dateTime.isAfter(event.getStartDateTime()))
-            && (dateTime.isEqual(event.getEndDateTime())
-            || dateTime.isBefore(event.getEndDateTime()));
+    // Check if the dateTime is within the event time range (inclusive of both start and end),
+    // on the cached epoch seconds unless a fraction of a second could decide it
+    if ((dateTime.getNano() | event.getStartDateTime().getNano()
+            | event.getEndDateTime().getNano()) == 0) {
+      return Intervals.contains(event.getStartEpochSecond(), event.getEndEpochSecond(),
+              Intervals.epochSecond(dateTime));
+    }
+    return !dateTime.isBefore(event.getStartDateTime())
+            && !dateTime.isAfter(event.getEndDateTime());
   }
 
   /**
@@ -836,37 +1334,36 @@ public class Calendar implements ICalendar {
   @Override
   public boolean updateEvent(UUID eventId, Event updatedEvent) throws ConflictingEventException {
     if (eventId == null || updatedEvent == null) {
-      System.out.println("[ERROR] Calendar.updateEvent - Null eventId or updatedEvent");
+      Log.error("Calendar.updateEvent - Null eventId or updatedEvent");
       return false;
     }
 
-    System.out.println("[DEBUG] Calendar.updateEvent - Updating event with ID: " + eventId);
-    System.out.println("[DEBUG] Calendar.updateEvent - Updated event details: Subject="
+    Log.debug(() -> "Calendar.updateEvent - Updating event with ID: " + eventId);
+    Log.debug(() -> "Calendar.updateEvent - Updated event details: Subject="
             + updatedEvent.getSubject()
             + ", Start=" + updatedEvent.getStartDateTime()
             + ", End=" + updatedEvent.getEndDateTime()
             + ", Location=" + updatedEvent.getLocation());
 
-    Event existingEvent = eventById.get(eventId);
+    Event existingEvent = mutableStore().eventById.get(eventId);
     if (existingEvent == null) {
-      System.out.println("[ERROR] Calendar.updateEvent - Event not found with ID: " + eventId);
+      Log.error(() -> "Calendar.updateEvent - Event not found with ID: " + eventId);
       return false; // Event not found
     }
 
-    System.out.println("[DEBUG] Calendar.updateEvent - Found existing event: "
+    Log.debug(() -> "Calendar.updateEvent - Found existing event: "
             + existingEvent.getSubject());
 
     // Store the existing event temporarily and remove it from collections
-    events.remove(existingEvent);
-    eventById.remove(eventId);
+    UUID seriesId = store.seriesByEventId.get(eventId);
+    store.remove(existingEvent);
 
     try {
       // Check for conflicts with the updated event
       if (hasConflict(updatedEvent)) {
         // Restore the original event if there's a conflict
-        events.add(existingEvent);
-        eventById.put(eventId, existingEvent);
-        System.out.println("[ERROR] Calendar.updateEvent - Conflict with existing events");
+        store.add(existingEvent, seriesId);
+        Log.error("Calendar.updateEvent - Conflict with existing events");
         throw new ConflictingEventException("The updated event conflicts with existing events");
       }
 
@@ -882,28 +1379,132 @@ public class Calendar implements ICalendar {
               updatedEvent.isAllDay()
       );
 
-      System.out.println("[DEBUG] Calendar.updateEvent - Created new event object: "
+      Log.debug(() -> "Calendar.updateEvent - Created new event object: "
               + newEvent.getSubject()
               + ", ID=" + newEvent.getId()
               + ", Start=" + newEvent.getStartDateTime()
               + ", End=" + newEvent.getEndDateTime());
 
       // Add the updated event
-      events.add(newEvent);
-      eventById.put(eventId, newEvent);
+      store.add(newEvent, seriesId);
+      fireChange(CalendarChange.updated(existingEvent, newEvent));
 
       return true;
     } catch (ConflictingEventException e) {
       throw e;
     } catch (Exception e) {
-      System.out.println("[ERROR] Exception in Calendar.updateEvent: " + e.getMessage());
-      e.printStackTrace();
-      events.add(existingEvent);
-      eventById.put(eventId, existingEvent);
+      Log.error(() -> "Exception in Calendar.updateEvent: " + e.getMessage(), e);
+      store.add(existingEvent, seriesId);
       return false;
     }
   }
 
+  @Override
+  public void addChangeListener(CalendarChangeListener listener) {
+    if (listener != null) {
+      changeListeners.add(listener);
+    }
+  }
+
+  @Override
+  public void removeChangeListener(CalendarChangeListener listener) {
+    changeListeners.remove(listener);
+  }
+
+  /**
+   * Notifies the change listeners of a change. A failing listener does not stop the others from
+   * being notified, nor undo the change.
+   *
+   * @param change the change that was made
+   */
+  private void fireChange(CalendarChange change) {
+    for (CalendarChangeListener listener : changeListeners) {
+      try {
+        listener.onCalendarChanged(change);
+      } catch (RuntimeException e) {
+        Log.error(() -> "Calendar change listener failed: " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Creates a copy of this calendar under a new name.
+   *
+   * <p>The copy shares this calendar's event storage copy-on-write, so copying takes constant
+   * time. Both calendars read the shared storage and hand out copies of its events while it is
+   * shared; whichever calendar is modified first takes a private copy of the storage at that
+   * point, and the two calendars are independent from then on.
+   *
+   * @param newName the name of the copy
+   * @return the new calendar
+   */
+  public Calendar copyAs(String newName) {
+    return new Calendar(this, newName);
+  }
+
+  /**
+   * Takes a snapshot of this calendar to be read on another thread while this calendar keeps
+   * being edited on its own. Like {@link #copyAs(String)} it takes constant time: the snapshot
+   * shares this calendar's storage, and an edit made while it is still shared goes to a private
+   * copy, so the snapshot never sees it. The snapshot must only be read, and it should be
+   * {@link #releaseSnapshot() released} once read.
+   *
+   * @return the snapshot
+   */
+  public Calendar snapshot() {
+    return new Calendar(this, name);
+  }
+
+  /**
+   * Releases a snapshot once it has been read, so that the calendar it was taken from goes back
+   * to writing in place. The snapshot is empty afterwards.
+   */
+  public void releaseSnapshot() {
+    discardEvents();
+  }
+
+  /**
+   * Gets the event storage for a modification, detaching it first if it is shared with a copy
+   * of this calendar.
+   *
+   * @return storage that only this calendar points at
+   */
+  private EventStore mutableStore() {
+    store = store.detach();
+    return store;
+  }
+
+  /**
+   * Gets the instance of a stored event to hand to a caller. While the storage is shared with a
+   * copy of this calendar the caller gets a copy: events are mutable, and an instance reachable
+   * from both calendars would let a change made through one of them show in the other. Otherwise
+   * the caller gets the stored event itself.
+   */
+  private Event handOut(Event event) {
+    return store.isShared() ? event.copy() : event;
+  }
+
+  private List<Event> handOut(List<Event> events) {
+    if (!store.isShared()) {
+      return new ArrayList<>(events);
+    }
+    List<Event> copies = new ArrayList<>(events.size());
+    for (Event event : events) {
+      copies.add(event.copy());
+    }
+    return copies;
+  }
+
+  /**
+   * Discards the events of a calendar that is being removed and releases its claim on storage
+   * it shares with copies of it, so that the last remaining copy writes in place again. The
+   * calendar is empty afterwards.
+   */
+  void discardEvents() {
+    store.release();
+    store = new EventStore(timezone.getID());
+  }
+
   /**
    * Sets the name of the calendar.
    *
@@ -920,5 +1521,8 @@ public class Calendar implements ICalendar {
    */
   public void setTimezone(String timezone) {
     this.timezone = TimeZone.getTimeZone(timezone);
+    if (!this.timezone.getID().equals(store.getTimezone())) {
+      mutableStore().setTimezone(this.timezone.getID());
+    }
   }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+package model.calendar;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.TreeSet;
+
+import model.event.Event;
+import utilities.ZoneOffsetCursor;
+
+/**
+ * A single change to the events of a calendar: one event was added, updated or removed.
+ *
+ * <p>Events are those held by the calendar, so their times are in UTC. For an update the change
+ * also carries a snapshot of the event as it was before, so that a listener keeping its own view
+ * of the calendar can take the event out of the place it used to be and put it where it is now
+ * without re-reading anything from the calendar.
+ */
+public class CalendarChange {
+
+  /**
+   * The kind of change.
+   */
+  public enum Type {
+    ADDED,
+    UPDATED,
+    REMOVED
+  }
+
+  private final Type type;
+  private final Event event;
+  private final Event previous;
+
+  private CalendarChange(Type type, Event event, Event previous) {
+    this.type = type;
+    this.event = event;
+    this.previous = previous;
+  }
+
+  /**
+   * Creates a change for an event that was added.
+   *
+   * @param event the added event
+   * @return the change
+   */
+  public static CalendarChange added(Event event) {
+    return new CalendarChange(Type.ADDED, event, null);
+  }
+
+  /**
+   * Creates a change for an event that was updated.
+   *
+   * @param previous a snapshot of the event before the update
+   * @param event    the event after the update
+   * @return the change
+   */
+  public static CalendarChange updated(Event previous, Event event) {
+    return new CalendarChange(Type.UPDATED, event, previous);
+  }
+
+  /**
+   * Creates a change for an event that was removed.
+   *
+   * @param event the removed event
+   * @return the change
+   */
+  public static CalendarChange removed(Event event) {
+    return new CalendarChange(Type.REMOVED, event, null);
+  }
+
+  /**
+   * Gets the kind of change.
+   *
+   * @return the change type
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Gets the event that changed. For a removal this is the event that was removed.
+   *
+   * @return the event, with times stored in UTC
+   */
+  public Event getEvent() {
+    return event;
+  }
+
+  /**
+   * Gets the event as it was before an update.
+   *
+   * @return the previous state of the event, or null if this change is not an update
+   */
+  public Event getPrevious() {
+    return previous;
+  }
+
+  /**
+   * Gets the local dates whose contents the change affects: every date the event covered before
+   * the change and every date it covers after it.
+   *
+   * @param timezone the timezone in which dates are reckoned
+   * @return the affected dates in ascending order
+   */
+  public Set<LocalDate> getAffectedDates(String timezone) {
+    ZoneOffsetCursor zone = new ZoneOffsetCursor(timezone);
+    Set<LocalDate> dates = new TreeSet<>();
+    if (previous != null) {
+      addDates(dates, zone, previous);
+    }
+    addDates(dates, zone, event);
+    return dates;
+  }
+
+  /**
+   * Gets the local dates the event covers after the change.
+   *
+   * @param timezone the timezone in which dates are reckoned
+   * @return the dates in ascending order, which is empty for a removal
+   */
+  public Set<LocalDate> getCurrentDates(String timezone) {
+    Set<LocalDate> dates = new TreeSet<>();
+    if (type != Type.REMOVED) {
+      addDates(dates, new ZoneOffsetCursor(timezone), event);
+    }
+    return dates;
+  }
+
+  private static void addDates(Set<LocalDate> dates, ZoneOffsetCursor zone, Event event) {
+    LocalDateTime start = zone.fromUTC(event.getStartDateTime());
+    LocalDateTime end = zone.fromUTC(event.getEndDateTime());
+    LocalDate last = end.toLocalDate();
+    // An event ending exactly at midnight does not touch the day that starts then
+    if (end.toLocalTime().equals(LocalTime.MIDNIGHT) && end.isAfter(start)) {
+      last = last.minusDays(1);
+    }
+    for (LocalDate date = start.toLocalDate(); !date.isAfter(last); date = date.plusDays(1)) {
+      dates.add(date);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return type + " " + event;
+  }
+}
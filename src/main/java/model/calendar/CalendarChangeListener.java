@@ -0,0 +1,19 @@
+package model.calendar;
+
+/**
+ * Listener notified of each change to the events of a calendar.
+ *
+ * <p>Listeners are called synchronously on the thread that made the change, after the calendar
+ * has been updated. Listeners that touch Swing components must hand the change over to the
+ * Event Dispatch Thread themselves.
+ */
+@FunctionalInterface
+public interface CalendarChangeListener {
+
+  /**
+   * Called after an event of the calendar was added, updated or removed.
+   *
+   * @param change the change
+   */
+  void onCalendarChanged(CalendarChange change);
+}
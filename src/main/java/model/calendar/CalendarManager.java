@@ -1,8 +1,22 @@
 package model.calendar;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import model.calendar.iterator.ConsolidatedIterator;
+import model.calendar.iterator.TimelineMergeIterator;
+import model.event.Event;
 import model.exceptions.CalendarNotFoundException;
 import model.exceptions.DuplicateCalendarException;
 import model.exceptions.InvalidTimezoneException;
@@ -126,6 +140,83 @@ public class CalendarManager {
     return operation.execute(calendar);
   }
 
+  /**
+   * Gets the events of several calendars in a date range as a single time-ordered stream.
+   *
+   * <p>Each calendar contributes a lazy cursor over its time index, and the cursors are combined
+   * with a k-way heap merge. The stream is lazy: applying {@code limit(n)} stops the merge after
+   * {@code n} events, however many calendars or events are involved. The range is interpreted in
+   * each calendar's own timezone, and events are ordered by their UTC start time. The stream must
+   * be consumed before any of the calendars are modified.
+   *
+   * @param calendarNames the names of the calendars to merge; duplicates are ignored
+   * @param startDate     the first date of the range
+   * @param endDate       the last date of the range
+   * @return a stream of timeline entries ordered by start time
+   * @throws CalendarNotFoundException if any of the calendars does not exist
+   */
+  public Stream<TimelineEntry> getMergedTimeline(Collection<String> calendarNames,
+                                                 LocalDate startDate, LocalDate endDate)
+          throws CalendarNotFoundException {
+    if (calendarNames == null) {
+      throw new IllegalArgumentException("Calendar names cannot be null");
+    }
+
+    List<String> names = new ArrayList<>(new LinkedHashSet<>(calendarNames));
+    List<Iterator<Event>> cursors = new ArrayList<>(names.size());
+    for (String name : names) {
+      cursors.add(calendarRegistry.getCalendarByName(name).getEventCursor(startDate, endDate));
+    }
+
+    Iterator<TimelineEntry> merged = new TimelineMergeIterator(names, cursors);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged,
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  /**
+   * Gets the first events of several calendars in a date range, in time order.
+   *
+   * @param calendarNames the names of the calendars to merge
+   * @param startDate     the first date of the range
+   * @param endDate       the last date of the range
+   * @param limit         the maximum number of events to return
+   * @return up to {@code limit} timeline entries ordered by start time
+   * @throws CalendarNotFoundException if any of the calendars does not exist
+   */
+  public List<TimelineEntry> getMergedTimeline(Collection<String> calendarNames,
+                                               LocalDate startDate, LocalDate endDate,
+                                               int limit) throws CalendarNotFoundException {
+    if (limit < 0) {
+      throw new IllegalArgumentException("Limit cannot be negative");
+    }
+    return getMergedTimeline(calendarNames, startDate, endDate).limit(limit)
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * Builds the combined free/busy map of several calendars over a window.
+   *
+   * @param calendarNames the names of the calendars whose events make the time busy
+   * @param timezone      the timezone in which the window and queries are expressed
+   * @param windowStart   the start of the window (inclusive)
+   * @param windowEnd     the end of the window (exclusive)
+   * @return the free/busy map
+   * @throws CalendarNotFoundException if any of the calendars does not exist
+   * @throws InvalidTimezoneException  if the timezone is invalid
+   */
+  public FreeBusyMap getFreeBusy(Collection<String> calendarNames, String timezone,
+                                 LocalDateTime windowStart, LocalDateTime windowEnd)
+          throws CalendarNotFoundException, InvalidTimezoneException {
+    if (!timezoneHandler.isValidTimezone(timezone)) {
+      throw new InvalidTimezoneException("Invalid timezone: " + timezone);
+    }
+    List<Calendar> calendars = new ArrayList<>();
+    for (String name : new LinkedHashSet<>(calendarNames)) {
+      calendars.add(calendarRegistry.getCalendarByName(name));
+    }
+    return FreeBusyMap.forCalendars(calendars, timezone, windowStart, windowEnd);
+  }
+
   /**
    * Sets the active calendar by name.
    *
@@ -1,15 +1,14 @@
 package model.calendar;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import model.calendar.iterator.ConsolidatedIterator;
-import model.event.Event;
-import model.event.RecurringEvent;
 import model.exceptions.CalendarNotFoundException;
-import model.exceptions.ConflictingEventException;
 import model.exceptions.DuplicateCalendarException;
 
 /**
@@ -20,6 +19,7 @@ import model.exceptions.DuplicateCalendarException;
 public class CalendarRegistry {
 
   private final Map<String, Calendar> calendars;
+  private final List<Consumer<Calendar>> removalListeners;
   private String activeCalendarName;
 
   /**
@@ -27,9 +27,23 @@ public class CalendarRegistry {
    */
   public CalendarRegistry() {
     this.calendars = new HashMap<>();
+    this.removalListeners = new ArrayList<>();
     this.activeCalendarName = null;
   }
 
+  /**
+   * Registers a listener that is told about every calendar removed from the registry, so that
+   * resources held for the calendar elsewhere can be released.
+   *
+   * @param listener called with each removed calendar, after it has been removed
+   */
+  public void addRemovalListener(Consumer<Calendar> listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    removalListeners.add(listener);
+  }
+
   /**
    * Gets a calendar by name.
    *
@@ -79,7 +93,8 @@ public class CalendarRegistry {
       throw new CalendarNotFoundException("Calendar not found: " + name);
     }
 
-    calendars.remove(name);
+    Calendar removed = calendars.remove(name);
+    removed.discardEvents();
 
     if (name.equals(activeCalendarName)) {
       if (!calendars.isEmpty()) {
@@ -88,6 +103,10 @@ public class CalendarRegistry {
         activeCalendarName = null;
       }
     }
+
+    for (Consumer<Calendar> listener : removalListeners) {
+      listener.accept(removed);
+    }
   }
 
   /**
@@ -224,34 +243,34 @@ public class CalendarRegistry {
       throw new IllegalArgumentException("Calendar already exists: " + newName);
     }
 
-    Calendar calendar = calendars.get(oldName);
-    Calendar newCalendar = new Calendar(newName, calendar.getTimeZone().getID());
+    // Re-key the existing calendar; its events do not depend on the name
+    Calendar calendar = calendars.remove(oldName);
+    calendar.setName(newName);
+    calendars.put(newName, calendar);
 
-    // Copy all events from the old calendar to the new one
-    for (Event event : calendar.getAllEvents()) {
-      try {
-        newCalendar.addEvent(event, true);
-      } catch (ConflictingEventException e) {
-        // This should not happen since we're copying events one by one
-        throw new RuntimeException("Failed to copy event: " + e.getMessage());
-      }
+    if (oldName.equals(activeCalendarName)) {
+      activeCalendarName = newName;
     }
+  }
 
-    // Copy all recurring events from the old calendar to the new one
-    for (RecurringEvent event : calendar.getAllRecurringEvents()) {
-      try {
-        newCalendar.addRecurringEvent(event, true);
-      } catch (ConflictingEventException e) {
-        // This should not happen since we're copying events one by one
-        throw new RuntimeException("Failed to copy recurring event: " + e.getMessage());
-      }
+  /**
+   * Registers a copy of a calendar under a new name.
+   *
+   * <p>The copy shares the source calendar's events copy-on-write, so it is created in constant
+   * time. The active calendar is not changed.
+   *
+   * @param sourceName the name of the calendar to copy
+   * @param targetName the name for the copy
+   * @throws IllegalArgumentException if the source does not exist or the target already exists
+   */
+  public void copyCalendar(String sourceName, String targetName) {
+    if (!calendars.containsKey(sourceName)) {
+      throw new IllegalArgumentException("Calendar not found: " + sourceName);
     }
-
-    calendars.remove(oldName);
-    calendars.put(newName, newCalendar);
-
-    if (oldName.equals(activeCalendarName)) {
-      activeCalendarName = newName;
+    if (calendars.containsKey(targetName)) {
+      throw new IllegalArgumentException("Calendar already exists: " + targetName);
     }
+
+    calendars.put(targetName, calendars.get(sourceName).copyAs(targetName));
   }
-}
\ No newline at end of file
+}
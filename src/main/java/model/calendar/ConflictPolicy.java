@@ -0,0 +1,19 @@
+package model.calendar;
+
+/**
+ * How a bulk insert treats events that conflict with the calendar or with each other.
+ */
+public enum ConflictPolicy {
+
+  /**
+   * Insert every event without checking for conflicts, as {@code addEvent(event, true)} does.
+   */
+  ALLOW,
+
+  /**
+   * Reject each event that conflicts with an existing event or with an event inserted earlier
+   * in the same batch, and insert the rest. This gives the same result as inserting the events
+   * one at a time in start-time order.
+   */
+  REJECT
+}
@@ -0,0 +1,122 @@
+package model.calendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import model.event.Event;
+
+/**
+ * Precomputed summary of one local day of a calendar, holding just what a month grid cell needs
+ * to render: how many events the day has, the first few distinct subjects, and whether the day
+ * has any timed (not all-day) events.
+ */
+public class DaySummary {
+
+  /**
+   * The maximum number of distinct subjects kept per day.
+   */
+  public static final int SUBJECT_LIMIT = 3;
+
+  private final LocalDate date;
+  private final int eventCount;
+  private final List<String> subjects;
+  private final boolean busy;
+
+  /**
+   * Constructs a new DaySummary.
+   *
+   * @param date       the local date
+   * @param eventCount the number of events starting on the date
+   * @param subjects   the first distinct subjects of the date's events, in start-time order
+   * @param busy       whether any of the events is a timed event
+   */
+  public DaySummary(LocalDate date, int eventCount, List<String> subjects, boolean busy) {
+    this.date = date;
+    this.eventCount = eventCount;
+    this.subjects = Collections.unmodifiableList(new ArrayList<>(subjects));
+    this.busy = busy;
+  }
+
+  /**
+   * Creates an empty summary for a date.
+   *
+   * @param date the local date
+   * @return a summary with no events
+   */
+  public static DaySummary empty(LocalDate date) {
+    return new DaySummary(date, 0, Collections.emptyList(), false);
+  }
+
+  /**
+   * Summarizes the events that start on a date.
+   *
+   * @param date      the local date
+   * @param dayEvents the events starting on the date, in start-time order
+   * @return the summary of the date
+   */
+  public static DaySummary of(LocalDate date, List<Event> dayEvents) {
+    Set<String> subjects = new LinkedHashSet<>();
+    boolean busy = false;
+    for (Event event : dayEvents) {
+      if (subjects.size() < SUBJECT_LIMIT) {
+        subjects.add(event.getSubject());
+      }
+      busy |= !event.isAllDay();
+    }
+    return new DaySummary(date, dayEvents.size(), new ArrayList<>(subjects), busy);
+  }
+
+  /**
+   * Gets the local date this summary describes.
+   *
+   * @return the date
+   */
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Gets the number of events on the date.
+   *
+   * @return the event count
+   */
+  public int getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * Gets up to {@link #SUBJECT_LIMIT} distinct subjects of the date's events.
+   *
+   * @return the subjects in start-time order
+   */
+  public List<String> getSubjects() {
+    return subjects;
+  }
+
+  /**
+   * Checks whether the date has any timed (not all-day) events.
+   *
+   * @return true if the date is busy
+   */
+  public boolean isBusy() {
+    return busy;
+  }
+
+  /**
+   * Checks whether the date has no events.
+   *
+   * @return true if the date has no events
+   */
+  public boolean isEmpty() {
+    return eventCount == 0;
+  }
+
+  @Override
+  public String toString() {
+    return date + ": " + eventCount + " events " + subjects;
+  }
+}
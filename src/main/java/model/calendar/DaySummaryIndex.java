@@ -0,0 +1,126 @@
+package model.calendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.event.Event;
+import utilities.ZoneOffsetCursor;
+
+/**
+ * Incrementally maintained map from local date to {@link DaySummary} for one calendar.
+ *
+ * <p>Events are bucketed by the local date on which they start, in one timezone. Each
+ * change to a bucket immediately recomputes that day's summary, so the work done per mutation is
+ * proportional to the number of events on the affected day, and rendering a month grid is one
+ * map lookup per cell.
+ *
+ * <p>The index has a single writer (the calendar that owns it). Summaries are immutable and are
+ * published through a concurrent map, so they can be read from other threads, such as a
+ * background month loader, while the calendar is being modified.
+ */
+class DaySummaryIndex {
+
+  private final String timezone;
+  private final ZoneOffsetCursor zone;
+  private final Map<LocalDate, List<Event>> eventsByDate;
+  private final Map<LocalDate, DaySummary> summaries;
+
+  /**
+   * Constructs an empty index for the given timezone.
+   *
+   * @param timezone the timezone in which event start times are bucketed into dates
+   */
+  DaySummaryIndex(String timezone) {
+    this.timezone = timezone;
+    this.zone = new ZoneOffsetCursor(timezone);
+    this.eventsByDate = new HashMap<>();
+    this.summaries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Adds an event to the summary of the day it starts on.
+   *
+   * @param event the event, with times stored in UTC
+   */
+  void add(Event event) {
+    LocalDate date = dateOf(event);
+    List<Event> dayEvents = eventsByDate.computeIfAbsent(date, key -> new ArrayList<>());
+    int position = dayEvents.size();
+    while (position > 0 && dayEvents.get(position - 1).getStartDateTime()
+            .isAfter(event.getStartDateTime())) {
+      position--;
+    }
+    dayEvents.add(position, event);
+    summaries.put(date, DaySummary.of(date, dayEvents));
+  }
+
+  /**
+   * Removes an event instance from the summary of the day it starts on.
+   *
+   * @param event the event, with the times it had when it was added
+   * @return true if the event was found and removed
+   */
+  boolean remove(Event event) {
+    LocalDate date = dateOf(event);
+    List<Event> dayEvents = eventsByDate.get(date);
+    if (dayEvents == null || !removeInstance(dayEvents, event)) {
+      // The event's start was changed while it was indexed; look for it on every day
+      date = null;
+      for (Map.Entry<LocalDate, List<Event>> entry : eventsByDate.entrySet()) {
+        if (removeInstance(entry.getValue(), event)) {
+          date = entry.getKey();
+          dayEvents = entry.getValue();
+          break;
+        }
+      }
+      if (date == null) {
+        return false;
+      }
+    }
+    if (dayEvents.isEmpty()) {
+      eventsByDate.remove(date);
+      summaries.remove(date);
+    } else {
+      summaries.put(date, DaySummary.of(date, dayEvents));
+    }
+    return true;
+  }
+
+  /**
+   * Gets the summary of a date.
+   *
+   * @param date the local date
+   * @return the date's summary, which is empty if the date has no events
+   */
+  DaySummary get(LocalDate date) {
+    DaySummary summary = summaries.get(date);
+    return summary != null ? summary : DaySummary.empty(date);
+  }
+
+  /**
+   * Gets the timezone in which this index buckets events into dates.
+   *
+   * @return the timezone identifier
+   */
+  String getTimezone() {
+    return timezone;
+  }
+
+  private LocalDate dateOf(Event event) {
+    return zone.fromUTC(event.getStartDateTime()).toLocalDate();
+  }
+
+  private static boolean removeInstance(List<Event> dayEvents, Event event) {
+    for (int i = 0; i < dayEvents.size(); i++) {
+      if (dayEvents.get(i) == event) {
+        dayEvents.remove(i);
+        return true;
+      }
+    }
+    return false;
+  }
+}
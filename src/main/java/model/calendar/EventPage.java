@@ -0,0 +1,135 @@
+package model.calendar;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import model.event.Event;
+
+/**
+ * One page of a time-ordered range query, together with the token that continues it.
+ *
+ * <p>Events are ordered by start time and then by ID. The continuation token records the start
+ * time and ID of the last event on the page, so the next page resumes right after it with a seek
+ * instead of re-reading the earlier pages. Tokens hold no reference to the calendar: events added
+ * or removed between pages are simply seen or not seen in their place in the order.
+ */
+public class EventPage {
+
+  /**
+   * The order of events across pages: by start time, then by ID.
+   */
+  static final Comparator<Event> PAGE_ORDER = Comparator.comparing(Event::getStartDateTime)
+          .thenComparing(Event::getId);
+
+  private final List<Event> events;
+  private final String nextPageToken;
+
+  /**
+   * Constructs a new EventPage.
+   *
+   * @param events        the events on this page, in page order
+   * @param nextPageToken the token of the next page, or null if this is the last page
+   */
+  public EventPage(List<Event> events, String nextPageToken) {
+    this.events = Collections.unmodifiableList(new ArrayList<>(events));
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Gets the events on this page.
+   *
+   * @return the events ordered by start time
+   */
+  public List<Event> getEvents() {
+    return events;
+  }
+
+  /**
+   * Gets the token that continues the query after this page.
+   *
+   * @return the token, or null if this is the last page
+   */
+  public String getNextPageToken() {
+    return nextPageToken;
+  }
+
+  /**
+   * Checks whether the query continues after this page.
+   *
+   * @return true if there is a next page
+   */
+  public boolean hasNext() {
+    return nextPageToken != null;
+  }
+
+  /**
+   * Creates the token that continues a query after an event.
+   *
+   * @param last the last event of a page
+   * @return the continuation token
+   */
+  static String tokenAfter(Event last) {
+    String position = last.getStartDateTime() + "|" + last.getId();
+    return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Reads the start time recorded in a continuation token.
+   *
+   * @param token the token
+   * @return the start time of the last event of the previous page
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  static LocalDateTime tokenStart(String token) {
+    return LocalDateTime.parse(decode(token)[0]);
+  }
+
+  /**
+   * Reads the event ID recorded in a continuation token.
+   *
+   * @param token the token
+   * @return the ID of the last event of the previous page
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  static UUID tokenId(String token) {
+    return UUID.fromString(decode(token)[1]);
+  }
+
+  /**
+   * Checks whether an event comes after a position in the page order.
+   *
+   * @param event      the event
+   * @param afterStart the start time of the position, or null for the start of the order
+   * @param afterId    the event ID of the position
+   * @return true if the event belongs after the position
+   */
+  static boolean isAfter(Event event, LocalDateTime afterStart, UUID afterId) {
+    if (afterStart == null) {
+      return true;
+    }
+    int byStart = event.getStartDateTime().compareTo(afterStart);
+    return byStart > 0 || (byStart == 0 && event.getId().compareTo(afterId) > 0);
+  }
+
+  private static String[] decode(String token) {
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+              .split("\\|");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid page token");
+      }
+      LocalDateTime.parse(parts[0]);
+      UUID.fromString(parts[1]);
+      return parts;
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid page token", e);
+    }
+  }
+}
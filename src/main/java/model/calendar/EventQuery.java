@@ -0,0 +1,404 @@
+package model.calendar;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import model.event.Event;
+import model.event.RecurringEvent;
+
+/**
+ * Declarative event filter that a calendar can plan against its indexes.
+ *
+ * <p>An {@code EventQuery} is an {@link EventFilter}, so it can be used anywhere a filter is
+ * expected and combined with plain lambda filters. Unlike a lambda, its structure is visible:
+ * a query is a tree of conditions on the time range, subject, location, visibility, all-day flag
+ * and series membership of an event, joined with {@link #and(EventFilter) and},
+ * {@link #or(EventFilter) or} and {@link #negate() not}. {@link Calendar#plan(EventQuery)} uses
+ * that structure to read candidates from the most selective index instead of scanning every
+ * event. Lambda filters mixed into a query are kept as opaque conditions and are always checked
+ * on the candidates.
+ *
+ * <p>Times are compared as stored by the calendar, which is in UTC.
+ */
+public abstract class EventQuery implements EventFilter {
+
+  /**
+   * Matches events that overlap a time range, inclusive at both ends.
+   *
+   * @param from the start of the range
+   * @param to   the end of the range
+   * @return the query
+   */
+  public static EventQuery during(LocalDateTime from, LocalDateTime to) {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Time range bounds cannot be null");
+    }
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("Start of time range cannot be after its end");
+    }
+    return new TimeRange(from, to);
+  }
+
+  /**
+   * Matches events with exactly the given subject.
+   *
+   * @param subject the subject
+   * @return the query
+   */
+  public static EventQuery subject(String subject) {
+    if (subject == null) {
+      throw new IllegalArgumentException("Subject cannot be null");
+    }
+    return new SubjectIs(subject);
+  }
+
+  /**
+   * Matches events with exactly the given location.
+   *
+   * @param location the location, or null for events without one
+   * @return the query
+   */
+  public static EventQuery location(String location) {
+    return new LocationIs(location);
+  }
+
+  /**
+   * Matches public or private events.
+   *
+   * @param isPublic true to match public events, false to match private ones
+   * @return the query
+   */
+  public static EventQuery isPublic(boolean isPublic) {
+    return new PublicIs(isPublic);
+  }
+
+  /**
+   * Matches all-day or timed events.
+   *
+   * @param allDay true to match all-day events, false to match timed ones
+   * @return the query
+   */
+  public static EventQuery allDay(boolean allDay) {
+    return new AllDayIs(allDay);
+  }
+
+  /**
+   * Matches events that belong to a recurring series, or events that do not.
+   *
+   * @param recurring true to match members of a series, false to match single events
+   * @return the query
+   */
+  public static EventQuery recurring(boolean recurring) {
+    return new RecurringIs(recurring);
+  }
+
+  /**
+   * Wraps a filter as a query. Queries are returned as they are; any other filter becomes an
+   * opaque condition that is checked on every candidate.
+   *
+   * @param filter the filter
+   * @return the query
+   */
+  public static EventQuery of(EventFilter filter) {
+    if (filter == null) {
+      throw new IllegalArgumentException("Filter cannot be null");
+    }
+    return filter instanceof EventQuery ? (EventQuery) filter : new Opaque(filter);
+  }
+
+  @Override
+  public EventQuery and(EventFilter other) {
+    return new And(this, of(other));
+  }
+
+  /**
+   * Returns a query that matches events matching this query or another filter.
+   *
+   * @param other the other filter
+   * @return the disjunction
+   */
+  public EventQuery or(EventFilter other) {
+    return new Or(this, of(other));
+  }
+
+  @Override
+  public EventQuery negate() {
+    return new Not(this);
+  }
+
+  /**
+   * Tests an event on its own. Without a calendar to ask, only {@link RecurringEvent} instances
+   * count as members of a series.
+   *
+   * @param event the event to test
+   * @return true if the event matches
+   */
+  @Override
+  public boolean matches(Event event) {
+    return matches(event, RecurringEvent.class::isInstance);
+  }
+
+  /**
+   * Tests an event, using the given test for series membership.
+   *
+   * @param event    the event to test
+   * @param inSeries tells whether an event belongs to a recurring series
+   * @return true if the event matches
+   */
+  abstract boolean matches(Event event, Predicate<Event> inSeries);
+
+  /**
+   * Gets the conditions that must all hold for this query to match. A conjunction returns its
+   * flattened operands; any other query returns itself.
+   *
+   * @return the conjuncts
+   */
+  List<EventQuery> conjuncts() {
+    return Collections.singletonList(this);
+  }
+
+  /**
+   * Joins queries into one conjunction.
+   *
+   * @param queries the queries, at least one
+   * @return the conjunction, or the query itself if there is only one
+   */
+  static EventQuery allOf(List<EventQuery> queries) {
+    EventQuery result = queries.get(0);
+    for (int i = 1; i < queries.size(); i++) {
+      result = new And(result, queries.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Matches events overlapping a time range.
+   */
+  static final class TimeRange extends EventQuery {
+    final LocalDateTime from;
+    final LocalDateTime to;
+
+    TimeRange(LocalDateTime from, LocalDateTime to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return !event.getEndDateTime().isBefore(from) && !event.getStartDateTime().isAfter(to);
+    }
+
+    @Override
+    public String toString() {
+      return "time overlaps [" + from + ", " + to + "]";
+    }
+  }
+
+  /**
+   * Matches events by subject.
+   */
+  static final class SubjectIs extends EventQuery {
+    final String subject;
+
+    SubjectIs(String subject) {
+      this.subject = subject;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return subject.equals(event.getSubject());
+    }
+
+    @Override
+    public String toString() {
+      return "subject = \"" + subject + "\"";
+    }
+  }
+
+  /**
+   * Matches events by location.
+   */
+  static final class LocationIs extends EventQuery {
+    final String location;
+
+    LocationIs(String location) {
+      this.location = location;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return Objects.equals(location, event.getLocation());
+    }
+
+    @Override
+    public String toString() {
+      return location == null ? "location is empty" : "location = \"" + location + "\"";
+    }
+  }
+
+  /**
+   * Matches events by visibility.
+   */
+  static final class PublicIs extends EventQuery {
+    final boolean isPublic;
+
+    PublicIs(boolean isPublic) {
+      this.isPublic = isPublic;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return event.isPublic() == isPublic;
+    }
+
+    @Override
+    public String toString() {
+      return isPublic ? "public" : "private";
+    }
+  }
+
+  /**
+   * Matches events by the all-day flag.
+   */
+  static final class AllDayIs extends EventQuery {
+    final boolean allDay;
+
+    AllDayIs(boolean allDay) {
+      this.allDay = allDay;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return event.isAllDay() == allDay;
+    }
+
+    @Override
+    public String toString() {
+      return allDay ? "all-day" : "timed";
+    }
+  }
+
+  /**
+   * Matches events by series membership.
+   */
+  static final class RecurringIs extends EventQuery {
+    final boolean recurring;
+
+    RecurringIs(boolean recurring) {
+      this.recurring = recurring;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return inSeries.test(event) == recurring;
+    }
+
+    @Override
+    public String toString() {
+      return recurring ? "recurring" : "single";
+    }
+  }
+
+  /**
+   * Matches events that match both operands.
+   */
+  static final class And extends EventQuery {
+    final EventQuery left;
+    final EventQuery right;
+
+    And(EventQuery left, EventQuery right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return left.matches(event, inSeries) && right.matches(event, inSeries);
+    }
+
+    @Override
+    List<EventQuery> conjuncts() {
+      List<EventQuery> conjuncts = new ArrayList<>(left.conjuncts());
+      conjuncts.addAll(right.conjuncts());
+      return conjuncts;
+    }
+
+    @Override
+    public String toString() {
+      List<String> parts = new ArrayList<>();
+      for (EventQuery conjunct : conjuncts()) {
+        parts.add(conjunct instanceof Or ? "(" + conjunct + ")" : conjunct.toString());
+      }
+      return String.join(" AND ", parts);
+    }
+  }
+
+  /**
+   * Matches events that match either operand.
+   */
+  static final class Or extends EventQuery {
+    final EventQuery left;
+    final EventQuery right;
+
+    Or(EventQuery left, EventQuery right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return left.matches(event, inSeries) || right.matches(event, inSeries);
+    }
+
+    @Override
+    public String toString() {
+      return left + " OR " + right;
+    }
+  }
+
+  /**
+   * Matches events that do not match the operand.
+   */
+  static final class Not extends EventQuery {
+    final EventQuery operand;
+
+    Not(EventQuery operand) {
+      this.operand = operand;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return !operand.matches(event, inSeries);
+    }
+
+    @Override
+    public String toString() {
+      return "NOT (" + operand + ")";
+    }
+  }
+
+  /**
+   * Matches events using a filter whose structure is not known.
+   */
+  static final class Opaque extends EventQuery {
+    final EventFilter filter;
+
+    Opaque(EventFilter filter) {
+      this.filter = filter;
+    }
+
+    @Override
+    boolean matches(Event event, Predicate<Event> inSeries) {
+      return filter.matches(event);
+    }
+
+    @Override
+    public String toString() {
+      return "<filter>";
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package model.calendar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import model.event.Event;
+
+/**
+ * Inverted full-text index over the subject, description and location of a calendar's events.
+ *
+ * <p>Text is split into lower-case terms of letters and digits. For every term the index keeps a
+ * posting map from event to a weight, which is the number of times the term occurs in the event,
+ * counting a match in the subject {@value #SUBJECT_WEIGHT} times and one in the location
+ * {@value #LOCATION_WEIGHT} times. A query matches the events that contain all of its terms; the
+ * lookup starts from the term with the fewest postings and probes the others, so its cost
+ * depends on how many events contain the rarest term rather than on the size of the calendar.
+ *
+ * <p>Matches are ranked by the sum of their term weights, each scaled by the inverse document
+ * frequency of the term, with earlier events first on equal scores. Only the matches up to the
+ * end of the requested page are kept in a bounded heap, so a page near the start of a large
+ * result is returned without sorting the whole result.
+ *
+ * <p>The index holds the same {@link Event} instances as the calendar and remembers the terms it
+ * indexed each event under, so an event can be removed even if its text was changed in place.
+ */
+public class EventSearchIndex {
+
+  private static final int SUBJECT_WEIGHT = 3;
+  private static final int LOCATION_WEIGHT = 2;
+  private static final int DESCRIPTION_WEIGHT = 1;
+
+  private final Map<String, Map<Event, Integer>> postings;
+  private final Map<Event, String[]> termsByEvent;
+
+  /**
+   * Constructs an empty index.
+   */
+  public EventSearchIndex() {
+    this.postings = new HashMap<>();
+    this.termsByEvent = new IdentityHashMap<>();
+  }
+
+  /**
+   * Adds an event to the index.
+   *
+   * @param event the event to add
+   */
+  public void add(Event event) {
+    Map<String, Integer> weights = new HashMap<>();
+    addTerms(weights, event.getSubject(), SUBJECT_WEIGHT);
+    addTerms(weights, event.getLocation(), LOCATION_WEIGHT);
+    addTerms(weights, event.getDescription(), DESCRIPTION_WEIGHT);
+
+    for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+      postings.computeIfAbsent(entry.getKey(), term -> new IdentityHashMap<>())
+              .put(event, entry.getValue());
+    }
+    termsByEvent.put(event, weights.keySet().toArray(new String[0]));
+  }
+
+  /**
+   * Removes an event instance from the index.
+   *
+   * @param event the event to remove
+   * @return true if the event was indexed
+   */
+  public boolean remove(Event event) {
+    String[] terms = termsByEvent.remove(event);
+    if (terms == null) {
+      return false;
+    }
+    for (String term : terms) {
+      Map<Event, Integer> posting = postings.get(term);
+      if (posting != null) {
+        posting.remove(event);
+        if (posting.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the number of indexed events.
+   *
+   * @return the number of events
+   */
+  public int size() {
+    return termsByEvent.size();
+  }
+
+  /**
+   * Searches the index.
+   *
+   * @param query  the query text; every term in it must match
+   * @param filter further condition the matching events must satisfy, or null for none
+   * @param offset the number of ranked matches to skip
+   * @param limit  the largest number of matches to return
+   * @return the requested page of ranked matches
+   */
+  public SearchResult search(String query, Predicate<Event> filter, int offset, int limit) {
+    if (offset < 0 || limit < 0) {
+      throw new IllegalArgumentException("Offset and limit cannot be negative");
+    }
+    List<String> terms = tokenize(query);
+    if (terms.isEmpty()) {
+      return new SearchResult(new ArrayList<>(), 0, offset);
+    }
+
+    List<Map<Event, Integer>> termPostings = new ArrayList<>(terms.size());
+    for (String term : terms) {
+      Map<Event, Integer> posting = postings.get(term);
+      if (posting == null) {
+        return new SearchResult(new ArrayList<>(), 0, offset);
+      }
+      termPostings.add(posting);
+    }
+    termPostings.sort(Comparator.comparingInt(Map::size));
+
+    double[] idf = new double[termPostings.size()];
+    for (int i = 0; i < idf.length; i++) {
+      idf[i] = Math.log(1.0 + (double) size() / termPostings.get(i).size());
+    }
+
+    int keep = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+    PriorityQueue<Hit> best = new PriorityQueue<>(Math.max(1, Math.min(keep, 1024)),
+            Hit.RANKING.reversed());
+    int total = 0;
+    for (Map.Entry<Event, Integer> candidate : termPostings.get(0).entrySet()) {
+      Event event = candidate.getKey();
+      double score = candidate.getValue() * idf[0];
+      boolean matches = true;
+      for (int i = 1; i < termPostings.size() && matches; i++) {
+        Integer weight = termPostings.get(i).get(event);
+        if (weight == null) {
+          matches = false;
+        } else {
+          score += weight * idf[i];
+        }
+      }
+      if (!matches || (filter != null && !filter.test(event))) {
+        continue;
+      }
+
+      total++;
+      if (keep == 0) {
+        continue;
+      }
+      Hit hit = new Hit(event, score);
+      if (best.size() < keep) {
+        best.add(hit);
+      } else if (Hit.RANKING.compare(hit, best.peek()) < 0) {
+        best.poll();
+        best.add(hit);
+      }
+    }
+
+    Hit[] ranked = best.toArray(new Hit[0]);
+    Arrays.sort(ranked, Hit.RANKING);
+    List<Event> page = new ArrayList<>();
+    for (int i = offset; i < ranked.length; i++) {
+      page.add(ranked[i].event);
+    }
+    return new SearchResult(page, total, offset);
+  }
+
+  /**
+   * Splits text into distinct lower-case search terms made of letters and digits.
+   *
+   * @param text the text to split, may be null
+   * @return the terms in order of first appearance
+   */
+  public static List<String> tokenize(String text) {
+    Set<String> terms = new LinkedHashSet<>();
+    forEachTerm(text, terms::add);
+    return new ArrayList<>(terms);
+  }
+
+  private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+    forEachTerm(text, term -> weights.merge(term, weight, Integer::sum));
+  }
+
+  private static void forEachTerm(String text, Consumer<String> action) {
+    if (text == null) {
+      return;
+    }
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean termChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+      if (termChar && start < 0) {
+        start = i;
+      } else if (!termChar && start >= 0) {
+        action.accept(text.substring(start, i).toLowerCase());
+        start = -1;
+      }
+    }
+  }
+
+  /**
+   * A matching event with its score.
+   */
+  private static class Hit {
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparingDouble((Hit hit) -> -hit.score)
+            .thenComparing(hit -> hit.event.getStartDateTime());
+
+    private final Event event;
+    private final double score;
+
+    Hit(Event event, double score) {
+      this.event = event;
+      this.score = score;
+    }
+  }
+}
@@ -0,0 +1,301 @@
+package model.calendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import model.event.Event;
+import model.event.RecurringEvent;
+
+/**
+ * Event storage of a calendar that can be shared copy-on-write between calendars.
+ *
+ * <p>A copied calendar starts out pointing at the same store as its source, so copying is
+ * constant time regardless of how many events the calendar holds. The store counts the calendars
+ * that point at it; a calendar that wants to write to a shared store first takes a private
+ * {@link #detach() copy} of it and writes to that instead. Once only one calendar is left on a
+ * store, that calendar writes to it in place.
+ *
+ * <p>Stored occurrences of recurring series are also grouped by the ID of their series, so that
+ * the members of one series can be found without looking at any other event. Stored events are
+ * indexed by start time, by local day, by subject and by the words of their text. Local days are
+ * kept in the calendar's timezone and, once a view has asked for them, in that view's timezone.
+ *
+ * <p>Detaching copies the stored {@link Event} instances and recurring event definitions as well,
+ * since events are mutable and property edits change them in place. Calendars read a shared store
+ * without detaching it and hand out copies of its events instead, so no instance is ever
+ * reachable from two calendars and sharing lasts until the first write. A calendar that is
+ * discarded {@link #release() releases} its claim, so the last calendar left on a store goes back
+ * to writing in place.
+ */
+class EventStore {
+
+  final List<Event> events;
+  final List<RecurringEvent> recurringEvents;
+  final Map<UUID, Event> eventById;
+  final Map<UUID, RecurringEvent> recurringEventById;
+  final Map<UUID, List<Event>> occurrencesBySeries;
+  final Map<UUID, UUID> seriesByEventId;
+  final EventTimeIndex timeIndex;
+  final EventSubjectIndex subjectIndex;
+  final EventSearchIndex searchIndex;
+  private volatile DaySummaryIndex dayIndex;
+  private volatile DaySummaryIndex displayIndex;
+  private String timezone;
+  private final AtomicInteger owners;
+
+  /**
+   * Constructs an empty store owned by a single calendar.
+   *
+   * @param timezone the calendar's timezone, used to group events into local days
+   */
+  EventStore(String timezone) {
+    this.events = new ArrayList<>();
+    this.recurringEvents = new ArrayList<>();
+    this.eventById = new HashMap<>();
+    this.recurringEventById = new HashMap<>();
+    this.occurrencesBySeries = new HashMap<>();
+    this.seriesByEventId = new HashMap<>();
+    this.timeIndex = new EventTimeIndex();
+    this.subjectIndex = new EventSubjectIndex();
+    this.searchIndex = new EventSearchIndex();
+    this.dayIndex = new DaySummaryIndex(timezone);
+    this.timezone = timezone;
+    this.owners = new AtomicInteger(1);
+  }
+
+  /**
+   * Adds a stored event and indexes it.
+   *
+   * @param event the event, with times stored in UTC
+   */
+  void add(Event event) {
+    events.add(event);
+    eventById.put(event.getId(), event);
+    index(event);
+  }
+
+  /**
+   * Adds a stored event that belongs to a recurring series and indexes it.
+   *
+   * @param event    the event, with times stored in UTC
+   * @param seriesId the recurring ID of the series, or null for a single event
+   */
+  void add(Event event, UUID seriesId) {
+    add(event);
+    if (seriesId != null) {
+      occurrencesBySeries.computeIfAbsent(seriesId, id -> new ArrayList<>()).add(event);
+      seriesByEventId.put(event.getId(), seriesId);
+    }
+  }
+
+  /**
+   * Removes a stored event instance and its index entries.
+   *
+   * @param event the event to remove
+   */
+  void remove(Event event) {
+    for (int i = 0; i < events.size(); i++) {
+      if (events.get(i) == event) {
+        events.remove(i);
+        break;
+      }
+    }
+    if (eventById.get(event.getId()) == event) {
+      eventById.remove(event.getId());
+      removeFromSeries(event);
+    }
+    unindex(event);
+  }
+
+  private void removeFromSeries(Event event) {
+    UUID seriesId = seriesByEventId.remove(event.getId());
+    List<Event> occurrences = seriesId != null ? occurrencesBySeries.get(seriesId) : null;
+    if (occurrences == null) {
+      return;
+    }
+    for (int i = 0; i < occurrences.size(); i++) {
+      if (occurrences.get(i) == event) {
+        occurrences.remove(i);
+        break;
+      }
+    }
+    if (occurrences.isEmpty()) {
+      occurrencesBySeries.remove(seriesId);
+    }
+  }
+
+  /**
+   * Removes an event from the indexes without removing it from the store. Call this before
+   * changing an event in place, and {@link #index(Event)} afterwards.
+   *
+   * @param event the event about to change
+   * @return true if the event was indexed
+   */
+  boolean unindex(Event event) {
+    boolean indexed = timeIndex.remove(event);
+    subjectIndex.remove(event);
+    searchIndex.remove(event);
+    dayIndex.remove(event);
+    DaySummaryIndex display = displayIndex;
+    if (display != null) {
+      display.remove(event);
+    }
+    return indexed;
+  }
+
+  /**
+   * Adds an event to the indexes.
+   *
+   * @param event the event, with times stored in UTC
+   */
+  void index(Event event) {
+    timeIndex.add(event);
+    subjectIndex.add(event);
+    searchIndex.add(event);
+    dayIndex.add(event);
+    DaySummaryIndex display = displayIndex;
+    if (display != null) {
+      display.add(event);
+    }
+  }
+
+  /**
+   * Gets the summary of a local day.
+   *
+   * @param date the date in the calendar's timezone
+   * @return the summary of the day
+   */
+  DaySummary getDaySummary(LocalDate date) {
+    return dayIndex.get(date);
+  }
+
+  /**
+   * Gets the summary of a local day in any timezone. The first request for a timezone other
+   * than the calendar's builds a second day index for it, which is then kept up to date
+   * alongside the first; a request for yet another timezone replaces it.
+   *
+   * @param date     the date in the given timezone
+   * @param timezone the timezone in which events are grouped into days
+   * @return the summary of the day
+   */
+  DaySummary getDaySummary(LocalDate date, String timezone) {
+    return dayIndexFor(timezone).get(date);
+  }
+
+  private DaySummaryIndex dayIndexFor(String timezone) {
+    if (timezone.equals(this.timezone)) {
+      return dayIndex;
+    }
+    DaySummaryIndex display = displayIndex;
+    if (display == null || !display.getTimezone().equals(timezone)) {
+      display = build(timezone);
+      displayIndex = display;
+    }
+    return display;
+  }
+
+  private DaySummaryIndex build(String timezone) {
+    DaySummaryIndex index = new DaySummaryIndex(timezone);
+    for (Event event : events) {
+      index.add(event);
+    }
+    return index;
+  }
+
+  /**
+   * Gets the timezone used to group events into local days.
+   *
+   * @return the timezone identifier
+   */
+  String getTimezone() {
+    return timezone;
+  }
+
+  /**
+   * Regroups the events into local days for a new timezone.
+   *
+   * @param timezone the calendar's new timezone
+   */
+  void setTimezone(String timezone) {
+    if (timezone.equals(this.timezone)) {
+      return;
+    }
+    DaySummaryIndex display = displayIndex;
+    if (display != null && display.getTimezone().equals(timezone)) {
+      // The view's index already groups days the new way
+      this.dayIndex = display;
+      this.displayIndex = null;
+    } else {
+      this.dayIndex = build(timezone);
+    }
+    this.timezone = timezone;
+  }
+
+  /**
+   * Registers another calendar as an owner of this store.
+   *
+   * @return this store
+   */
+  EventStore share() {
+    owners.incrementAndGet();
+    return this;
+  }
+
+  /**
+   * Checks whether more than one calendar currently points at this store.
+   *
+   * @return true if the store is shared
+   */
+  boolean isShared() {
+    return owners.get() > 1;
+  }
+
+  /**
+   * Gets a store that only the calling owner points at, for a modification. The last owner of a
+   * store keeps it and writes it in place. Any other owner copies the store and then gives up
+   * its claim with a compare-and-set on the owner count, so two owners detaching at the same
+   * time cannot both leave the original behind: the second one to give up its claim finds it
+   * has become the last owner and keeps the original, and no owner writes a store in place while
+   * another is still copying it.
+   *
+   * @return this store if the caller is its only owner, otherwise a copy owned only by the
+   *         caller
+   */
+  EventStore detach() {
+    while (true) {
+      int current = owners.get();
+      if (current == 1) {
+        return this;
+      }
+      EventStore copy = copy();
+      if (owners.compareAndSet(current, current - 1)) {
+        return copy;
+      }
+    }
+  }
+
+  private EventStore copy() {
+    EventStore copy = new EventStore(timezone);
+    for (Event event : events) {
+      copy.add(event.copy(), seriesByEventId.get(event.getId()));
+    }
+    for (RecurringEvent recurringEvent : recurringEvents) {
+      RecurringEvent recurringCopy = recurringEvent.copy();
+      copy.recurringEvents.add(recurringCopy);
+      copy.recurringEventById.put(recurringCopy.getId(), recurringCopy);
+    }
+    return copy;
+  }
+
+  /**
+   * Releases the claim of a calendar that no longer uses this store.
+   */
+  void release() {
+    owners.decrementAndGet();
+  }
+}
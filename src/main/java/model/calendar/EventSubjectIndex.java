@@ -0,0 +1,162 @@
+package model.calendar;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import model.event.Event;
+
+/**
+ * Index of a calendar's events by subject, with the events of each subject ordered by UTC start
+ * time.
+ *
+ * <p>Looking up a subject is a hash lookup, and the events of that subject are kept in a
+ * {@link TreeMap} keyed by start date-time. Finding the event with a given subject and start is
+ * therefore a log-time seek, and finding every event of a subject from a given time on is a seek
+ * followed by a walk over the tail.
+ *
+ * <p>The index holds the same {@link Event} instances as the calendar. Callers that change an
+ * event's subject or start time must remove it before the change and add it again afterwards.
+ */
+public class EventSubjectIndex {
+
+  private final Map<String, NavigableMap<LocalDateTime, List<Event>>> bySubject;
+  private final Map<String, Integer> counts;
+  private int size;
+
+  /**
+   * Constructs an empty index.
+   */
+  public EventSubjectIndex() {
+    this.bySubject = new HashMap<>();
+    this.counts = new HashMap<>();
+    this.size = 0;
+  }
+
+  /**
+   * Adds an event to the index.
+   *
+   * @param event the event to add
+   */
+  public void add(Event event) {
+    bySubject.computeIfAbsent(event.getSubject(), key -> new TreeMap<>())
+            .computeIfAbsent(event.getStartDateTime(), key -> new ArrayList<>(1))
+            .add(event);
+    counts.merge(event.getSubject(), 1, Integer::sum);
+    size++;
+  }
+
+  /**
+   * Removes an event instance from the index.
+   *
+   * <p>If the event's subject or start time was changed while it was indexed, the event is
+   * located by a full scan instead.
+   *
+   * @param event the event to remove
+   * @return true if the event was found and removed
+   */
+  public boolean remove(Event event) {
+    if (removeFrom(event.getSubject(), event.getStartDateTime(), event)) {
+      return true;
+    }
+    for (Map.Entry<String, NavigableMap<LocalDateTime, List<Event>>> subject
+            : bySubject.entrySet()) {
+      for (LocalDateTime start : subject.getValue().keySet()) {
+        if (removeFrom(subject.getKey(), start, event)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the number of indexed events.
+   *
+   * @return the number of events
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the number of indexed events with a subject.
+   *
+   * @param subject the subject
+   * @return the number of events
+   */
+  public int count(String subject) {
+    return counts.getOrDefault(subject, 0);
+  }
+
+  /**
+   * Finds an indexed event by subject and exact UTC start time.
+   *
+   * @param subject the subject
+   * @param start   the start date-time
+   * @return the first matching event, or null if there is none
+   */
+  public Event find(String subject, LocalDateTime start) {
+    NavigableMap<LocalDateTime, List<Event>> byStart = bySubject.get(subject);
+    List<Event> bucket = byStart != null ? byStart.get(start) : null;
+    return bucket != null ? bucket.get(0) : null;
+  }
+
+  /**
+   * Gets all indexed events with a subject.
+   *
+   * @param subject the subject
+   * @return the events ordered by start time
+   */
+  public List<Event> get(String subject) {
+    NavigableMap<LocalDateTime, List<Event>> byStart = bySubject.get(subject);
+    return byStart != null ? collect(byStart) : new ArrayList<>();
+  }
+
+  /**
+   * Gets the indexed events with a subject that start at or after a UTC date-time.
+   *
+   * @param subject the subject
+   * @param from    the earliest start date-time
+   * @return the events ordered by start time
+   */
+  public List<Event> getFrom(String subject, LocalDateTime from) {
+    NavigableMap<LocalDateTime, List<Event>> byStart = bySubject.get(subject);
+    return byStart != null ? collect(byStart.tailMap(from, true)) : new ArrayList<>();
+  }
+
+  private static List<Event> collect(NavigableMap<LocalDateTime, List<Event>> buckets) {
+    List<Event> result = new ArrayList<>();
+    for (List<Event> bucket : buckets.values()) {
+      result.addAll(bucket);
+    }
+    return result;
+  }
+
+  private boolean removeFrom(String subject, LocalDateTime start, Event event) {
+    NavigableMap<LocalDateTime, List<Event>> byStart = bySubject.get(subject);
+    List<Event> bucket = byStart != null ? byStart.get(start) : null;
+    if (bucket == null) {
+      return false;
+    }
+    for (int i = 0; i < bucket.size(); i++) {
+      if (bucket.get(i) == event) {
+        bucket.remove(i);
+        if (bucket.isEmpty()) {
+          byStart.remove(start);
+          if (byStart.isEmpty()) {
+            bySubject.remove(subject);
+          }
+        }
+        counts.computeIfPresent(subject, (key, count) -> count > 1 ? count - 1 : null);
+        size--;
+        return true;
+      }
+    }
+    return false;
+  }
+}
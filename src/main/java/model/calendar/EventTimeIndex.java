@@ -0,0 +1,316 @@
+package model.calendar;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import model.event.Event;
+
+/**
+ * Sorted index of a calendar's events ordered by UTC start time.
+ *
+ * <p>Events are bucketed by start date-time in a {@link TreeMap}, so range lookups are a
+ * log-time seek followed by a walk over the matching events. The index also tracks the longest
+ * event duration it has seen, which bounds how far before a range an overlapping event can
+ * start.
+ *
+ * <p>The index holds the same {@link Event} instances as the calendar. Callers that change an
+ * event's times must remove it before the change and add it again afterwards.
+ */
+public class EventTimeIndex {
+
+  private static final Comparator<Event> BY_START =
+          Comparator.comparing(Event::getStartDateTime);
+  private static final Comparator<Event> BY_END =
+          Comparator.comparingLong(Event::getEndEpochSecond);
+
+  private final NavigableMap<LocalDateTime, List<Event>> byStart;
+  private long maxDurationSeconds;
+  private int size;
+
+  /**
+   * Constructs an empty index.
+   */
+  public EventTimeIndex() {
+    this.byStart = new TreeMap<>();
+    this.maxDurationSeconds = 0;
+    this.size = 0;
+  }
+
+  /**
+   * Adds an event to the index.
+   *
+   * @param event the event to add
+   */
+  public void add(Event event) {
+    byStart.computeIfAbsent(event.getStartDateTime(), key -> new ArrayList<>(1)).add(event);
+    long duration = Duration.between(event.getStartDateTime(), event.getEndDateTime())
+            .getSeconds();
+    if (duration > maxDurationSeconds) {
+      maxDurationSeconds = duration;
+    }
+    size++;
+  }
+
+  /**
+   * Removes an event instance from the index.
+   *
+   * <p>If the event's start time was changed while it was indexed, the event is located by a
+   * full scan instead of by its start time.
+   *
+   * @param event the event to remove
+   * @return true if the event was found and removed
+   */
+  public boolean remove(Event event) {
+    if (removeFromBucket(event.getStartDateTime(), event)) {
+      return true;
+    }
+    for (Map.Entry<LocalDateTime, List<Event>> entry : byStart.entrySet()) {
+      if (removeFromBucket(entry.getKey(), event)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the number of indexed events.
+   *
+   * @return the number of events
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets all indexed events that overlap the given UTC interval (inclusive at both ends).
+   *
+   * @param from the start of the interval
+   * @param to   the end of the interval
+   * @return the overlapping events ordered by start time
+   */
+  public List<Event> getOverlapping(LocalDateTime from, LocalDateTime to) {
+    List<Event> result = new ArrayList<>();
+    LocalDateTime earliestStart = from.minusSeconds(maxDurationSeconds);
+    for (List<Event> bucket : byStart.subMap(earliestStart, true, to, true).values()) {
+      for (Event event : bucket) {
+        if (!event.getEndDateTime().isBefore(from)) {
+          result.add(event);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Estimates how many indexed events overlap the given UTC interval without visiting them. The
+   * estimate assumes event starts are spread evenly between the first and the last start time.
+   *
+   * @param from the start of the interval
+   * @param to   the end of the interval
+   * @return the estimated number of overlapping events
+   */
+  public int estimateOverlapping(LocalDateTime from, LocalDateTime to) {
+    if (byStart.isEmpty() || to.isBefore(from)) {
+      return 0;
+    }
+    LocalDateTime first = byStart.firstKey();
+    LocalDateTime last = byStart.lastKey();
+    LocalDateTime earliestStart = from.minusSeconds(maxDurationSeconds);
+    LocalDateTime low = earliestStart.isAfter(first) ? earliestStart : first;
+    LocalDateTime high = to.isBefore(last) ? to : last;
+    if (high.isBefore(low)) {
+      return 0;
+    }
+    long span = Duration.between(first, last).getSeconds();
+    if (span == 0) {
+      return size;
+    }
+    long covered = Duration.between(low, high).getSeconds();
+    return (int) Math.max(1, Math.min(size, Math.round((double) size * covered / span)));
+  }
+
+  /**
+   * Checks whether any indexed event conflicts with the given event.
+   *
+   * @param event the event to check
+   * @return true if an indexed event conflicts with it
+   */
+  public boolean hasConflict(Event event) {
+    for (Event existing : getOverlapping(event.getStartDateTime(), event.getEndDateTime())) {
+      if (event.conflictsWith(existing)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Finds which of a batch of candidate events would be rejected if they were inserted in order.
+   *
+   * <p>The candidates must be sorted by start time. The method performs a single merge-join
+   * sweep over the candidates and the indexed events: indexed events enter an active set once
+   * they start before the current candidate ends, and leave it once they end before the current
+   * candidate starts. A candidate is rejected if it conflicts with an active indexed event or
+   * with an earlier candidate that was accepted.
+   *
+   * @param sortedCandidates the candidate events, sorted by start time
+   * @return a bit set in which bit {@code i} is set if candidate {@code i} conflicts
+   */
+  public BitSet findConflicts(List<Event> sortedCandidates) {
+    BitSet rejected = new BitSet(sortedCandidates.size());
+    if (sortedCandidates.isEmpty()) {
+      return rejected;
+    }
+
+    LocalDateTime sweepStart = sortedCandidates.get(0).getStartDateTime()
+            .minusSeconds(maxDurationSeconds);
+    Iterator<Event> indexed = flatten(byStart.tailMap(sweepStart, true));
+    Event next = indexed.hasNext() ? indexed.next() : null;
+
+    PriorityQueue<Event> active = new PriorityQueue<>(BY_END);
+    for (int i = 0; i < sortedCandidates.size(); i++) {
+      Event candidate = sortedCandidates.get(i);
+
+      // Whole seconds are compared here: an event that starts later in the same second as the
+      // candidate ends only joins the active set early, and conflictsWith decides exactly
+      long candidateStart = candidate.getStartEpochSecond();
+      long candidateEnd = candidate.getEndEpochSecond();
+      while (next != null && next.getStartEpochSecond() <= candidateEnd) {
+        active.add(next);
+        next = indexed.hasNext() ? indexed.next() : null;
+      }
+      while (!active.isEmpty() && active.peek().getEndEpochSecond() < candidateStart) {
+        active.poll();
+      }
+
+      boolean conflict = false;
+      for (Event existing : active) {
+        if (candidate.conflictsWith(existing)) {
+          conflict = true;
+          break;
+        }
+      }
+
+      if (conflict) {
+        rejected.set(i);
+      } else {
+        active.add(candidate);
+      }
+    }
+    return rejected;
+  }
+
+  /**
+   * Iterates over all indexed events in start-time order.
+   *
+   * @return an iterator over the indexed events
+   */
+  public Iterator<Event> iterator() {
+    return flatten(byStart);
+  }
+
+  /**
+   * Iterates lazily over the indexed events that overlap the given UTC interval (inclusive at both
+   * ends), in start-time order.
+   *
+   * <p>The iterator walks the underlying index directly, so it must be consumed before the index
+   * is modified.
+   *
+   * @param from the start of the interval
+   * @param to   the end of the interval
+   * @return an iterator over the overlapping events
+   */
+  public Iterator<Event> iterator(LocalDateTime from, LocalDateTime to) {
+    LocalDateTime earliestStart = from.minusSeconds(maxDurationSeconds);
+    return byStart.subMap(earliestStart, true, to, true).values().stream()
+            .flatMap(List::stream)
+            .filter(event -> !event.getEndDateTime().isBefore(from))
+            .iterator();
+  }
+
+  /**
+   * Gets up to {@code limit} indexed events that overlap the given UTC interval (inclusive at
+   * both ends) and come after a position in start time and ID order.
+   *
+   * <p>The walk seeks straight to the later of the position and the earliest start that can
+   * overlap the interval, so its cost depends on the page size rather than on how far into the
+   * interval the page is.
+   *
+   * @param from       the start of the interval
+   * @param to         the end of the interval
+   * @param afterStart the start time of the position, or null to start at the beginning
+   * @param afterId    the event ID of the position, ignored if {@code afterStart} is null
+   * @param limit      the largest number of events to return
+   * @return the events ordered by start time and then by ID
+   */
+  public List<Event> page(LocalDateTime from, LocalDateTime to, LocalDateTime afterStart,
+                          UUID afterId, int limit) {
+    List<Event> result = new ArrayList<>(Math.min(limit, 256));
+    LocalDateTime seek = from.minusSeconds(maxDurationSeconds);
+    if (afterStart != null && afterStart.isAfter(seek)) {
+      seek = afterStart;
+    }
+    if (seek.isAfter(to)) {
+      return result;
+    }
+
+    for (List<Event> bucket : byStart.subMap(seek, true, to, true).values()) {
+      List<Event> ordered = bucket;
+      if (bucket.size() > 1) {
+        ordered = new ArrayList<>(bucket);
+        ordered.sort(Comparator.comparing(Event::getId));
+      }
+      for (Event event : ordered) {
+        if (!event.getEndDateTime().isBefore(from)
+                && EventPage.isAfter(event, afterStart, afterId)) {
+          result.add(event);
+          if (result.size() == limit) {
+            return result;
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets a comparator that orders events by start time, matching the index order.
+   *
+   * @return the start-time comparator
+   */
+  public static Comparator<Event> startOrder() {
+    return BY_START;
+  }
+
+  private static Iterator<Event> flatten(NavigableMap<LocalDateTime, List<Event>> buckets) {
+    return buckets.values().stream().flatMap(List::stream).iterator();
+  }
+
+  private boolean removeFromBucket(LocalDateTime start, Event event) {
+    List<Event> bucket = byStart.get(start);
+    if (bucket == null) {
+      return false;
+    }
+    for (int i = 0; i < bucket.size(); i++) {
+      if (bucket.get(i) == event) {
+        bucket.remove(i);
+        if (bucket.isEmpty()) {
+          byStart.remove(start);
+        }
+        size--;
+        return true;
+      }
+    }
+    return false;
+  }
+}
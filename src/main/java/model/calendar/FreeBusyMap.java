@@ -0,0 +1,286 @@
+package model.calendar;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import model.event.Event;
+import model.event.Intervals;
+import utilities.ZoneOffsetCursor;
+
+/**
+ * Minute-granularity free/busy bitmap over a fixed window for one or more calendars.
+ *
+ * <p>Bit {@code i} is set if any of the calendars has an event during minute {@code i} of the
+ * window. The bitmap is a {@link BitSet}, which packs 64 minutes into each word, so a month of
+ * availability takes about 5 KB however many events produced it. Once it is built, availability
+ * questions are answered with bit lookups and word scans instead of walking events: "is busy" is
+ * a single bit test, and busy intervals and free slots come from jumping between set and clear
+ * bits.
+ *
+ * <p>Events occupy the half-open interval {@code [start, end)}, rounded outwards to whole
+ * minutes. The window and all query arguments and results are local date-times in the map's
+ * timezone; internally the window is laid out in UTC minutes, so DST changes inside the window
+ * are handled exactly.
+ *
+ * <p>The map is a snapshot: it does not see events added to the calendars after it was built.
+ */
+public class FreeBusyMap {
+
+  private final ZoneOffsetCursor zone;
+  private final LocalDateTime windowStart;
+  private final LocalDateTime windowEnd;
+  private final long firstMinute;
+  private final int minutes;
+  private final BitSet busy;
+
+  /**
+   * Constructs an empty map in which the whole window is free.
+   *
+   * @param timezone    the timezone in which the window and queries are expressed
+   * @param windowStart the start of the window (inclusive)
+   * @param windowEnd   the end of the window (exclusive)
+   * @throws IllegalArgumentException if the timezone is invalid or the window is empty
+   */
+  public FreeBusyMap(String timezone, LocalDateTime windowStart, LocalDateTime windowEnd) {
+    if (windowStart == null || windowEnd == null) {
+      throw new IllegalArgumentException("Window bounds cannot be null");
+    }
+    if (!windowStart.isBefore(windowEnd)) {
+      throw new IllegalArgumentException("Window start must be before window end");
+    }
+
+    this.zone = new ZoneOffsetCursor(timezone);
+    this.windowStart = windowStart;
+    this.windowEnd = windowEnd;
+    this.firstMinute = floorMinute(zone.toUTC(windowStart));
+    long lastMinute = ceilMinute(zone.toUTC(windowEnd));
+    if (lastMinute - firstMinute > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Window is too large");
+    }
+    this.minutes = (int) (lastMinute - firstMinute);
+    this.busy = new BitSet(minutes);
+  }
+
+  /**
+   * Builds the combined free/busy map of several calendars over a window.
+   *
+   * @param calendars   the calendars whose events make the time busy
+   * @param timezone    the timezone in which the window and queries are expressed
+   * @param windowStart the start of the window (inclusive)
+   * @param windowEnd   the end of the window (exclusive)
+   * @return the free/busy map
+   */
+  public static FreeBusyMap forCalendars(Collection<? extends Calendar> calendars,
+                                         String timezone, LocalDateTime windowStart,
+                                         LocalDateTime windowEnd) {
+    FreeBusyMap map = new FreeBusyMap(timezone, windowStart, windowEnd);
+    LocalDateTime fromUTC = map.toUTC(map.firstMinute);
+    LocalDateTime toUTC = map.toUTC(map.firstMinute + map.minutes);
+    for (Calendar calendar : calendars) {
+      Iterator<Event> events = calendar.getEventCursorBetween(fromUTC, toUTC);
+      while (events.hasNext()) {
+        map.markBusy(events.next());
+      }
+    }
+    return map;
+  }
+
+  /**
+   * Marks the time of an event as busy. Parts of the event outside the window are ignored.
+   *
+   * @param utcEvent the event, with times stored in UTC
+   */
+  public void markBusy(Event utcEvent) {
+    long start = floorMinute(utcEvent.getStartDateTime()) - firstMinute;
+    long end = ceilMinute(utcEvent.getEndDateTime()) - firstMinute;
+    // An instantaneous event still occupies the minute it happens in
+    end = Math.max(end, start + 1);
+    if (!Intervals.overlaps(start, end, 0, minutes)) {
+      return;
+    }
+    busy.set((int) Math.max(start, 0), (int) Math.min(end, minutes));
+  }
+
+  /**
+   * Merges the busy time of another map over the same window into this one.
+   *
+   * @param other the map to merge
+   * @throws IllegalArgumentException if the maps do not cover the same UTC window
+   */
+  public void union(FreeBusyMap other) {
+    if (other.firstMinute != firstMinute || other.minutes != minutes) {
+      throw new IllegalArgumentException("Free/busy maps must cover the same window");
+    }
+    busy.or(other.busy);
+  }
+
+  /**
+   * Checks whether the given time is busy.
+   *
+   * @param dateTime the local date-time to check
+   * @return true if any event covers the minute containing the given time
+   * @throws IllegalArgumentException if the time is outside the window
+   */
+  public boolean isBusy(LocalDateTime dateTime) {
+    return busy.get(indexOf(dateTime));
+  }
+
+  /**
+   * Gets the busy time within the window as a list of maximal busy intervals.
+   *
+   * @return the busy intervals in chronological order
+   */
+  public List<Interval> getBusyIntervals() {
+    List<Interval> intervals = new ArrayList<>();
+    int start = busy.nextSetBit(0);
+    while (start >= 0 && start < minutes) {
+      int end = busy.nextClearBit(start);
+      intervals.add(new Interval(toLocal(start), toLocal(end)));
+      start = busy.nextSetBit(end);
+    }
+    return intervals;
+  }
+
+  /**
+   * Finds the earliest free slot of the given length that lies within a single day whose weekday
+   * is one of the given days.
+   *
+   * <p>The search only visits the boundaries of free runs and of days, so its cost depends on the
+   * number of busy intervals rather than on the number of minutes in the window.
+   *
+   * @param length the length of the slot
+   * @param days   the weekdays on which the slot may fall
+   * @return the local start of the earliest matching slot, or null if there is none
+   */
+  public LocalDateTime findFirstFreeSlot(Duration length, Set<DayOfWeek> days) {
+    if (length == null || length.isNegative() || length.isZero()) {
+      throw new IllegalArgumentException("Slot length must be positive");
+    }
+    if (days == null || days.isEmpty()) {
+      return null;
+    }
+
+    long slotMinutes = (length.getSeconds() + 59) / 60;
+    int runStart = busy.nextClearBit(0);
+    while (runStart < minutes) {
+      int runEnd = Math.min(nextSetBit(runStart), minutes);
+      long candidate = runStart;
+      while (candidate + slotMinutes <= runEnd) {
+        LocalDateTime local = toLocal(candidate);
+        long dayEnd = floorMinute(zone.toUTC(local.toLocalDate().plusDays(1).atStartOfDay()))
+                - firstMinute;
+        if (days.contains(local.getDayOfWeek())
+                && candidate + slotMinutes <= Math.min(dayEnd, runEnd)) {
+          return local;
+        }
+        candidate = dayEnd;
+      }
+      runStart = busy.nextClearBit(runEnd);
+    }
+    return null;
+  }
+
+  /**
+   * Gets the start of the window.
+   *
+   * @return the local start of the window
+   */
+  public LocalDateTime getWindowStart() {
+    return windowStart;
+  }
+
+  /**
+   * Gets the end of the window.
+   *
+   * @return the local end of the window
+   */
+  public LocalDateTime getWindowEnd() {
+    return windowEnd;
+  }
+
+  private int nextSetBit(int from) {
+    int next = busy.nextSetBit(from);
+    return next < 0 ? minutes : next;
+  }
+
+  private int indexOf(LocalDateTime dateTime) {
+    if (dateTime == null) {
+      throw new IllegalArgumentException("DateTime cannot be null");
+    }
+    long index = floorMinute(zone.toUTC(dateTime)) - firstMinute;
+    if (index < 0 || index >= minutes) {
+      throw new IllegalArgumentException("Time is outside the free/busy window: " + dateTime);
+    }
+    return (int) index;
+  }
+
+  private LocalDateTime toLocal(long index) {
+    return zone.fromUTC(toUTC(firstMinute + index));
+  }
+
+  private LocalDateTime toUTC(long epochMinute) {
+    return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+  }
+
+  private static long floorMinute(LocalDateTime utc) {
+    return Math.floorDiv(utc.toEpochSecond(ZoneOffset.UTC), 60);
+  }
+
+  private static long ceilMinute(LocalDateTime utc) {
+    long seconds = utc.toEpochSecond(ZoneOffset.UTC);
+    if (utc.getNano() > 0) {
+      seconds++;
+    }
+    return Math.floorDiv(seconds + 59, 60);
+  }
+
+  /**
+   * A busy interval, expressed as local date-times in the map's timezone.
+   */
+  public static class Interval {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Constructs a new Interval.
+     *
+     * @param start the start of the interval (inclusive)
+     * @param end   the end of the interval (exclusive)
+     */
+    public Interval(LocalDateTime start, LocalDateTime end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * Gets the start of the interval.
+     *
+     * @return the inclusive start
+     */
+    public LocalDateTime getStart() {
+      return start;
+    }
+
+    /**
+     * Gets the end of the interval.
+     *
+     * @return the exclusive end
+     */
+    public LocalDateTime getEnd() {
+      return end;
+    }
+
+    @Override
+    public String toString() {
+      return start + " - " + end;
+    }
+  }
+}
@@ -3,6 +3,9 @@ package model.calendar;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.TimeZone;
 import java.util.UUID;
@@ -13,6 +16,7 @@ import model.exceptions.ConflictingEventException;
 import model.exceptions.EventNotFoundException;
 import model.exceptions.InvalidEventException;
 import model.export.IDataExporter;
+import utilities.TimeZoneHandler;
 
 /**
  * Interface defining the core functionality of a calendar system.
@@ -60,6 +64,43 @@ public interface ICalendar {
    */
   boolean addEvent(Event event, boolean autoDecline) throws ConflictingEventException;
 
+  /**
+   * Adds a batch of events to the calendar.
+   *
+   * <p>The events are given in this calendar's timezone, as for
+   * {@link #addEvent(Event, boolean)}. The result has one bit per event, in the iteration order
+   * of the collection, and bit {@code i} is set if event {@code i} was not added. The default
+   * implementation adds the events one at a time in that order and treats an event that
+   * {@code addEvent} refuses as rejected; calendars with a time index sort the batch once and
+   * find every conflict in a single sweep.
+   *
+   * @param events the events to add
+   * @param policy how events that conflict are treated
+   * @return a bit set of the events that were rejected
+   * @throws IllegalArgumentException if the collection, an event or the policy is null
+   */
+  default BitSet addEvents(Collection<Event> events, ConflictPolicy policy) {
+    if (events == null || policy == null) {
+      throw new IllegalArgumentException("Events and conflict policy cannot be null");
+    }
+    if (events.contains(null)) {
+      throw new IllegalArgumentException("Event cannot be null");
+    }
+    BitSet rejected = new BitSet(events.size());
+    int position = 0;
+    for (Event event : events) {
+      try {
+        if (!addEvent(event, policy == ConflictPolicy.ALLOW)) {
+          rejected.set(position);
+        }
+      } catch (ConflictingEventException | IllegalArgumentException e) {
+        rejected.set(position);
+      }
+      position++;
+    }
+    return rejected;
+  }
+
   /**
    * Adds a recurring event to the calendar with optional conflict checking.
    *
@@ -164,6 +205,78 @@ public interface ICalendar {
    */
   List<Event> getEventsInRange(LocalDate startDate, LocalDate endDate);
 
+  /**
+   * Gets one page of the events within a date range, ordered by start time.
+   *
+   * <p>Pass a null token for the first page and the {@link EventPage#getNextPageToken() token}
+   * of each page for the one after it, until a page has no token. The default implementation
+   * reads the whole range with {@link #getEventsInRange(LocalDate, LocalDate)} for every page;
+   * calendars with a time index seek straight to the page, so the cost of a page does not depend
+   * on the length of the range.
+   *
+   * @param startDate Start of the date range (inclusive)
+   * @param endDate   End of the date range (inclusive)
+   * @param pageSize  the largest number of events on the page
+   * @param pageToken the token returned with the previous page, or null for the first page
+   * @return the page of events
+   * @throws IllegalArgumentException if the range, page size or token is invalid
+   */
+  default EventPage getEventsInRange(LocalDate startDate, LocalDate endDate, int pageSize,
+                                     String pageToken) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    LocalDateTime afterStart = pageToken != null ? EventPage.tokenStart(pageToken) : null;
+    UUID afterId = pageToken != null ? EventPage.tokenId(pageToken) : null;
+
+    List<Event> events = new ArrayList<>(getEventsInRange(startDate, endDate));
+    events.sort(EventPage.PAGE_ORDER);
+    List<Event> page = new ArrayList<>();
+    for (Event event : events) {
+      if (EventPage.isAfter(event, afterStart, afterId)) {
+        if (page.size() == pageSize) {
+          return new EventPage(page, EventPage.tokenAfter(page.get(pageSize - 1)));
+        }
+        page.add(event);
+      }
+    }
+    return new EventPage(page, null);
+  }
+
+  /**
+   * Gets one page of the events that overlap a window of local date-times, ordered by start time.
+   *
+   * <p>Both ends of the window are inclusive, so events that touch it are included. Pages are
+   * continued with tokens as for {@link #getEventsInRange(LocalDate, LocalDate, int, String)}.
+   * The default implementation reads the pages of the window's dates and drops the events outside
+   * the window, which can leave a page short or even empty while more pages follow; calendars
+   * with a time index convert the window to UTC and seek straight to it.
+   *
+   * @param from      the start of the window
+   * @param to        the end of the window
+   * @param pageSize  the largest number of events on the page
+   * @param pageToken the token returned with the previous page, or null for the first page
+   * @return the page of events
+   * @throws IllegalArgumentException if the window, page size or token is invalid
+   */
+  default EventPage getEventsInWindow(LocalDateTime from, LocalDateTime to, int pageSize,
+                                      String pageToken) {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Date-times cannot be null");
+    }
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("Start date-time cannot be after end date-time");
+    }
+    EventPage page = getEventsInRange(from.toLocalDate(), to.toLocalDate(), pageSize, pageToken);
+    List<Event> inWindow = new ArrayList<>();
+    for (Event event : page.getEvents()) {
+      if (!event.getEndDateTime().isBefore(from) && !event.getStartDateTime().isAfter(to)) {
+        inWindow.add(event);
+      }
+    }
+    return new EventPage(inWindow, page.getNextPageToken());
+  }
+
   /**
    * Checks if there are any events at a specific date and time.
    *
@@ -190,6 +303,89 @@ public interface ICalendar {
    */
   List<Event> getAllEvents();
 
+  /**
+   * Gets an event by its ID.
+   *
+   * <p>The default implementation scans {@link #getAllEvents()}; calendars that keep their events
+   * keyed by ID look them up directly.
+   *
+   * @param eventId the ID of the event
+   * @return the event, or null if the calendar has no event with that ID
+   */
+  default Event getEventById(UUID eventId) {
+    if (eventId == null) {
+      return null;
+    }
+    for (Event event : getAllEvents()) {
+      if (eventId.equals(event.getId())) {
+        return event;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the recurring ID of the series an event belongs to.
+   *
+   * @param eventId the ID of the event
+   * @return the recurring ID of its series, or null if the event is not part of a series
+   */
+  default UUID getSeriesId(UUID eventId) {
+    Event event = getEventById(eventId);
+    return event instanceof RecurringEvent ? ((RecurringEvent) event).getRecurringId() : null;
+  }
+
+  /**
+   * Gets the stored occurrences of a recurring series: the events this calendar holds for which
+   * {@link #getSeriesId(UUID)} returns the series, in the order they were added. Editing the
+   * whole series edits exactly these events.
+   *
+   * <p>The default implementation scans {@link #getAllEvents()} and asks
+   * {@link #getSeriesId(UUID)} about each event; calendars that group their events by series
+   * look the members up directly, so the cost is proportional to the length of the series.
+   *
+   * @param recurringId the recurring ID of the series
+   * @return the stored occurrences of the series, which is empty if there are none
+   */
+  default List<Event> getSeriesEvents(UUID recurringId) {
+    List<Event> members = new ArrayList<>();
+    if (recurringId == null) {
+      return members;
+    }
+    for (Event event : getAllEvents()) {
+      if (recurringId.equals(getSeriesId(event.getId()))) {
+        members.add(event);
+      }
+    }
+    return members;
+  }
+
+  /**
+   * Searches the subject, description and location of the calendar's events.
+   *
+   * <p>Every word of the query must occur in a matching event. Matches are ranked best first and
+   * returned one page at a time. The default implementation indexes {@link #getAllEvents()} on
+   * every call; calendars that keep a search index up to date answer from it directly.
+   *
+   * @param query  the words to search for
+   * @param from   the first date of the events to search, or null for no lower bound
+   * @param to     the last date of the events to search, or null for no upper bound
+   * @param offset the number of ranked matches to skip
+   * @param limit  the largest number of matches to return
+   * @return the requested page of matches
+   */
+  default SearchResult searchEvents(String query, LocalDate from, LocalDate to, int offset,
+                                    int limit) {
+    EventSearchIndex index = new EventSearchIndex();
+    for (Event event : getAllEvents()) {
+      index.add(event);
+    }
+    return index.search(query, event -> (from == null
+                    || !event.getEndDateTime().toLocalDate().isBefore(from))
+                    && (to == null || !event.getStartDateTime().toLocalDate().isAfter(to)),
+            offset, limit);
+  }
+
   /**
    * Edits a single event identified by its subject and start date/time.
    *
@@ -211,6 +407,35 @@ public interface ICalendar {
       String newValue)
       throws EventNotFoundException, InvalidEventException, ConflictingEventException;
 
+  /**
+   * Edits one property of the event with the given ID, in place.
+   *
+   * <p>The supported properties and values are those of
+   * {@link #editSingleEvent(String, LocalDateTime, String, String)}. Callers must edit events
+   * through the calendar rather than through the setters of an event they were handed, so the
+   * calendar can keep its indexes up to date. The default implementation looks the event up and
+   * edits it by its subject and its start time converted from UTC to this calendar's timezone;
+   * calendars that key their events by ID edit them directly.
+   *
+   * @param eventId  the ID of the event to edit
+   * @param property the property to edit
+   * @param newValue the new value for the property
+   * @return true if the event was found and edited, false otherwise
+   * @throws EventNotFoundException    if the event cannot be found by its subject and start
+   * @throws InvalidEventException     if the property or new value is invalid
+   * @throws ConflictingEventException if the edit would create a conflict
+   */
+  default boolean editEventById(UUID eventId, String property, String newValue)
+      throws EventNotFoundException, InvalidEventException, ConflictingEventException {
+    Event event = getEventById(eventId);
+    if (event == null) {
+      return false;
+    }
+    LocalDateTime localStart = new TimeZoneHandler().convertFromUTC(event.getStartDateTime(),
+            getTimeZone().getID());
+    return editSingleEvent(event.getSubject(), localStart, property, newValue);
+  }
+
   /**
    * Updates an existing event with a new version.
    *
@@ -272,4 +497,23 @@ public interface ICalendar {
    * @return the timezone of the calendar
    */
   TimeZone getTimeZone();
-}
\ No newline at end of file
+
+  /**
+   * Registers a listener to be notified of every event added to, updated in or removed from this
+   * calendar. Calendars that do not publish changes ignore the listener.
+   *
+   * @param listener the listener to add
+   */
+  default void addChangeListener(CalendarChangeListener listener) {
+    // Changes are not published by default
+  }
+
+  /**
+   * Unregisters a change listener.
+   *
+   * @param listener the listener to remove
+   */
+  default void removeChangeListener(CalendarChangeListener listener) {
+    // Changes are not published by default
+  }
+}
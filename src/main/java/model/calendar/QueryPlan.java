@@ -0,0 +1,118 @@
+package model.calendar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import model.event.Event;
+
+/**
+ * The way a calendar answers an {@link EventQuery}: which index the candidate events are read
+ * from, and which conditions are checked on each candidate afterwards.
+ *
+ * <p>A plan is bound to the events the calendar held when it was made and should be executed
+ * straight away.
+ */
+public class QueryPlan {
+
+  private final String access;
+  private final int estimate;
+  private final int total;
+  private final Supplier<List<Event>> candidates;
+  private final EventQuery residual;
+  private final Predicate<Event> inSeries;
+  private final UnaryOperator<Event> output;
+
+  /**
+   * Constructs a new QueryPlan.
+   *
+   * @param access     a description of where the candidates come from
+   * @param estimate   the estimated number of candidates
+   * @param total      the number of events in the calendar
+   * @param candidates reads the candidate events
+   * @param residual   the conditions checked on each candidate, or null if there are none
+   * @param inSeries   tells whether an event belongs to a recurring series
+   */
+  QueryPlan(String access, int estimate, int total, Supplier<List<Event>> candidates,
+            EventQuery residual, Predicate<Event> inSeries) {
+    this(access, estimate, total, candidates, residual, inSeries, UnaryOperator.identity());
+  }
+
+  private QueryPlan(String access, int estimate, int total, Supplier<List<Event>> candidates,
+                    EventQuery residual, Predicate<Event> inSeries,
+                    UnaryOperator<Event> output) {
+    this.access = access;
+    this.estimate = estimate;
+    this.total = total;
+    this.candidates = candidates;
+    this.residual = residual;
+    this.inSeries = inSeries;
+    this.output = output;
+  }
+
+  /**
+   * Gets the same plan returning copies of the matching events, for a calendar whose events are
+   * shared with a copy of it.
+   *
+   * @return the copying plan
+   */
+  QueryPlan returningCopies() {
+    return new QueryPlan(access, estimate, total, candidates, residual, inSeries, Event::copy);
+  }
+
+  /**
+   * Runs the plan.
+   *
+   * @return the matching events
+   */
+  public List<Event> execute() {
+    List<Event> source = candidates.get();
+    List<Event> result = new ArrayList<>();
+    for (Event event : source) {
+      if (residual == null || residual.matches(event, inSeries)) {
+        result.add(output.apply(event));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets a description of where the candidates come from.
+   *
+   * @return the access path, such as {@code SubjectIndex subject = "Standup"}
+   */
+  public String getAccess() {
+    return access;
+  }
+
+  /**
+   * Gets the estimated number of candidates read by the plan.
+   *
+   * @return the estimate
+   */
+  public int getEstimate() {
+    return estimate;
+  }
+
+  /**
+   * Describes the plan, one step per line.
+   *
+   * @return the description
+   */
+  public String explain() {
+    StringBuilder plan = new StringBuilder();
+    plan.append(access).append(" (estimated ").append(estimate).append(" of ").append(total)
+            .append(" events)");
+    if (residual != null) {
+      plan.append("\n  Filter: ").append(residual);
+    }
+    return plan.toString();
+  }
+
+  @Override
+  public String toString() {
+    return explain();
+  }
+}
@@ -0,0 +1,89 @@
+package model.calendar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import model.event.Event;
+
+/**
+ * Chooses how to answer an {@link EventQuery} from the indexes of an {@link EventStore}.
+ *
+ * <p>The query is split into its top-level conjuncts. Each conjunct that an index can answer
+ * exactly is a candidate access path, costed by the number of events it would read: a subject
+ * condition by the size of that subject in the subject index, a time range by the share of the
+ * time index it covers, and a series condition by the number of stored series members. The
+ * cheapest path wins, falling back to a scan of every event, and all the other conjuncts are
+ * checked on the candidates it returns. Disjunctions, negations and lambda filters are never
+ * answered by an index.
+ */
+final class QueryPlanner {
+
+  private QueryPlanner() {
+  }
+
+  /**
+   * Plans a query against a store.
+   *
+   * @param query the query
+   * @param store the store to read from
+   * @return the cheapest plan found
+   */
+  static QueryPlan plan(EventQuery query, EventStore store) {
+    List<EventQuery> conjuncts = query.conjuncts();
+    Predicate<Event> inSeries = event -> store.seriesByEventId.containsKey(event.getId());
+    int total = store.events.size();
+
+    String access = "FullScan";
+    int estimate = total;
+    Supplier<List<Event>> candidates = () -> store.events;
+    EventQuery chosen = null;
+
+    for (EventQuery conjunct : conjuncts) {
+      if (conjunct instanceof EventQuery.SubjectIs) {
+        String subject = ((EventQuery.SubjectIs) conjunct).subject;
+        int count = store.subjectIndex.count(subject);
+        if (count < estimate) {
+          access = "SubjectIndex " + conjunct;
+          estimate = count;
+          candidates = () -> store.subjectIndex.get(subject);
+          chosen = conjunct;
+        }
+      } else if (conjunct instanceof EventQuery.TimeRange) {
+        EventQuery.TimeRange range = (EventQuery.TimeRange) conjunct;
+        int count = store.timeIndex.estimateOverlapping(range.from, range.to);
+        if (count < estimate) {
+          access = "TimeIndex " + conjunct;
+          estimate = count;
+          candidates = () -> store.timeIndex.getOverlapping(range.from, range.to);
+          chosen = conjunct;
+        }
+      } else if (conjunct instanceof EventQuery.RecurringIs
+              && ((EventQuery.RecurringIs) conjunct).recurring) {
+        int count = store.seriesByEventId.size();
+        if (count < estimate) {
+          access = "SeriesIndex";
+          estimate = count;
+          candidates = () -> seriesMembers(store);
+          chosen = conjunct;
+        }
+      }
+    }
+
+    List<EventQuery> residual = new ArrayList<>(conjuncts);
+    if (chosen != null) {
+      residual.remove(chosen);
+    }
+    return new QueryPlan(access, estimate, total, candidates,
+            residual.isEmpty() ? null : EventQuery.allOf(residual), inSeries);
+  }
+
+  private static List<Event> seriesMembers(EventStore store) {
+    List<Event> members = new ArrayList<>(store.seriesByEventId.size());
+    for (List<Event> occurrences : store.occurrencesBySeries.values()) {
+      members.addAll(occurrences);
+    }
+    return members;
+  }
+}
@@ -0,0 +1,67 @@
+package model.calendar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import model.event.Event;
+
+/**
+ * One page of ranked full-text search results, together with the total number of matches so
+ * that callers can page through the rest.
+ */
+public class SearchResult {
+
+  private final List<Event> events;
+  private final int total;
+  private final int offset;
+
+  /**
+   * Constructs a new SearchResult.
+   *
+   * @param events the events on this page, best match first
+   * @param total  the number of matching events across all pages
+   * @param offset the rank of the first event on this page, counting from zero
+   */
+  public SearchResult(List<Event> events, int total, int offset) {
+    this.events = Collections.unmodifiableList(new ArrayList<>(events));
+    this.total = total;
+    this.offset = offset;
+  }
+
+  /**
+   * Gets the events on this page.
+   *
+   * @return the events, best match first
+   */
+  public List<Event> getEvents() {
+    return events;
+  }
+
+  /**
+   * Gets the number of matching events across all pages.
+   *
+   * @return the total number of matches
+   */
+  public int getTotal() {
+    return total;
+  }
+
+  /**
+   * Gets the rank of the first event on this page.
+   *
+   * @return the offset, counting from zero
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * Checks whether there are matches after this page.
+   *
+   * @return true if more matches follow
+   */
+  public boolean hasMore() {
+    return offset + events.size() < total;
+  }
+}
@@ -0,0 +1,46 @@
+package model.calendar;
+
+import model.event.Event;
+
+/**
+ * An event in a merged timeline, tagged with the name of the calendar it belongs to.
+ */
+public class TimelineEntry {
+
+  private final String calendarName;
+  private final Event event;
+
+  /**
+   * Constructs a new TimelineEntry.
+   *
+   * @param calendarName the name of the calendar the event belongs to
+   * @param event        the event, with times stored in UTC
+   */
+  public TimelineEntry(String calendarName, Event event) {
+    this.calendarName = calendarName;
+    this.event = event;
+  }
+
+  /**
+   * Gets the name of the calendar the event belongs to.
+   *
+   * @return the calendar name
+   */
+  public String getCalendarName() {
+    return calendarName;
+  }
+
+  /**
+   * Gets the event. Its times are stored in UTC, like all events held by a calendar.
+   *
+   * @return the event
+   */
+  public Event getEvent() {
+    return event;
+  }
+
+  @Override
+  public String toString() {
+    return calendarName + ": " + event;
+  }
+}
@@ -142,7 +142,8 @@ public class ConsolidatedIterator {
 
   /**
    * Implementation of a recurring event iterator that expands recurring events
-   * into individual occurrences within a date range.
+   * into individual occurrences within a date range. The occurrences a series generates are kept
+   * in its cache and shared with every later reader, so the iterator hands out copies of them.
    */
   public static class RecurringEventIterator implements IEventIterator {
     private final List<RecurringEvent> recurringEvents;
@@ -184,7 +185,7 @@ public class ConsolidatedIterator {
       if (!hasNext()) {
         throw new NoSuchElementException("No more recurring events to iterate over");
       }
-      return expandedEvents.get(currentIndex++);
+      return expandedEvents.get(currentIndex++).copy();
     }
 
     @Override
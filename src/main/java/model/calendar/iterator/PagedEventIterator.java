@@ -0,0 +1,67 @@
+package model.calendar.iterator;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import model.calendar.EventPage;
+import model.calendar.ICalendar;
+import model.event.Event;
+
+/**
+ * Iterates over the events of a date range by fetching one {@link EventPage} at a time.
+ *
+ * <p>Only the current page is held in memory. The next page is requested with the continuation
+ * token of the current one when the iterator runs past its end, so a consumer that stops early
+ * never causes the rest of the range to be read. Because pages resume from a token rather than
+ * from a live position in the calendar, the iterator stays valid if the calendar changes between
+ * pages.
+ */
+public class PagedEventIterator implements Iterator<Event> {
+
+  private final ICalendar calendar;
+  private final LocalDate startDate;
+  private final LocalDate endDate;
+  private final int pageSize;
+  private Iterator<Event> current;
+  private String nextPageToken;
+
+  /**
+   * Constructs a new PagedEventIterator and fetches the first page.
+   *
+   * @param calendar  the calendar to read
+   * @param startDate the first date of the range
+   * @param endDate   the last date of the range
+   * @param pageSize  the number of events fetched per page
+   */
+  public PagedEventIterator(ICalendar calendar, LocalDate startDate, LocalDate endDate,
+                            int pageSize) {
+    this.calendar = calendar;
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.pageSize = pageSize;
+    fetch(null);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!current.hasNext() && nextPageToken != null) {
+      fetch(nextPageToken);
+    }
+    return current.hasNext();
+  }
+
+  @Override
+  public Event next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  private void fetch(String token) {
+    EventPage page = calendar.getEventsInRange(startDate, endDate, pageSize, token);
+    current = page.getEvents().iterator();
+    nextPageToken = page.getNextPageToken();
+  }
+}
@@ -0,0 +1,84 @@
+package model.calendar.iterator;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import model.calendar.TimelineEntry;
+import model.event.Event;
+
+/**
+ * Merges several start-ordered event cursors into a single start-ordered timeline.
+ *
+ * <p>The iterator keeps the current head of every cursor in a min-heap keyed by UTC start time.
+ * Each call to {@link #next()} pops the earliest head and pulls the next event from the cursor it
+ * came from, so producing the first {@code n} entries of a merge over {@code k} calendars costs
+ * {@code O(k + n log k)} and never reads past what the caller consumes. Events that start at the
+ * same time are ordered by the position of their calendar in the input list.
+ */
+public class TimelineMergeIterator implements Iterator<TimelineEntry> {
+
+  private final List<String> calendarNames;
+  private final List<Iterator<Event>> cursors;
+  private final PriorityQueue<Head> heads;
+
+  /**
+   * Constructs a new TimelineMergeIterator.
+   *
+   * @param calendarNames the name of the calendar behind each cursor
+   * @param cursors       one start-ordered cursor per calendar, in the same order as the names
+   */
+  public TimelineMergeIterator(List<String> calendarNames, List<Iterator<Event>> cursors) {
+    if (calendarNames.size() != cursors.size()) {
+      throw new IllegalArgumentException("Each cursor must have a calendar name");
+    }
+    this.calendarNames = calendarNames;
+    this.cursors = cursors;
+    this.heads = new PriorityQueue<>(Math.max(1, cursors.size()));
+    for (int i = 0; i < cursors.size(); i++) {
+      advance(i);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !heads.isEmpty();
+  }
+
+  @Override
+  public TimelineEntry next() {
+    Head head = heads.poll();
+    if (head == null) {
+      throw new NoSuchElementException("No more events in the timeline");
+    }
+    advance(head.source);
+    return new TimelineEntry(calendarNames.get(head.source), head.event);
+  }
+
+  private void advance(int source) {
+    Iterator<Event> cursor = cursors.get(source);
+    if (cursor.hasNext()) {
+      heads.add(new Head(cursor.next(), source));
+    }
+  }
+
+  /**
+   * The current event of one cursor.
+   */
+  private static class Head implements Comparable<Head> {
+    private final Event event;
+    private final int source;
+
+    Head(Event event, int source) {
+      this.event = event;
+      this.source = source;
+    }
+
+    @Override
+    public int compareTo(Head other) {
+      int byStart = event.getStartDateTime().compareTo(other.event.getStartDateTime());
+      return byStart != 0 ? byStart : Integer.compare(source, other.source);
+    }
+  }
+}
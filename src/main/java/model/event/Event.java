@@ -20,6 +20,10 @@ public class Event {
   private String location;
   private boolean isPublic;
   private boolean isAllDay;
+  // The start and end as epoch seconds, kept in step with the date-times for conflict checks
+  private long startEpochSecond;
+  private long endEpochSecond;
+  private boolean wholeSeconds;
 
   /**
    * Constructs a new Event with the given parameters.
@@ -77,6 +81,7 @@ public class Event {
       this.isAllDay = false;
       this.endDateTime = endDateTime;
     }
+    cacheEpochSeconds();
   }
 
   /**
@@ -125,6 +130,7 @@ public class Event {
       this.isAllDay = false;
       this.endDateTime = endDateTime;
     }
+    cacheEpochSeconds();
   }
 
   /**
@@ -148,9 +154,26 @@ public class Event {
     return event;
   }
 
+  /**
+   * Creates an independent copy of this event with the same ID and property values.
+   *
+   * @return the copied event
+   */
+  public Event copy() {
+    Event copy = new Event(id, subject, startDateTime, endDateTime, description, location,
+            isPublic, false);
+    copy.isAllDay = isAllDay;
+    copy.date = date;
+    return copy;
+  }
+
   /**
    * Checks if this event conflicts with another event. Two events conflict if their time intervals
-   * overlap.
+   * overlap, including when one ends at the instant the other starts.
+   *
+   * <p>The check compares the cached epoch seconds of the two events, so it creates no objects
+   * and does not touch their {@link LocalDateTime} fields unless either has a fraction of a
+   * second.
    *
    * @param other the event to check for conflicts
    * @return true if there is a conflict, false otherwise
@@ -159,38 +182,36 @@ public class Event {
     if (other == null) {
       return false;
     }
-
-    // For zero-duration events (where start equals end):
-    boolean thisIsZeroDuration = this.startDateTime.equals(this.endDateTime);
-    boolean otherIsZeroDuration = other.startDateTime.equals(other.endDateTime);
-
-    // If both are zero-duration events, they conflict only if they're at the exact same time
-    if (thisIsZeroDuration && otherIsZeroDuration) {
-      return this.startDateTime.equals(other.startDateTime);
+    if (wholeSeconds & other.wholeSeconds) {
+      return Intervals.conflicts(startEpochSecond, endEpochSecond, other.startEpochSecond,
+              other.endEpochSecond);
     }
+    return !endDateTime.isBefore(other.startDateTime)
+            && !other.endDateTime.isBefore(startDateTime);
+  }
 
-    // If this is a zero-duration event
-    if (thisIsZeroDuration) {
-      // It conflicts if it falls exactly at or between the other event's start and end times
-      return (this.startDateTime.equals(other.startDateTime) ||
-              this.startDateTime.equals(other.endDateTime) ||
-              (this.startDateTime.isAfter(other.startDateTime) &&
-                      this.startDateTime.isBefore(other.endDateTime)));
-    }
+  /**
+   * Gets the start of this event as seconds since the epoch, reading the stored start as UTC.
+   *
+   * @return the start epoch second, without any fraction of a second
+   */
+  public long getStartEpochSecond() {
+    return startEpochSecond;
+  }
 
-    // If the other is a zero-duration event
-    if (otherIsZeroDuration) {
-      // It conflicts if it falls exactly at or between this event's start and end times
-      return (other.startDateTime.equals(this.startDateTime) ||
-              other.startDateTime.equals(this.endDateTime) ||
-              (other.startDateTime.isAfter(this.startDateTime) &&
-                      other.startDateTime.isBefore(this.endDateTime)));
-    }
+  /**
+   * Gets the end of this event as seconds since the epoch, reading the stored end as UTC.
+   *
+   * @return the end epoch second, without any fraction of a second
+   */
+  public long getEndEpochSecond() {
+    return endEpochSecond;
+  }
 
-    // Standard overlap check for events with duration:
-    // Events overlap if they share any time span
-    return !(this.endDateTime.isBefore(other.startDateTime) ||
-            this.startDateTime.isAfter(other.endDateTime));
+  private void cacheEpochSeconds() {
+    startEpochSecond = Intervals.epochSecond(startDateTime);
+    endEpochSecond = Intervals.epochSecond(endDateTime);
+    wholeSeconds = (startDateTime.getNano() | endDateTime.getNano()) == 0;
   }
 
   /**
@@ -264,6 +285,7 @@ public class Event {
       throw new IllegalArgumentException("Start date/time cannot be after end date/time");
     }
     this.startDateTime = startDateTime;
+    cacheEpochSeconds();
   }
 
   /**
@@ -284,6 +306,7 @@ public class Event {
       this.endDateTime = endDateTime;
       this.isAllDay = false;
     }
+    cacheEpochSeconds();
   }
 
   /**
@@ -333,6 +356,7 @@ public class Event {
     if (isAllDay) {
       this.endDateTime = LocalDateTime.of(startDateTime.toLocalDate(),
               LocalTime.of(23, 59, 59));
+      cacheEpochSeconds();
     }
   }
 
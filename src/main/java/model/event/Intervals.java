@@ -0,0 +1,71 @@
+package model.event;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Interval tests on times given as epoch seconds.
+ *
+ * <p>Events cache their UTC start and end as epoch seconds (see
+ * {@link Event#getStartEpochSecond()} and {@link Event#getEndEpochSecond()}), so scans that
+ * compare many events can work on primitive longs instead of {@link LocalDateTime} objects. The
+ * tests are written with non-short-circuit operators, so each is a few comparisons and no
+ * branches.
+ *
+ * <p>Conflict and containment treat intervals as closed, matching
+ * {@link Event#conflictsWith(Event)}: events that touch conflict. Overlap treats them as
+ * half-open, for callers that only care about shared time.
+ */
+public final class Intervals {
+
+  private Intervals() {
+  }
+
+  /**
+   * Converts a UTC date-time to epoch seconds, dropping any fraction of a second.
+   *
+   * @param utc the UTC date-time
+   * @return the epoch second
+   */
+  public static long epochSecond(LocalDateTime utc) {
+    return utc.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  /**
+   * Checks whether two closed intervals share at least one instant.
+   *
+   * @param start      the start of the first interval
+   * @param end        the end of the first interval
+   * @param otherStart the start of the second interval
+   * @param otherEnd   the end of the second interval
+   * @return true if the intervals conflict
+   */
+  public static boolean conflicts(long start, long end, long otherStart, long otherEnd) {
+    return start <= otherEnd & otherStart <= end;
+  }
+
+  /**
+   * Checks whether two half-open intervals share a span of time.
+   *
+   * @param start      the start of the first interval (inclusive)
+   * @param end        the end of the first interval (exclusive)
+   * @param otherStart the start of the second interval (inclusive)
+   * @param otherEnd   the end of the second interval (exclusive)
+   * @return true if the intervals overlap
+   */
+  public static boolean overlaps(long start, long end, long otherStart, long otherEnd) {
+    return start < otherEnd & otherStart < end;
+  }
+
+  /**
+   * Checks whether a closed interval contains an instant.
+   *
+   * @param start   the start of the interval
+   * @param end     the end of the interval
+   * @param instant the instant
+   * @return true if the instant lies within the interval, ends included
+   */
+  public static boolean contains(long start, long end, long instant) {
+    return start <= instant & instant <= end;
+  }
+}
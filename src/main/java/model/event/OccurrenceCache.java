@@ -0,0 +1,120 @@
+package model.event;
+
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cache of the expanded occurrences of one recurring series, held in month-sized chunks.
+ *
+ * <p>Each chunk is the list of occurrence events of the series in one calendar month, built once
+ * and then handed out again on every later request for that month. Chunks are kept in least
+ * recently used order and the oldest are evicted once the cache holds more occurrences than its
+ * budget; the chunk just built is never evicted, so every request is answered. The cached events
+ * are shared between callers and must not be modified.
+ *
+ * <p>The series clears the cache whenever one of its properties changes, since every occurrence is
+ * derived from them.
+ */
+public class OccurrenceCache {
+
+  /**
+   * The default number of occurrences a series keeps cached.
+   */
+  public static final int DEFAULT_BUDGET = 1024;
+
+  private final int budget;
+  private final LinkedHashMap<YearMonth, List<Event>> chunks;
+  private int held;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  /**
+   * Constructs an empty cache.
+   *
+   * @param budget the largest number of occurrences to keep cached
+   * @throws IllegalArgumentException if the budget is not positive
+   */
+  OccurrenceCache(int budget) {
+    if (budget <= 0) {
+      throw new IllegalArgumentException("Cache budget must be positive");
+    }
+    this.budget = budget;
+    this.chunks = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Gets the occurrences of a month, expanding and caching them if they are not cached.
+   *
+   * @param month  the month
+   * @param expand builds the occurrences of a month
+   * @return the occurrences of the month, ordered by start time
+   */
+  synchronized List<Event> get(YearMonth month, Function<YearMonth, List<Event>> expand) {
+    List<Event> chunk = chunks.get(month);
+    if (chunk != null) {
+      hits++;
+      return chunk;
+    }
+    misses++;
+    chunk = expand.apply(month);
+    chunks.put(month, chunk);
+    held += chunk.size();
+
+    Iterator<Map.Entry<YearMonth, List<Event>>> oldest = chunks.entrySet().iterator();
+    while (held > budget && chunks.size() > 1) {
+      held -= oldest.next().getValue().size();
+      oldest.remove();
+      evictions++;
+    }
+    return chunk;
+  }
+
+  /**
+   * Discards every cached chunk. The statistics are kept.
+   */
+  synchronized void invalidate() {
+    chunks.clear();
+    held = 0;
+  }
+
+  /**
+   * Gets the number of requests answered from the cache.
+   *
+   * @return the number of hits
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of requests that had to expand a month.
+   *
+   * @return the number of misses
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the number of chunks evicted to stay within the budget.
+   *
+   * @return the number of evictions
+   */
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Gets the number of occurrences currently cached.
+   *
+   * @return the number of cached occurrences
+   */
+  public synchronized int size() {
+    return held;
+  }
+}
@@ -6,13 +6,19 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
 
+import utilities.Log;
+
 /**
  * Represents a recurring event that repeats on specified days of the week.
  * Extends the base Event class to add repetition functionality.
@@ -24,6 +30,7 @@ public class RecurringEvent extends Event {
   private final LocalDate endDate;
   private final UUID recurringId;
   private final boolean isAllDay;
+  private final OccurrenceCache occurrenceCache;
 
   /**
    * Determines whether this recurring event spans the entire day.
@@ -61,12 +68,42 @@ public class RecurringEvent extends Event {
     this.endDate = endDate;
     this.recurringId = recurringId != null ? recurringId : UUID.randomUUID();
     this.isAllDay = isAllDay;
+    this.occurrenceCache = new OccurrenceCache(OccurrenceCache.DEFAULT_BUDGET);
 
     if (isAllDay) {
       this.setAllDay(true);
     }
   }
 
+  /**
+   * Constructs an independent copy of a recurring event, with the same ID, recurring ID and
+   * property values and an empty occurrence cache.
+   *
+   * @param source the recurring event to copy
+   */
+  private RecurringEvent(RecurringEvent source) {
+    super(source.getId(), source.getSubject(), source.getStartDateTime(),
+            source.getEndDateTime(), source.getDescription(), source.getLocation(),
+            source.isPublic(), source.isAllDay);
+    this.repeatDays = new HashSet<>(source.repeatDays);
+    this.occurrences = source.occurrences;
+    this.endDate = source.endDate;
+    this.recurringId = source.recurringId;
+    this.isAllDay = source.isAllDay;
+    this.occurrenceCache = new OccurrenceCache(OccurrenceCache.DEFAULT_BUDGET);
+  }
+
+  /**
+   * Creates an independent copy of this recurring event with the same ID, recurring ID and
+   * property values.
+   *
+   * @return the copied recurring event
+   */
+  @Override
+  public RecurringEvent copy() {
+    return new RecurringEvent(this);
+  }
+
   /**
    * Builder class for RecurringEvent.
    */
@@ -285,9 +322,13 @@ public class RecurringEvent extends Event {
   /**
    * Gets occurrences of this recurring event between the specified dates (inclusive).
    *
+   * <p>Occurrences are expanded a month at a time and kept in this series'
+   * {@link #getOccurrenceCache() occurrence cache}, so asking for the same months again creates
+   * no new events. The returned events are shared with later calls and must not be modified.
+   *
    * @param startDate the start date
    * @param endDate   the end date
-   * @return a list of occurrences between the specified dates
+   * @return an unmodifiable list of the occurrences between the specified dates
    */
   public List<Event> getOccurrencesBetween(LocalDate startDate, LocalDate endDate) {
     if (startDate == null || endDate == null) {
@@ -298,38 +339,120 @@ public class RecurringEvent extends Event {
       throw new IllegalArgumentException("Start date cannot be after end date");
     }
 
-    List<Event> occurrences = new ArrayList<>();
-    LocalDateTime currentDateTime = getStartDateTime();
-    LocalDate currentDate = currentDateTime.toLocalDate();
+    // Occurrences are counted from the start of the window, as they always have been
+    LocalDate seriesStart = getStartDateTime().toLocalDate();
+    LocalDate first = startDate.isBefore(seriesStart) ? seriesStart : startDate;
+    if (first.isAfter(endDate)) {
+      return Collections.emptyList();
+    }
+    int limit = this.occurrences > 0 ? this.occurrences : Integer.MAX_VALUE;
+
+    YearMonth firstMonth = YearMonth.from(first);
+    YearMonth lastMonth = YearMonth.from(endDate);
+    if (firstMonth.equals(lastMonth)) {
+      List<Event> slice = slice(occurrenceCache.get(firstMonth, this::expandMonth), first,
+              endDate);
+      return slice.size() > limit ? slice.subList(0, limit) : slice;
+    }
 
-    // Adjust current date to start date if it's later
-    if (startDate.isAfter(currentDate)) {
-      currentDate = startDate;
-      currentDateTime = currentDate.atTime(getStartDateTime().toLocalTime());
+    List<Event> occurrences = new ArrayList<>();
+    for (YearMonth month = firstMonth; !month.isAfter(lastMonth) && occurrences.size() < limit;
+         month = month.plusMonths(1)) {
+      List<Event> slice = slice(occurrenceCache.get(month, this::expandMonth), first, endDate);
+      occurrences.addAll(slice.size() > limit - occurrences.size()
+              ? slice.subList(0, limit - occurrences.size()) : slice);
     }
+    return Collections.unmodifiableList(occurrences);
+  }
 
-    // Determine the end boundary
-    LocalDate eventEndDate = endDate;
+  /**
+   * Gets the cache of expanded occurrences of this series, for its hit and miss statistics.
+   *
+   * @return the occurrence cache
+   */
+  public OccurrenceCache getOccurrenceCache() {
+    return occurrenceCache;
+  }
 
-    // Use the earlier of our calculated end date and the requested end date
-    LocalDate effectiveEndDate = (eventEndDate != null && eventEndDate.isBefore(endDate))
-            ? eventEndDate : endDate;
+  /**
+   * Expands the occurrences of a month: one on every repeat day of the month from the start of
+   * the series on.
+   */
+  private List<Event> expandMonth(YearMonth month) {
+    LocalDate seriesStart = getStartDateTime().toLocalDate();
+    LocalDate date = month.atDay(1).isBefore(seriesStart) ? seriesStart : month.atDay(1);
+    List<Event> occurrences = new ArrayList<>(repeatDays.size() * 5);
+    for (; !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+      if (repeatDays.contains(date.getDayOfWeek())) {
+        occurrences.add(createOccurrence(date.atTime(getStartDateTime().toLocalTime())));
+      }
+    }
+    return Collections.unmodifiableList(occurrences);
+  }
 
-    int count = 0;
+  private static List<Event> slice(List<Event> chunk, LocalDate first, LocalDate last) {
+    int from = 0;
+    while (from < chunk.size()
+            && chunk.get(from).getStartDateTime().toLocalDate().isBefore(first)) {
+      from++;
+    }
+    int to = chunk.size();
+    while (to > from && chunk.get(to - 1).getStartDateTime().toLocalDate().isAfter(last)) {
+      to--;
+    }
+    return from == 0 && to == chunk.size() ? chunk : chunk.subList(from, to);
+  }
 
-    // Iterate through dates and collect occurrences
-    while (!currentDate.isAfter(effectiveEndDate) && (this.occurrences <= 0
-            || count < this.occurrences)) {
-      if (repeatDays.contains(currentDateTime.getDayOfWeek())) {
-        Event occurrence = createOccurrence(currentDateTime);
-        occurrences.add(occurrence);
-        count++;
-      }
-      currentDateTime = currentDateTime.plusDays(1);
-      currentDate = currentDateTime.toLocalDate();
+  /**
+   * Clears the occurrence cache after a property of the series changes. The superclass
+   * constructor can call the setters before the cache exists, when there is nothing to clear.
+   */
+  private void invalidateOccurrences() {
+    if (occurrenceCache != null) {
+      occurrenceCache.invalidate();
     }
+  }
 
-    return occurrences;
+  @Override
+  public void setSubject(String subject) {
+    super.setSubject(subject);
+    invalidateOccurrences();
+  }
+
+  @Override
+  public void setStartDateTime(LocalDateTime startDateTime) {
+    super.setStartDateTime(startDateTime);
+    invalidateOccurrences();
+  }
+
+  @Override
+  public void setEndDateTime(LocalDateTime endDateTime) {
+    super.setEndDateTime(endDateTime);
+    invalidateOccurrences();
+  }
+
+  @Override
+  public void setAllDay(boolean isAllDay) {
+    super.setAllDay(isAllDay);
+    invalidateOccurrences();
+  }
+
+  @Override
+  public void setDescription(String description) {
+    super.setDescription(description);
+    invalidateOccurrences();
+  }
+
+  @Override
+  public void setLocation(String location) {
+    super.setLocation(location);
+    invalidateOccurrences();
+  }
+
+  @Override
+  public void setPublic(boolean isPublic) {
+    super.setPublic(isPublic);
+    invalidateOccurrences();
   }
 
   // Cache of deterministic IDs to avoid regenerating them for the same date
@@ -382,7 +505,7 @@ public class RecurringEvent extends Event {
         // Ignore if the field doesn't exist
       }
     } catch (Exception e) {
-      System.err.println("[ERROR] Failed to set deterministic ID on occurrence: " + e.getMessage());
+      Log.error(() -> "Failed to set deterministic ID on occurrence: " + e.getMessage(), e);
     }
 
     return occurrence;
@@ -424,6 +547,84 @@ public class RecurringEvent extends Event {
     return endDate;
   }
 
+  /**
+   * Gets the date of the last occurrence of this recurring event. For a series defined by a
+   * number of occurrences the date is computed from whole weeks, without walking the series.
+   *
+   * @return the last date on which the event can occur, or null if the series never ends
+   */
+  public LocalDate getLastOccurrenceDate() {
+    if (endDate != null) {
+      return endDate;
+    }
+    if (occurrences <= 0) {
+      return null;
+    }
+    // Every run of seven days contains exactly one occurrence per repeat day
+    int perWeek = repeatDays.size();
+    LocalDate date = getStartDateTime().toLocalDate().plusWeeks((occurrences - 1) / perWeek);
+    int remaining = (occurrences - 1) % perWeek;
+    while (true) {
+      if (repeatDays.contains(date.getDayOfWeek())) {
+        if (remaining == 0) {
+          return date;
+        }
+        remaining--;
+      }
+      date = date.plusDays(1);
+    }
+  }
+
+  /**
+   * Gets a cursor over the dates on which this event occurs within a window. Only the days of the
+   * window are visited and no occurrence events are created, so the cost is bounded by the size
+   * of the window however long the series runs. The series start, end date and occurrence count
+   * are all honoured.
+   *
+   * @param from the first date of the window (inclusive)
+   * @param to   the last date of the window (inclusive)
+   * @return the occurrence dates within the window, in ascending order
+   */
+  public Iterator<LocalDate> getOccurrenceDatesBetween(LocalDate from, LocalDate to) {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Start and end dates cannot be null");
+    }
+
+    LocalDate seriesStart = getStartDateTime().toLocalDate();
+    LocalDate seriesEnd = getLastOccurrenceDate();
+    LocalDate first = from.isBefore(seriesStart) ? seriesStart : from;
+    LocalDate last = seriesEnd != null && seriesEnd.isBefore(to) ? seriesEnd : to;
+
+    return new Iterator<LocalDate>() {
+      private LocalDate next = advance(first);
+
+      private LocalDate advance(LocalDate date) {
+        for (int day = 0; day < 7 && !date.isAfter(last); day++) {
+          if (repeatDays.contains(date.getDayOfWeek())) {
+            return date;
+          }
+          date = date.plusDays(1);
+        }
+        return null;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public LocalDate next() {
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+        LocalDate current = next;
+        next = advance(current.plusDays(1));
+        return current;
+      }
+    };
+  }
+
   /**
    * Gets the end date of the recurring event (alias for getEndDate()).
    *
@@ -17,6 +17,7 @@ import java.util.TimeZone;
 
 import model.event.Event;
 import utilities.TimeZoneHandler;
+import utilities.trace.CsvChunkTrace;
 
 /**
  * Implementation of IDataExporter that handles CSV format exports.
@@ -53,6 +54,9 @@ public class CSVExporter implements IDataExporter {
         throw new IOException("Invalid CSV format");
       }
 
+      String fileName = file.getPath();
+      long row = 0;
+      CsvChunkTrace chunk = startChunk();
       String line;
       while ((line = reader.readLine()) != null) {
         try {
@@ -63,6 +67,15 @@ public class CSVExporter implements IDataExporter {
         } catch (DateTimeParseException e) {
           throw new IOException("Invalid date/time format in CSV: " + e.getMessage());
         }
+        if (++row % CsvChunkTrace.CHUNK_ROWS == 0) {
+          chunk.record("import", fileName, row - CsvChunkTrace.CHUNK_ROWS,
+                  CsvChunkTrace.CHUNK_ROWS);
+          chunk = startChunk();
+        }
+      }
+      int rest = (int) (row % CsvChunkTrace.CHUNK_ROWS);
+      if (rest > 0) {
+        chunk.record("import", fileName, row - rest, rest);
       }
     }
     return events;
@@ -148,15 +161,32 @@ public class CSVExporter implements IDataExporter {
       writer.write("\n");
 
       // Write events
+      long row = 0;
+      CsvChunkTrace chunk = startChunk();
       for (Event event : events) {
         writer.write(formatEventAsCSV(event));
         writer.write("\n");
+        if (++row % CsvChunkTrace.CHUNK_ROWS == 0) {
+          chunk.record("export", filePath, row - CsvChunkTrace.CHUNK_ROWS,
+                  CsvChunkTrace.CHUNK_ROWS);
+          chunk = startChunk();
+        }
+      }
+      int rest = (int) (row % CsvChunkTrace.CHUNK_ROWS);
+      if (rest > 0) {
+        chunk.record("export", filePath, row - rest, rest);
       }
     }
 
     return filePath;
   }
 
+  private static CsvChunkTrace startChunk() {
+    CsvChunkTrace chunk = new CsvChunkTrace();
+    chunk.begin();
+    return chunk;
+  }
+
   /**
    * Formats a list of events for display with proper timezone conversion.
    *
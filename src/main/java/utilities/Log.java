@@ -0,0 +1,292 @@
+package utilities;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Leveled, asynchronous logging facade.
+ *
+ * <p>Messages below the current level are discarded before anything is built: callers pass a
+ * {@link Supplier} for any message that needs formatting, and it is only invoked when the level
+ * is enabled, so a disabled debug statement costs a level check. Enabled messages are formatted on
+ * the calling thread and handed to a background writer through a bounded queue, so logging never
+ * waits on console I/O. If the queue is full the message is dropped and counted rather than
+ * blocking the caller.
+ *
+ * <p>The level is read from the {@code calendar.log.level} system property at startup
+ * ({@code DEBUG}, {@code INFO}, {@code WARN}, {@code ERROR} or {@code OFF}; {@code INFO} if
+ * unset) and can be changed with {@link #setLevel(Level)}. Debug and info messages go to
+ * standard output, warnings and errors to standard error.
+ */
+public final class Log {
+
+  /**
+   * Logging levels, from most to least verbose.
+   */
+  public enum Level {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF
+  }
+
+  private static final int QUEUE_CAPACITY = 8192;
+
+  private static final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  private static final AtomicLong dropped = new AtomicLong();
+  private static final AtomicLong queued = new AtomicLong();
+  private static final AtomicLong written = new AtomicLong();
+  private static volatile Level level = parseLevel(System.getProperty("calendar.log.level"));
+
+  static {
+    startWriter();
+  }
+
+  private Log() {
+  }
+
+  /**
+   * Sets the minimum level of messages that are logged.
+   *
+   * @param newLevel the new level
+   */
+  public static void setLevel(Level newLevel) {
+    level = newLevel != null ? newLevel : Level.INFO;
+  }
+
+  /**
+   * Gets the minimum level of messages that are logged.
+   *
+   * @return the current level
+   */
+  public static Level getLevel() {
+    return level;
+  }
+
+  /**
+   * Checks whether messages of a level are logged.
+   *
+   * @param messageLevel the level to check
+   * @return true if messages of the level are logged
+   */
+  public static boolean isEnabled(Level messageLevel) {
+    return messageLevel.compareTo(level) >= 0 && messageLevel != Level.OFF;
+  }
+
+  /**
+   * Logs a debug message.
+   *
+   * @param message the message
+   */
+  public static void debug(String message) {
+    log(Level.DEBUG, message);
+  }
+
+  /**
+   * Logs a debug message that is only built if debug logging is enabled.
+   *
+   * @param message supplies the message
+   */
+  public static void debug(Supplier<String> message) {
+    log(Level.DEBUG, message);
+  }
+
+  /**
+   * Logs a debug message and the stack trace of its cause, both only built if debug logging is
+   * enabled.
+   *
+   * @param message supplies the message
+   * @param cause   the exception that caused the message
+   */
+  public static void debug(Supplier<String> message, Throwable cause) {
+    log(Level.DEBUG, message, cause);
+  }
+
+  /**
+   * Logs an informational message.
+   *
+   * @param message the message
+   */
+  public static void info(String message) {
+    log(Level.INFO, message);
+  }
+
+  /**
+   * Logs an informational message that is only built if info logging is enabled.
+   *
+   * @param message supplies the message
+   */
+  public static void info(Supplier<String> message) {
+    log(Level.INFO, message);
+  }
+
+  /**
+   * Logs a warning.
+   *
+   * @param message the message
+   */
+  public static void warn(String message) {
+    log(Level.WARN, message);
+  }
+
+  /**
+   * Logs a warning that is only built if warnings are enabled.
+   *
+   * @param message supplies the message
+   */
+  public static void warn(Supplier<String> message) {
+    log(Level.WARN, message);
+  }
+
+  /**
+   * Logs an error.
+   *
+   * @param message the message
+   */
+  public static void error(String message) {
+    log(Level.ERROR, message);
+  }
+
+  /**
+   * Logs an error that is only built if errors are enabled.
+   *
+   * @param message supplies the message
+   */
+  public static void error(Supplier<String> message) {
+    log(Level.ERROR, message);
+  }
+
+  /**
+   * Logs an error and the stack trace of its cause, both only built if errors are enabled.
+   *
+   * @param message supplies the message
+   * @param cause   the exception that caused the error
+   */
+  public static void error(Supplier<String> message, Throwable cause) {
+    log(Level.ERROR, message, cause);
+  }
+
+  /**
+   * Waits until the messages logged so far have been written, or until the timeout expires.
+   *
+   * @param timeoutMillis the longest time to wait, in milliseconds
+   * @return true if all messages were written
+   */
+  public static boolean flush(long timeoutMillis) {
+    long target = queued.get();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    while (written.get() < target) {
+      if (System.nanoTime() > deadline) {
+        return false;
+      }
+      Thread.yield();
+    }
+    return true;
+  }
+
+  /**
+   * Gets the number of messages dropped because the writer could not keep up.
+   *
+   * @return the number of dropped messages
+   */
+  public static long getDroppedCount() {
+    return dropped.get();
+  }
+
+  private static void log(Level messageLevel, String message) {
+    if (isEnabled(messageLevel)) {
+      enqueue(messageLevel, message);
+    }
+  }
+
+  private static void log(Level messageLevel, Supplier<String> message) {
+    if (isEnabled(messageLevel)) {
+      enqueue(messageLevel, message.get());
+    }
+  }
+
+  private static void log(Level messageLevel, Supplier<String> message, Throwable cause) {
+    if (isEnabled(messageLevel)) {
+      StringWriter trace = new StringWriter();
+      cause.printStackTrace(new PrintWriter(trace));
+      enqueue(messageLevel, message.get() + System.lineSeparator() + trace.toString().trim());
+    }
+  }
+
+  private static void enqueue(Level messageLevel, String message) {
+    if (queue.offer(new Entry(messageLevel, message))) {
+      queued.incrementAndGet();
+    } else {
+      dropped.incrementAndGet();
+    }
+  }
+
+  private static Level parseLevel(String name) {
+    if (name != null) {
+      for (Level candidate : Level.values()) {
+        if (candidate.name().equalsIgnoreCase(name.trim())) {
+          return candidate;
+        }
+      }
+    }
+    return Level.INFO;
+  }
+
+  private static void startWriter() {
+    Thread thread = new Thread(Log::drain, "calendar-log-writer");
+    thread.setDaemon(true);
+    thread.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> write(drainAll()),
+            "calendar-log-shutdown"));
+  }
+
+  private static void drain() {
+    List<Entry> batch = new ArrayList<>();
+    while (true) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException e) {
+        return;
+      }
+      queue.drainTo(batch);
+      write(batch);
+      batch.clear();
+    }
+  }
+
+  private static List<Entry> drainAll() {
+    List<Entry> rest = new ArrayList<>();
+    queue.drainTo(rest);
+    return rest;
+  }
+
+  private static synchronized void write(List<Entry> batch) {
+    for (Entry entry : batch) {
+      PrintStream out = entry.level.compareTo(Level.WARN) >= 0 ? System.err : System.out;
+      out.println("[" + entry.level + "] " + entry.message);
+    }
+    written.addAndGet(batch.size());
+  }
+
+  /**
+   * A message waiting to be written.
+   */
+  private static class Entry {
+    private final Level level;
+    private final String message;
+
+    Entry(Level level, String message) {
+      this.level = level;
+      this.message = message;
+    }
+  }
+}
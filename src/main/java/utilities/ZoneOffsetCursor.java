@@ -0,0 +1,116 @@
+package utilities;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * Converts between UTC and a single timezone while caching the current UTC offset.
+ *
+ * <p>A zone's offset only changes at its transitions (for example DST changes), so the cursor
+ * resolves the zone rules once and reuses the offset until a conversion falls outside the period
+ * between the surrounding transitions. Converting a time-ordered batch of events therefore costs
+ * one rules lookup per transition instead of one per event.
+ *
+ * <p>Local-to-UTC conversions within a day of a transition always take the exact path, so gaps
+ * and overlaps are resolved exactly as {@link TimeZoneHandler#convertToUTC} resolves them.
+ *
+ * <p>Instances are not thread-safe; create one cursor per batch.
+ */
+public class ZoneOffsetCursor {
+
+  private static final long TRANSITION_MARGIN_SECONDS = 24 * 60 * 60;
+
+  private final ZoneId zone;
+  private final ZoneRules rules;
+  private ZoneOffset offset;
+  private long validFrom;
+  private long validUntil;
+  private int lookups;
+
+  /**
+   * Creates a cursor for the given timezone.
+   *
+   * @param timezone the timezone identifier, e.g. "America/New_York"
+   * @throws IllegalArgumentException if the timezone is invalid
+   */
+  public ZoneOffsetCursor(String timezone) {
+    try {
+      this.zone = ZoneId.of(timezone, ZoneId.SHORT_IDS);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Invalid timezone: " + timezone);
+    }
+    this.rules = zone.getRules();
+    this.validFrom = Long.MAX_VALUE;
+    this.validUntil = Long.MIN_VALUE;
+  }
+
+  /**
+   * Converts a UTC date-time to the cursor's timezone.
+   *
+   * @param utcDateTime the UTC date-time
+   * @return the local date-time in the cursor's timezone
+   */
+  public LocalDateTime fromUTC(LocalDateTime utcDateTime) {
+    long epochSecond = utcDateTime.toEpochSecond(ZoneOffset.UTC);
+    if (epochSecond < validFrom || epochSecond >= validUntil) {
+      resolve(epochSecond);
+    }
+    return utcDateTime.plusSeconds(offset.getTotalSeconds());
+  }
+
+  /**
+   * Converts a local date-time in the cursor's timezone to UTC.
+   *
+   * @param localDateTime the local date-time
+   * @return the UTC date-time
+   */
+  public LocalDateTime toUTC(LocalDateTime localDateTime) {
+    if (offset != null) {
+      long epochSecond = localDateTime.toEpochSecond(offset);
+      if (epochSecond >= safeFrom() && epochSecond < safeUntil()) {
+        return localDateTime.minusSeconds(offset.getTotalSeconds());
+      }
+    }
+    Instant instant = localDateTime.atZone(zone).toInstant();
+    resolve(instant.getEpochSecond());
+    return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+
+  /**
+   * Gets the number of times the zone rules had to be consulted.
+   *
+   * @return the number of rules lookups
+   */
+  public int getLookupCount() {
+    return lookups;
+  }
+
+  private long safeFrom() {
+    return validFrom == Long.MIN_VALUE ? Long.MIN_VALUE : validFrom + TRANSITION_MARGIN_SECONDS;
+  }
+
+  private long safeUntil() {
+    return validUntil == Long.MAX_VALUE ? Long.MAX_VALUE : validUntil - TRANSITION_MARGIN_SECONDS;
+  }
+
+  private void resolve(long epochSecond) {
+    lookups++;
+    Instant instant = Instant.ofEpochSecond(epochSecond);
+    offset = rules.getOffset(instant);
+
+    if (rules.isFixedOffset()) {
+      validFrom = Long.MIN_VALUE;
+      validUntil = Long.MAX_VALUE;
+      return;
+    }
+
+    ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+    ZoneOffsetTransition next = rules.nextTransition(instant);
+    validFrom = previous != null ? previous.toEpochSecond() : Long.MIN_VALUE;
+    validUntil = next != null ? next.toEpochSecond() : Long.MAX_VALUE;
+  }
+}
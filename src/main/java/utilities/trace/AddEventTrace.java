@@ -0,0 +1,48 @@
+package utilities.trace;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for adding a single event to a calendar.
+ */
+@Name("calendar.AddEvent")
+@Label("Add Event")
+@Description("A single event added to a calendar, including its conflict check")
+public class AddEventTrace extends CalendarTrace {
+
+  @Label("Subject")
+  private String subject;
+
+  @Label("Auto Decline")
+  private boolean autoDecline;
+
+  @Label("Added")
+  private boolean added;
+
+  @Label("Event Count")
+  @Description("Number of events in the calendar after the operation")
+  private int eventCount;
+
+  /**
+   * Commits the event if it is enabled.
+   *
+   * @param calendarName the name of the calendar
+   * @param eventSubject the subject of the added event
+   * @param decline      whether conflicting events are declined
+   * @param wasAdded     whether the event was added
+   * @param events       the number of events in the calendar afterwards
+   */
+  public void record(String calendarName, String eventSubject, boolean decline, boolean wasAdded,
+                     int events) {
+    if (shouldCommit()) {
+      calendar = calendarName;
+      subject = eventSubject;
+      autoDecline = decline;
+      added = wasAdded;
+      eventCount = events;
+      commit();
+    }
+  }
+}
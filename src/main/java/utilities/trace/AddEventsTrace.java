@@ -0,0 +1,49 @@
+package utilities.trace;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for adding a batch of events to a calendar.
+ */
+@Name("calendar.AddEvents")
+@Label("Add Events")
+@Description("A batch of events added to a calendar with one conflict sweep")
+public class AddEventsTrace extends CalendarTrace {
+
+  @Label("Conflict Policy")
+  private String policy;
+
+  @Label("Batch Size")
+  private int batchSize;
+
+  @Label("Rejected")
+  @Description("Number of events of the batch that were not added")
+  private int rejected;
+
+  @Label("Event Count")
+  @Description("Number of events in the calendar after the operation")
+  private int eventCount;
+
+  /**
+   * Commits the event if it is enabled.
+   *
+   * @param calendarName   the name of the calendar
+   * @param conflictPolicy the conflict policy of the batch
+   * @param size           the number of events in the batch
+   * @param rejectedCount  the number of events that were not added
+   * @param events         the number of events in the calendar afterwards
+   */
+  public void record(String calendarName, String conflictPolicy, int size, int rejectedCount,
+                     int events) {
+    if (shouldCommit()) {
+      calendar = calendarName;
+      policy = conflictPolicy;
+      batchSize = size;
+      rejected = rejectedCount;
+      eventCount = events;
+      commit();
+    }
+  }
+}
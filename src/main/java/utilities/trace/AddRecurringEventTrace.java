@@ -0,0 +1,48 @@
+package utilities.trace;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for adding a recurring event and all its occurrences to a calendar.
+ */
+@Name("calendar.AddRecurringEvent")
+@Label("Add Recurring Event")
+@Description("A recurring series expanded, checked for conflicts and added to a calendar")
+public class AddRecurringEventTrace extends CalendarTrace {
+
+  @Label("Subject")
+  private String subject;
+
+  @Label("Occurrences")
+  private int occurrences;
+
+  @Label("Added")
+  private boolean added;
+
+  @Label("Event Count")
+  @Description("Number of events in the calendar after the operation")
+  private int eventCount;
+
+  /**
+   * Commits the event if it is enabled.
+   *
+   * @param calendarName    the name of the calendar
+   * @param eventSubject    the subject of the series
+   * @param occurrenceCount the number of occurrences in the series
+   * @param wasAdded        whether the series was added
+   * @param events          the number of events in the calendar afterwards
+   */
+  public void record(String calendarName, String eventSubject, int occurrenceCount,
+                     boolean wasAdded, int events) {
+    if (shouldCommit()) {
+      calendar = calendarName;
+      subject = eventSubject;
+      occurrences = occurrenceCount;
+      added = wasAdded;
+      eventCount = events;
+      commit();
+    }
+  }
+}
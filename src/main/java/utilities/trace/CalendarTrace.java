@@ -0,0 +1,26 @@
+package utilities.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base type of the Flight Recorder events emitted by the calendar application.
+ *
+ * <p>Every trace is used the same way: create it and call {@link #begin()} before the operation,
+ * then call the subclass's {@code record} method afterwards. {@code record} fills in the fields
+ * and commits only if the event is enabled in the running recording, so while no recording is
+ * active a trace costs an allocation the JIT removes and a flag check. The events are disabled
+ * unless a recording turns them on, for example with the {@code calendar.jfc} settings shipped
+ * with the application.
+ */
+@Category("Calendar")
+@Enabled(false)
+@StackTrace(false)
+public abstract class CalendarTrace extends Event {
+
+  @Label("Calendar")
+  protected String calendar;
+}
@@ -0,0 +1,37 @@
+package utilities.trace;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for checking one event against a calendar for conflicts.
+ */
+@Name("calendar.ConflictCheck")
+@Label("Conflict Check")
+@Description("An event checked against the events of a calendar for overlaps")
+public class ConflictCheckTrace extends CalendarTrace {
+
+  @Label("Conflict")
+  private boolean conflict;
+
+  @Label("Event Count")
+  @Description("Number of events the candidate was checked against")
+  private int eventCount;
+
+  /**
+   * Commits the event if it is enabled.
+   *
+   * @param calendarName the name of the calendar
+   * @param found        whether a conflict was found
+   * @param events       the number of events in the calendar
+   */
+  public void record(String calendarName, boolean found, int events) {
+    if (shouldCommit()) {
+      calendar = calendarName;
+      conflict = found;
+      eventCount = events;
+      commit();
+    }
+  }
+}
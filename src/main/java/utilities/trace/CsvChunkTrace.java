@@ -0,0 +1,54 @@
+package utilities.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for reading or writing one chunk of rows of a CSV file.
+ *
+ * <p>Imports and exports are split into chunks of {@link #CHUNK_ROWS} rows so that a long file
+ * shows up as a series of events whose durations can be compared, rather than one opaque span.
+ */
+@Name("calendar.CsvChunk")
+@Label("CSV Chunk")
+@Category({"Calendar", "CSV"})
+@Description("A chunk of rows read from or written to a CSV file")
+public class CsvChunkTrace extends CalendarTrace {
+
+  /**
+   * The number of rows in a full chunk.
+   */
+  public static final int CHUNK_ROWS = 1024;
+
+  @Label("Operation")
+  private String operation;
+
+  @Label("File")
+  private String file;
+
+  @Label("First Row")
+  private long firstRow;
+
+  @Label("Rows")
+  private int rows;
+
+  /**
+   * Commits the event if it is enabled.
+   *
+   * @param operationName {@code import} or {@code export}
+   * @param fileName      the CSV file
+   * @param first         the index of the first data row in the chunk
+   * @param rowCount      the number of rows in the chunk
+   */
+  public void record(String operationName, String fileName, long first, int rowCount) {
+    if (shouldCommit()) {
+      operation = operationName;
+      file = fileName;
+      firstRow = first;
+      rows = rowCount;
+      commit();
+    }
+  }
+}
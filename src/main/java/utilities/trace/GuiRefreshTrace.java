@@ -0,0 +1,43 @@
+package utilities.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one coalesced refresh of the GUI.
+ */
+@Name("calendar.GuiRefresh")
+@Label("GUI Refresh")
+@Category({"Calendar", "GUI"})
+@Description("Dirty regions of the GUI rebuilt in one frame")
+public class GuiRefreshTrace extends CalendarTrace {
+
+  @Label("Regions")
+  private String regions;
+
+  @Label("Refreshes")
+  @Description("Number of region handlers run")
+  private int refreshes;
+
+  @Label("Requests")
+  @Description("Number of refresh requests made since the application started")
+  private long requests;
+
+  /**
+   * Commits the event if it is enabled.
+   *
+   * @param dirtyRegions the regions that were rebuilt
+   * @param handlersRun  the number of region handlers run
+   * @param requestCount the total number of refresh requests so far
+   */
+  public void record(Object dirtyRegions, int handlersRun, long requestCount) {
+    if (shouldCommit()) {
+      regions = String.valueOf(dirtyRegions);
+      refreshes = handlersRun;
+      requests = requestCount;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package utilities.trace;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a query of the events on a date or in a date range.
+ */
+@Name("calendar.RangeQuery")
+@Label("Range Query")
+@Description("Events of a calendar looked up by date or date range")
+public class RangeQueryTrace extends CalendarTrace {
+
+  @Label("Query")
+  private String query;
+
+  @Label("From")
+  private String from;
+
+  @Label("To")
+  private String to;
+
+  @Label("Result Size")
+  private int resultSize;
+
+  @Label("Event Count")
+  @Description("Number of events in the calendar")
+  private int eventCount;
+
+  /**
+   * Commits the event if it is enabled.
+   *
+   * @param calendarName the name of the calendar
+   * @param queryName    the kind of query
+   * @param start        the first date queried
+   * @param end          the last date queried
+   * @param results      the number of events returned
+   * @param events       the number of events in the calendar
+   */
+  public void record(String calendarName, String queryName, Object start, Object end,
+                     int results, int events) {
+    if (shouldCommit()) {
+      calendar = calendarName;
+      query = queryName;
+      from = String.valueOf(start);
+      to = String.valueOf(end);
+      resultSize = results;
+      eventCount = events;
+      commit();
+    }
+  }
+}
@@ -3,7 +3,6 @@ package view;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
-import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
@@ -13,33 +12,38 @@ import java.awt.event.ComponentEvent;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
-import javax.swing.JEditorPane;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
-import javax.swing.JScrollPane;
 import javax.swing.JSpinner;
-import javax.swing.JViewport;
 import javax.swing.SpinnerDateModel;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
 
+import model.calendar.CalendarChange;
+import model.calendar.CalendarChangeListener;
+import model.calendar.DaySummary;
 import model.calendar.ICalendar;
 import model.event.Event;
 import model.event.RecurringEvent;
 import utilities.TimeZoneHandler;
+import view.display.EventListView;
+import view.display.MonthDataLoader;
+import view.display.RefreshScheduler;
+import view.display.RefreshScheduler.Region;
 
 /**
  * Panel class that displays the calendar view and handles calendar-related interactions.
@@ -48,8 +52,15 @@ public class GUICalendarPanel extends JPanel {
   private final JPanel calendarGrid;
   private final Map<LocalDate, JButton> dateButtons;
   private final Map<LocalDate, List<Event>> eventsByDate;
+  private final Map<LocalDate, Set<UUID>> eventIdsByDate;
+  private final List<RecurringEvent> recurringSeries;
+  private final Map<LocalDate, DaySummary> daySummaries;
+  private final Set<LocalDate> dirtyDates;
+  private final MonthDataLoader monthLoader;
+  private final CalendarChangeListener changeListener;
+  private final RefreshScheduler refreshScheduler;
   private JButton statusButton;
-  private JEditorPane eventListArea;
+  private final EventListView eventListView;
   private YearMonth currentMonth;
   private LocalDate selectedDate;
   private ICalendar selectedCalendar;
@@ -57,7 +68,9 @@ public class GUICalendarPanel extends JPanel {
   private CalendarPanelListener listener;
   private JLabel monthYearLabel;
   private Event currentSelectedEvent = null;
+  private boolean monthEventsPending;
   private static final int CELL_WIDTH = 78;
+  private static final int PREFETCH_MONTHS = 1;
   private static final int CELL_HEIGHT = 60;
   private static final int GRID_WIDTH = 550;
   private static final int GRID_HEIGHT = 400;
@@ -136,10 +149,17 @@ public class GUICalendarPanel extends JPanel {
     setLayout(new BorderLayout(10, 10));
     setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
+    refreshScheduler = new RefreshScheduler(this);
     currentMonth = YearMonth.now();
     selectedDate = LocalDate.now();
     dateButtons = new HashMap<>();
     eventsByDate = new HashMap<>();
+    eventIdsByDate = new HashMap<>();
+    recurringSeries = new ArrayList<>();
+    daySummaries = new HashMap<>();
+    dirtyDates = new HashSet<>();
+    monthLoader = new MonthDataLoader();
+    changeListener = change -> SwingUtilities.invokeLater(() -> applyCalendarChange(change));
 
     JLabel monthLabel = new JLabel("", SwingConstants.CENTER);
     monthLabel.setFont(new Font("Arial", Font.BOLD, 16));
@@ -148,9 +168,9 @@ public class GUICalendarPanel extends JPanel {
     calendarGrid.setBackground(Color.WHITE);
 
     statusButton = new JButton("Check Status");
-    eventListArea = new JEditorPane();
-    eventListArea.setEditable(false);
-    eventListArea.setContentType("text/html");
+    eventListView = new EventListView(new TimeZoneHandler().getSystemDefaultTimezone());
+    eventListView.setEventActions(event -> selectEventAction(event, "edit"),
+            event -> selectEventAction(event, "print"));
     JSpinner startDateSpinner = new JSpinner(new SpinnerDateModel());
     JSpinner endDateSpinner = new JSpinner(new SpinnerDateModel());
 
@@ -158,22 +178,22 @@ public class GUICalendarPanel extends JPanel {
     add(createCalendarPanel(), BorderLayout.CENTER);
     add(createControlPanel(), BorderLayout.SOUTH);
 
+    refreshScheduler.register(Region.GRID, this::rebuildCalendarGrid);
+    refreshScheduler.register(Region.CELLS, this::refreshDirtyCells);
+    refreshScheduler.register(Region.EVENT_LIST, () -> {
+      if (selectedDate != null) {
+        updateEventList(selectedDate);
+      }
+    });
+
     addComponentListener(new ComponentAdapter() {
       @Override
       public void componentResized(ComponentEvent e) {
-        SwingUtilities.invokeLater(() -> {
-          updateCalendarDisplay();
-          revalidate();
-          repaint();
-        });
+        updateCalendarDisplay();
       }
     });
 
-    SwingUtilities.invokeLater(() -> {
-      updateCalendarDisplay();
-      revalidate();
-      repaint();
-    });
+    updateCalendarDisplay();
   }
 
   private JPanel createNavigationPanel() {
@@ -325,21 +345,30 @@ public class GUICalendarPanel extends JPanel {
   @Override
   public void updateUI() {
     super.updateUI();
-    if (currentMonth != null) {
-      SwingUtilities.invokeLater(() -> {
-        updateCalendarDisplay();
-        revalidate();
-        repaint();
-      });
+    // Called by the superclass constructor before the scheduler exists
+    if (refreshScheduler != null && currentMonth != null) {
+      updateCalendarDisplay();
     }
   }
 
+  /**
+   * Schedules a rebuild of the month grid. Requests made within the same frame are merged into
+   * a single rebuild.
+   */
   private void updateCalendarDisplay() {
-    if (!SwingUtilities.isEventDispatchThread()) {
-      SwingUtilities.invokeLater(this::updateCalendarDisplay);
-      return;
-    }
+    refreshScheduler.markDirty(Region.GRID);
+  }
+
+  /**
+   * Gets the scheduler that merges refreshes of this panel.
+   *
+   * @return the refresh scheduler
+   */
+  public RefreshScheduler getRefreshScheduler() {
+    return refreshScheduler;
+  }
 
+  private void rebuildCalendarGrid() {
     monthYearLabel.setText(currentMonth.getMonth().toString() + " " + currentMonth.getYear());
 
     calendarGrid.removeAll();
@@ -431,8 +460,23 @@ public class GUICalendarPanel extends JPanel {
       updateEventList(date);
     });
 
-    // Add event indicators to the date button
-    if (eventsByDate.containsKey(date)) {
+    // Add event indicators to the date button, preferring the precomputed summary
+    DaySummary summary = daySummaries.get(date);
+    if (summary != null) {
+      List<String> subjects = summary.getSubjects();
+      int shown = Math.min(subjects.size(), 2);
+      for (int i = 0; i < shown; i++) {
+        eventsPanel.add(createEventIndicator(subjects.get(i)));
+        eventsPanel.add(Box.createVerticalStrut(2));
+      }
+
+      if (summary.getEventCount() > shown) {
+        JLabel moreLabel = new JLabel("+ " + (summary.getEventCount() - shown) + " more");
+        moreLabel.setFont(new Font("Arial", Font.PLAIN, 9));
+        moreLabel.setForeground(TEXT_COLOR);
+        eventsPanel.add(moreLabel);
+      }
+    } else if (eventsByDate.containsKey(date)) {
       List<Event> events = eventsByDate.get(date);
 
       // Convert events to local time zone for display
@@ -460,7 +504,7 @@ public class GUICalendarPanel extends JPanel {
       // Display up to two events
       for (int i = 0; i < Math.min(uniqueEvents.size(), 2); i++) {
         Event event = uniqueEvents.get(i);
-        JPanel eventIndicator = createEventIndicator(event);
+        JPanel eventIndicator = createEventIndicator(event.getSubject());
         eventsPanel.add(eventIndicator);
         eventsPanel.add(Box.createVerticalStrut(2));
       }
@@ -477,14 +521,14 @@ public class GUICalendarPanel extends JPanel {
     return button;
   }
 
-  private JPanel createEventIndicator(Event event) {
+  private JPanel createEventIndicator(String subject) {
     JPanel indicator = new JPanel();
     indicator.setBackground(HEADER_COLOR);
     indicator.setPreferredSize(new Dimension(70, 15));
     indicator.setBorder(BorderFactory.createLineBorder(HEADER_COLOR.darker(), 1));
     indicator.setLayout(new BorderLayout());
 
-    JLabel titleLabel = new JLabel(event.getSubject());
+    JLabel titleLabel = new JLabel(subject);
     titleLabel.setFont(new Font("Arial", Font.PLAIN, 9));
     titleLabel.setForeground(Color.WHITE);
     titleLabel.setBorder(BorderFactory.createEmptyBorder(0, 5, 0, 0));
@@ -499,21 +543,157 @@ public class GUICalendarPanel extends JPanel {
    * @param calendar the calendar to display
    */
   public void updateCalendar(ICalendar calendar) {
-    try {
-      this.currentCalendar = calendar;
+    if (currentCalendar != calendar) {
+      if (currentCalendar != null) {
+        currentCalendar.removeChangeListener(changeListener);
+      }
+      if (calendar != null) {
+        calendar.addChangeListener(changeListener);
+      }
+    }
+    this.currentCalendar = calendar;
+    clearDateEvents();
+    recurringSeries.clear();
+    daySummaries.clear();
+    updateCalendarDisplay();
+    requestMonthData();
+  }
+
+  /**
+   * Starts loading the visible month of the current calendar in the background. The grid is
+   * rebuilt once the month's day summaries are ready; a load for a month the user has already
+   * navigated away from is cancelled.
+   */
+  private void requestMonthData() {
+    if (currentCalendar == null) {
+      return;
+    }
+    if (!SwingUtilities.isEventDispatchThread()) {
+      SwingUtilities.invokeLater(this::requestMonthData);
+      return;
+    }
+    monthEventsPending = true;
+    monthLoader.load(currentCalendar, currentMonth, this::applyMonthData);
+  }
 
-      List<Event> events = calendar.getAllEvents();
-      updateEvents(events);
+  /**
+   * Starts reloading only the day summaries of the visible month, for changes whose events the
+   * view has already placed itself. A full load that has not finished yet is restarted instead,
+   * since it would be cancelled and its events are still needed.
+   */
+  private void requestMonthSummaries() {
+    if (currentCalendar == null) {
+      return;
+    }
+    monthLoader.load(currentCalendar, currentMonth, monthEventsPending, this::applyMonthData);
+  }
 
-      List<RecurringEvent> recurringEvents = calendar.getAllRecurringEvents();
-      updateRecurringEvents(recurringEvents);
+  /**
+   * Applies a loaded month to the view. Called on the EDT.
+   *
+   * @param data the loaded month
+   */
+  private void applyMonthData(MonthDataLoader.MonthData data) {
+    if (!data.getMonth().equals(currentMonth)) {
+      return;
+    }
 
-      if (selectedDate != null) {
-        updateEventList(selectedDate);
+    if (data.hasEvents()) {
+      monthEventsPending = false;
+      for (LocalDate date : data.getSummaries().keySet()) {
+        List<Event> dayEvents = data.getEventsByDate().get(date);
+        setDateEvents(date, dayEvents != null ? dayEvents : new ArrayList<>());
+      }
+    }
+    daySummaries.clear();
+    daySummaries.putAll(data.getSummaries());
+    expandRecurringEvents();
+
+    updateCalendarDisplay();
+    if (selectedDate != null && YearMonth.from(selectedDate).equals(currentMonth)) {
+      updateEventList(selectedDate);
+    }
+  }
+
+  /**
+   * Applies a single change of the current calendar to the view. The changed event is moved
+   * between the dates it used to start on and now starts on, and the cells of those dates are
+   * marked for a rebuild. The rebuild and the reload of the month's summaries are scheduled, so
+   * a burst of changes rebuilds each touched cell and reloads the summaries only once. Called on
+   * the EDT.
+   *
+   * @param change the change to apply
+   */
+  private void applyCalendarChange(CalendarChange change) {
+    Event event = change.getEvent();
+    Set<LocalDate> touched = new HashSet<>();
+    Event before = change.getPrevious() != null ? change.getPrevious() : event;
+    LocalDate oldDate = localDateOf(before);
+    if (removeDateEvent(oldDate, event.getId())) {
+      touched.add(oldDate);
+    }
+    if (change.getType() != CalendarChange.Type.REMOVED) {
+      LocalDate newDate = localDateOf(event);
+      addDateEvent(newDate, event);
+      touched.add(newDate);
+    }
+
+    // The month's summaries of the dates are stale; fall back to the dates' events until reloaded
+    daySummaries.keySet().removeAll(touched);
+    dirtyDates.addAll(touched);
+    refreshScheduler.markDirty(Region.CELLS);
+    if (selectedDate != null && touched.contains(selectedDate)) {
+      refreshScheduler.markDirty(Region.EVENT_LIST);
+    }
+  }
+
+  /**
+   * Rebuilds the cells of the dates changed since the last refresh and reloads the month's
+   * summaries once for all of them.
+   */
+  private void refreshDirtyCells() {
+    if (dirtyDates.isEmpty()) {
+      return;
+    }
+    for (LocalDate date : dirtyDates) {
+      refreshDateCell(date);
+    }
+    dirtyDates.clear();
+    requestMonthSummaries();
+  }
+
+  private LocalDate localDateOf(Event event) {
+    TimeZoneHandler timezoneHandler = new TimeZoneHandler();
+    return timezoneHandler.convertFromUTC(event.getStartDateTime(),
+            timezoneHandler.getSystemDefaultTimezone()).toLocalDate();
+  }
+
+  /**
+   * Rebuilds the grid cell of one date, leaving the rest of the grid untouched.
+   *
+   * @param date the date whose cell to rebuild
+   */
+  private void refreshDateCell(LocalDate date) {
+    JButton oldButton = dateButtons.get(date);
+    if (oldButton == null) {
+      return;
+    }
+    int index = -1;
+    for (int i = 0; i < calendarGrid.getComponentCount(); i++) {
+      if (calendarGrid.getComponent(i) == oldButton) {
+        index = i;
+        break;
       }
-    } catch (Exception e) {
-      System.err.println("Error updating calendar: " + e.getMessage());
     }
+    if (index < 0) {
+      return;
+    }
+    JButton button = createDateButton(date);
+    calendarGrid.remove(index);
+    calendarGrid.add(button, index);
+    dateButtons.put(date, button);
+    calendarGrid.revalidate();
+    button.repaint();
   }
 
   /**
@@ -522,12 +702,15 @@ public class GUICalendarPanel extends JPanel {
    * calendar remain.
    */
   public void clearEvents() {
-    eventsByDate.clear();
+    monthLoader.cancel();
+    monthEventsPending = false;
+    clearDateEvents();
+    recurringSeries.clear();
+    daySummaries.clear();
+    dirtyDates.clear();
     updateCalendarDisplay();
 
-    if (eventListArea != null) {
-      eventListArea.setText("");
-    }
+    eventListView.showMessage("");
   }
 
   /**
@@ -551,13 +734,17 @@ public class GUICalendarPanel extends JPanel {
       datesToUpdate.add(eventDate);
     }
 
+    // Summaries of the updated dates are stale until the month is reloaded
+    daySummaries.keySet().removeAll(datesToUpdate);
+    requestMonthData();
+
     // Clear events only for dates that we're updating
     if (currentCalendar != null && !eventsByDate.isEmpty()) {
       for (LocalDate date : datesToUpdate) {
-        eventsByDate.put(date, new ArrayList<>());
+        setDateEvents(date, new ArrayList<>());
       }
     } else {
-      eventsByDate.clear();
+      clearDateEvents();
     }
 
     // Add each event to its corresponding date in the map
@@ -565,78 +752,88 @@ public class GUICalendarPanel extends JPanel {
       // Convert UTC time to local time for display and date association
       LocalDateTime localStartDateTime = timezoneHandler.convertFromUTC(event.getStartDateTime(),
               systemTimezone);
-      LocalDate eventDate = localStartDateTime.toLocalDate();
-
-      // Get or create the list for this date
-      List<Event> dateEvents = eventsByDate
-              .computeIfAbsent(eventDate, k -> new ArrayList<>());
-
-      // Avoid duplicate events
-      if (!containsEventWithSameId(dateEvents, event)) {
-        dateEvents.add(event);
-      }
+      addDateEvent(localStartDateTime.toLocalDate(), event);
     }
 
-    // Force immediate refresh of calendar display to show new events
-    SwingUtilities.invokeLater(() -> {
-      updateCalendarDisplay();
-
-      // Update the event list for the currently selected date if it has events
-      if (selectedDate != null) {
-        updateEventList(selectedDate);
-      }
+    // Refresh the grid and the selected date's events once the current burst of updates ends
+    refreshScheduler.markDirty(Region.GRID, Region.EVENT_LIST);
+  }
 
-      repaint();
-      revalidate();
-    });
+  /**
+   * Adds an event to a date unless an event with the same ID is already shown on it.
+   *
+   * @param date  the local date
+   * @param event the event to add
+   */
+  private void addDateEvent(LocalDate date, Event event) {
+    if (eventIdsByDate.computeIfAbsent(date, k -> new HashSet<>()).add(event.getId())) {
+      eventsByDate.computeIfAbsent(date, k -> new ArrayList<>()).add(event);
+    }
   }
 
   /**
-   * Check if a list of events already contains a duplicate of the given event.
-   * A duplicate is defined as an event with the same ID OR the same subject on the same day,
-   * regardless of time. This is especially important for recurring events to prevent duplicates.
+   * Replaces the events shown on a date.
    *
-   * @param events The list of events to check
-   * @param event  The event to look for
-   * @return true if a duplicate event exists in the list
+   * @param date   the local date
+   * @param events the events of the date
    */
-  private boolean containsEventWithSameId(List<Event> events, Event event) {
-    // Just check for exact ID matches - simpler approach to avoid duplicates
-    for (Event e : events) {
-      if (e.getId().equals(event.getId())) {
-        return true;
-      }
+  private boolean removeDateEvent(LocalDate date, UUID eventId) {
+    Set<UUID> ids = eventIdsByDate.get(date);
+    if (ids == null || !ids.remove(eventId)) {
+      return false;
     }
-    return false;
+    eventsByDate.get(date).removeIf(e -> e.getId().equals(eventId));
+    return true;
+  }
+
+  private void setDateEvents(LocalDate date, List<Event> events) {
+    eventsByDate.remove(date);
+    eventIdsByDate.remove(date);
+    for (Event event : events) {
+      addDateEvent(date, event);
+    }
+  }
+
+  private void clearDateEvents() {
+    eventsByDate.clear();
+    eventIdsByDate.clear();
   }
 
   /**
-   * Updates the list of recurring events.
+   * Updates the list of recurring events. Occurrences are only laid out for the visible month and
+   * {@value #PREFETCH_MONTHS} month(s) either side of it; the rest are expanded as the user
+   * navigates, so a long-running series costs the same as a short one.
    *
    * @param recurringEvents the list of recurring events to display
    */
   public void updateRecurringEvents(List<RecurringEvent> recurringEvents) {
+    recurringSeries.clear();
+    recurringSeries.addAll(recurringEvents);
+    expandRecurringEvents();
+    updateCalendarDisplay();
+  }
+
+  /**
+   * Adds the occurrences of the recurring series that fall within the visible window.
+   */
+  private void expandRecurringEvents() {
+    if (recurringSeries.isEmpty()) {
+      return;
+    }
     TimeZoneHandler timezoneHandler = new TimeZoneHandler();
     String systemTimezone = timezoneHandler.getSystemDefaultTimezone();
-
-    for (RecurringEvent event : recurringEvents) {
-      LocalDateTime localStartDateTime = timezoneHandler.convertFromUTC(event.getStartDateTime(),
-              systemTimezone);
-      LocalDate startDate = localStartDateTime.toLocalDate();
-      LocalDate endDate = event.getEndDate();
-
-      for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-        if (event.getRepeatDays().contains(date.getDayOfWeek())) {
-          List<Event> dateEvents = eventsByDate
-                  .computeIfAbsent(date, k -> new ArrayList<>());
-
-          if (!containsEventWithSameId(dateEvents, event)) {
-            dateEvents.add(event);
-          }
-        }
+    LocalDate windowStart = currentMonth.minusMonths(PREFETCH_MONTHS).atDay(1);
+    LocalDate windowEnd = currentMonth.plusMonths(PREFETCH_MONTHS).atEndOfMonth();
+
+    for (RecurringEvent event : recurringSeries) {
+      LocalDate startDate = timezoneHandler.convertFromUTC(event.getStartDateTime(),
+              systemTimezone).toLocalDate();
+      LocalDate from = startDate.isAfter(windowStart) ? startDate : windowStart;
+      Iterator<LocalDate> dates = event.getOccurrenceDatesBetween(from, windowEnd);
+      while (dates.hasNext()) {
+        addDateEvent(dates.next(), event);
       }
     }
-    updateCalendarDisplay();
   }
 
   /**
@@ -656,7 +853,13 @@ public class GUICalendarPanel extends JPanel {
   public void setSelectedDate(LocalDate date) {
     if (date != null) {
       selectedDate = date;
-      currentMonth = YearMonth.from(date);
+      YearMonth month = YearMonth.from(date);
+      if (!month.equals(currentMonth)) {
+        currentMonth = month;
+        daySummaries.clear();
+        expandRecurringEvents();
+        requestMonthData();
+      }
       updateCalendarDisplay();
     }
   }
@@ -666,7 +869,10 @@ public class GUICalendarPanel extends JPanel {
    */
   public void navigateToPreviousMonth() {
     currentMonth = currentMonth.minusMonths(1);
+    daySummaries.clear();
+    expandRecurringEvents();
     updateCalendarDisplay();
+    requestMonthData();
   }
 
   /**
@@ -674,7 +880,10 @@ public class GUICalendarPanel extends JPanel {
    */
   public void navigateToNextMonth() {
     currentMonth = currentMonth.plusMonths(1);
+    daySummaries.clear();
+    expandRecurringEvents();
     updateCalendarDisplay();
+    requestMonthData();
   }
 
   /**
@@ -923,49 +1132,9 @@ public class GUICalendarPanel extends JPanel {
     }
   }
 
-  /**
-   * Displays a formatted HTML message in the event list area with better styling.
-   *
-   * @param htmlMessage the HTML message to display
-   */
-  private void displayFormattedMessageInEventList(String htmlMessage) {
-    eventListArea.setContentType("text/html");
-    eventListArea.setText(htmlMessage);
-    eventListArea.setCaretPosition(0);
-  }
-
-  private void displayMessageInEventList(String message) {
-    JPanel messagePanel = new JPanel(new BorderLayout());
-    messagePanel.setBackground(Color.WHITE);
-
-    JLabel messageLabel = new JLabel(message, SwingConstants.CENTER);
-    messageLabel.setFont(new Font("Arial", Font.PLAIN, 14));
-    messagePanel.add(messageLabel, BorderLayout.CENTER);
-
-    if (eventListArea.getParent() instanceof JViewport) {
-      JViewport viewport = (JViewport) eventListArea.getParent();
-      if (viewport.getParent() instanceof JScrollPane) {
-        JScrollPane scrollPane = (JScrollPane) viewport.getParent();
-        Container parent = scrollPane.getParent();
-        if (parent != null) {
-          int index = -1;
-          for (int i = 0; i < parent.getComponentCount(); i++) {
-            if (parent.getComponent(i) == scrollPane) {
-              index = i;
-              break;
-            }
-          }
-          if (index >= 0) {
-            JScrollPane newScrollPane = new JScrollPane(messagePanel);
-            newScrollPane.setBorder(null);
-            parent.remove(scrollPane);
-            parent.add(newScrollPane, index);
-            parent.revalidate();
-            parent.repaint();
-          }
-        }
-      }
-    }
+  private void selectEventAction(Event event, String action) {
+    currentSelectedEvent = event;
+    handleEventAction(event.getId().toString(), action);
   }
 
   /**
@@ -976,145 +1145,35 @@ public class GUICalendarPanel extends JPanel {
    * @param events    the list of events in the range
    */
   public void updateEventListRange(LocalDate startDate, LocalDate endDate, List<Event> events) {
-    if (events == null || events.isEmpty()) {
-      displayMessageInEventList("No events found between " + startDate + " and " + endDate);
-      return;
-    }
-
-    JPanel eventsContainer = new JPanel();
-    eventsContainer.setLayout(new BoxLayout(eventsContainer, BoxLayout.Y_AXIS));
-    eventsContainer.setBackground(Color.WHITE);
-
-    JLabel titleLabel = new JLabel("Events from " + startDate + " to " + endDate);
-    titleLabel.setFont(new Font("Arial", Font.BOLD, 16));
-    titleLabel.setForeground(HEADER_COLOR);
-    titleLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
-    eventsContainer.add(titleLabel);
-
-    for (Event event : events) {
-      String currentEventId = event.getSubject().replace(' ', '_')
-              + "-" + event.getStartDateTime().toString();
-      System.out.println("[DEBUG] Using event ID format: " + currentEventId);
-      System.out.println("[DEBUG] Creating event entry with ID: " + currentEventId);
-
-      JPanel eventPanel = new JPanel(new BorderLayout(5, 5));
-      eventPanel.setBackground(Color.WHITE);
-      eventPanel.setBorder(BorderFactory
-              .createCompoundBorder(BorderFactory.createLineBorder(BORDER_COLOR),
-                      BorderFactory.createEmptyBorder(8, 8, 8, 8)));
-
-      JPanel detailsPanel = new JPanel();
-      detailsPanel.setLayout(new BoxLayout(detailsPanel, BoxLayout.Y_AXIS));
-      detailsPanel.setBackground(Color.WHITE);
-
-      JLabel subjectLabel = new JLabel(event.getSubject());
-      subjectLabel.setFont(new Font("Arial", Font.BOLD, 14));
-      subjectLabel.setForeground(HEADER_COLOR);
-      subjectLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-      detailsPanel.add(subjectLabel);
-      detailsPanel.add(Box.createVerticalStrut(3));
-
-      String dateTimeStr = event.getStartDateTime()
-              .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) + " - "
-              + event.getEndDateTime().format(DateTimeFormatter.ofPattern("HH:mm"));
-      JLabel dateTimeLabel = new JLabel(dateTimeStr);
-      dateTimeLabel.setFont(new Font("Arial", Font.PLAIN, 12));
-      dateTimeLabel.setForeground(Color.DARK_GRAY);
-      dateTimeLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-      detailsPanel.add(dateTimeLabel);
-      detailsPanel.add(Box.createVerticalStrut(3));
-
-      if (event.getDescription() != null && !event.getDescription().isEmpty()) {
-        JLabel descLabel = new JLabel(event.getDescription());
-        descLabel.setFont(new Font("Arial", Font.PLAIN, 12));
-        descLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        detailsPanel.add(descLabel);
-        detailsPanel.add(Box.createVerticalStrut(3));
-      }
-
-      if (event.getLocation() != null && !event.getLocation().isEmpty()) {
-        JLabel locLabel = new JLabel(event.getLocation());
-        locLabel.setFont(new Font("Arial", Font.ITALIC, 12));
-        locLabel.setForeground(Color.DARK_GRAY);
-        locLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        detailsPanel.add(locLabel);
-      }
+    updateEventListRangeFromCursor(startDate, endDate,
+            events != null ? events.iterator() : null);
+  }
 
-      eventPanel.add(detailsPanel, BorderLayout.CENTER);
-
-      JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
-      buttonPanel.setBackground(Color.WHITE);
-
-      JButton editButton = new JButton("Edit");
-      editButton.setBackground(HEADER_COLOR);
-      editButton.setForeground(Color.WHITE);
-      editButton.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
-      editButton.setFocusPainted(false);
-      final String eventIdForEdit = currentEventId;
-      editButton.addActionListener(e -> {
-        System.out.println("[DEBUG] Edit button clicked for event in range view: "
-                + eventIdForEdit);
-        highlightEvent(eventPanel);
-        handleEventAction(eventIdForEdit, "edit");
-      });
-      buttonPanel.add(editButton);
-
-
-      JButton printButton = new JButton("Print");
-      printButton.setBackground(HEADER_COLOR);
-      printButton.setForeground(Color.WHITE);
-      printButton.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
-      printButton.setFocusPainted(false);
-      final String eventIdForPrint = currentEventId;
-      printButton.addActionListener(e -> {
-        System.out.println("[DEBUG] Print button clicked for event in range view: "
-                + eventIdForPrint);
-        highlightEvent(eventPanel);
-        handleEventAction(eventIdForPrint, "print");
-      });
-      buttonPanel.add(printButton);
-
-      eventPanel.add(buttonPanel, BorderLayout.SOUTH);
-
-      eventsContainer.add(eventPanel);
-      eventsContainer.add(Box.createVerticalStrut(10));
+  /**
+   * Updates the event list area with events in a date range read from a cursor. The list is
+   * virtualized: rows are only formatted when they scroll into view, and the cursor is read a
+   * page at a time as the user scrolls.
+   *
+   * @param startDate the start date
+   * @param endDate   the end date
+   * @param events    the events in the range, in display order
+   */
+  public void updateEventListRangeFromCursor(LocalDate startDate, LocalDate endDate,
+                                             Iterator<Event> events) {
+    if (events == null || !events.hasNext()) {
+      eventListView.showMessage("No events found between " + startDate + " and " + endDate);
+      return;
     }
+    eventListView.showEvents("Events from " + startDate + " to " + endDate, events);
+  }
 
-    JScrollPane scrollPane = new JScrollPane(eventsContainer);
-    scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
-    scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
-    scrollPane.setBorder(null);
-    scrollPane.getViewport().setBackground(Color.WHITE);
-
-    if (eventListArea.getParent() instanceof JViewport) {
-      JViewport viewport = (JViewport) eventListArea.getParent();
-      if (viewport.getParent() instanceof JScrollPane) {
-        JScrollPane currentScrollPane = (JScrollPane) viewport.getParent();
-        Container parent = currentScrollPane.getParent();
-        if (parent != null) {
-          int index = -1;
-          for (int i = 0; i < parent.getComponentCount(); i++) {
-            if (parent.getComponent(i) == currentScrollPane) {
-              index = i;
-              break;
-            }
-          }
-          if (index >= 0) {
-            parent.remove(currentScrollPane);
-            parent.add(scrollPane, index);
-            parent.revalidate();
-            parent.repaint();
-
-            SwingUtilities.invokeLater(() -> {
-              parent.revalidate();
-              parent.repaint();
-              scrollPane.revalidate();
-              scrollPane.repaint();
-            });
-          }
-        }
-      }
-    }
+  /**
+   * Gets the list that shows the events of a date range.
+   *
+   * @return the event list view
+   */
+  public EventListView getEventListView() {
+    return eventListView;
   }
 
   /**
@@ -1128,7 +1187,9 @@ public class GUICalendarPanel extends JPanel {
       return;
     }
 
-    eventsByDate.put(date, new ArrayList<>(events));
+    setDateEvents(date, events != null ? events : new ArrayList<>());
+    daySummaries.remove(date);
+    requestMonthData();
 
     boolean isBusy = events != null && !events.isEmpty();
     updateDateStatus(date, isBusy, events != null ? events.size() : 0);
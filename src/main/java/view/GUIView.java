@@ -35,6 +35,7 @@ import model.calendar.ICalendar;
 import model.event.Event;
 import model.event.RecurringEvent;
 import utilities.TimeZoneHandler;
+import view.display.RefreshScheduler;
 import viewmodel.CalendarViewModel;
 import viewmodel.EventViewModel;
 import viewmodel.ExportImportViewModel;
@@ -90,6 +91,14 @@ public class GUIView extends JFrame implements ICalendarView, IGUIView, Calendar
     messageArea.setLineWrap(true);
     messageArea.setWrapStyleWord(true);
 
+    // Side panels refresh together with the calendar grid, at most once per frame
+    calendarPanel.getRefreshScheduler().register(RefreshScheduler.Region.STATUS, () -> {
+      eventPanel.refresh();
+      calendarSelectorPanel.refresh();
+      revalidate();
+      repaint();
+    });
+
     // Set up layout
     setupLayout();
 
@@ -877,13 +886,8 @@ public class GUIView extends JFrame implements ICalendarView, IGUIView, Calendar
 
   @Override
   public void refreshView() {
-    SwingUtilities.invokeLater(() -> {
-      calendarPanel.refresh();
-      eventPanel.refresh();
-      calendarSelectorPanel.refresh();
-      revalidate();
-      repaint();
-    });
+    calendarPanel.getRefreshScheduler().markDirty(RefreshScheduler.Region.GRID,
+            RefreshScheduler.Region.STATUS);
   }
 
   @Override
@@ -324,49 +324,22 @@ public class CalendarDisplayManager {
   }
 
   /**
-   * Updates the event list with events in a date range.
+   * Updates the event list with events in a date range. Only the rows scrolled into view are
+   * formatted, so the cost does not grow with the length of the range.
    *
-   * @param eventListArea the editor pane to update
+   * @param eventListView the event list to update
    * @param startDate     the start date of the range
    * @param endDate       the end date of the range
    * @param events        the list of events in the range
    */
-  public void updateEventListRange(JEditorPane eventListArea, LocalDate startDate,
+  public void updateEventListRange(EventListView eventListView, LocalDate startDate,
                                    LocalDate endDate, List<Event> events) {
-    StringBuilder sb = new StringBuilder();
-    sb.append("<html><body style='font-family:Arial; font-size:12px;'>")
-            .append("<h3 style='color:#4a86e8;'>Events from ").append(startDate).append(" to ")
-            .append(endDate).append(":</h3>");
-
-    for (Event event : events) {
-      String currentEventId = event.getSubject() + "-" + event.getStartDateTime().toString();
-      sb.append("<div id='").append(currentEventId)
-              .append("' style='margin-bottom:10px; padding:5px; border:1px solid #cccccc;" +
-                      " border-radius:3px;'>")
-              .append("<b style='color:#4a86e8;'>").append(event.getSubject()).append("</b><br>")
-              .append("<span style='color:#666;'>")
-              .append(event.getStartDateTime().format(DateTimeFormatter
-                      .ofPattern("yyyy-MM-dd HH:mm")))
-              .append(" - ").append(event.getEndDateTime()
-                      .format(DateTimeFormatter.ofPattern("HH:mm"))).append("</span><br>")
-              .append("<span>").append(event.getDescription() != null
-                      ? event.getDescription() : "").append("</span><br>")
-              .append("<span style='color:#666;'>").append(event.getLocation() != null
-                      ? event.getLocation() : "").append("</span>")
-              .append("<div style='margin-top:5px;'>")
-              .append("<button onclick='printEvent(\"").append(currentEventId)
-              .append("\")' style='background-color:#4a86e8; color:white; border:none;" +
-                      " padding:5px 10px; cursor:pointer;'>Print</button>")
-              .append("</div></div>");
+    if (events == null || events.isEmpty()) {
+      eventListView.showMessage("No events found between " + startDate + " and " + endDate);
+      return;
     }
-
-    sb.append("<script>")
-            .append("function printEvent(id) { window.location.href='print:' + id; }\n")
-            .append("</script>")
-            .append("</body></html>");
-
-    eventListArea.setContentType("text/html");
-    eventListArea.setText(sb.toString());
+    eventListView.showEvents("Events from " + startDate + " to " + endDate + ":",
+            events.iterator());
   }
 
   /**
@@ -0,0 +1,100 @@
+package view.display;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.GridLayout;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import javax.swing.BorderFactory;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.ListCellRenderer;
+
+import model.event.Event;
+import utilities.ZoneOffsetCursor;
+
+/**
+ * Renders one event as a row of the event list: subject, local time span, and description and
+ * location. A single component is reused for every row, and the text of a row is only formatted
+ * when Swing paints it, so the cost of a list is proportional to the rows on screen.
+ */
+public class EventListCellRenderer extends JPanel implements ListCellRenderer<Event> {
+
+  /**
+   * The fixed height of a row. Lists using this renderer should set it as their fixed cell height
+   * so that they never measure rows that are not visible.
+   */
+  public static final int ROW_HEIGHT = 58;
+
+  private static final Color HEADER_COLOR = new Color(0x4a86e8);
+  private static final Color HEADER_LIGHT_COLOR = new Color(0xe6f2ff);
+  private static final Color BORDER_COLOR = new Color(0xcccccc);
+  private static final DateTimeFormatter START_FORMAT =
+          DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+  private static final DateTimeFormatter END_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+  private final ZoneOffsetCursor zone;
+  private final JLabel subjectLabel;
+  private final JLabel timeLabel;
+  private final JLabel detailsLabel;
+
+  /**
+   * Creates a renderer that shows event times in the given timezone.
+   *
+   * @param timezone the timezone to display times in; events are stored in UTC
+   */
+  public EventListCellRenderer(String timezone) {
+    super(new BorderLayout());
+    this.zone = new ZoneOffsetCursor(timezone);
+
+    subjectLabel = new JLabel();
+    subjectLabel.setFont(new Font("Arial", Font.BOLD, 14));
+    subjectLabel.setForeground(HEADER_COLOR);
+
+    timeLabel = new JLabel();
+    timeLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+    timeLabel.setForeground(Color.DARK_GRAY);
+
+    detailsLabel = new JLabel();
+    detailsLabel.setFont(new Font("Arial", Font.ITALIC, 12));
+    detailsLabel.setForeground(Color.DARK_GRAY);
+
+    JPanel lines = new JPanel(new GridLayout(3, 1));
+    lines.setOpaque(false);
+    lines.add(subjectLabel);
+    lines.add(timeLabel);
+    lines.add(detailsLabel);
+    add(lines, BorderLayout.CENTER);
+    setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createMatteBorder(0, 0, 1, 0, BORDER_COLOR),
+            BorderFactory.createEmptyBorder(4, 8, 4, 8)));
+  }
+
+  @Override
+  public Component getListCellRendererComponent(JList<? extends Event> list, Event event,
+                                                int index, boolean isSelected,
+                                                boolean cellHasFocus) {
+    LocalDateTime start = zone.fromUTC(event.getStartDateTime());
+    LocalDateTime end = zone.fromUTC(event.getEndDateTime());
+    subjectLabel.setText(event.getSubject());
+    timeLabel.setText(start.format(START_FORMAT) + " - " + end.format(END_FORMAT));
+    detailsLabel.setText(details(event));
+    setBackground(isSelected ? HEADER_LIGHT_COLOR : Color.WHITE);
+    return this;
+  }
+
+  private static String details(Event event) {
+    String description = event.getDescription();
+    String location = event.getLocation();
+    boolean hasDescription = description != null && !description.isEmpty();
+    boolean hasLocation = location != null && !location.isEmpty();
+    if (hasDescription && hasLocation) {
+      return description + " @ " + location;
+    }
+    return hasDescription ? description : hasLocation ? location : " ";
+  }
+}
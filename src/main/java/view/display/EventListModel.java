@@ -0,0 +1,112 @@
+package view.display;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.swing.AbstractListModel;
+
+import model.event.Event;
+
+/**
+ * List model that pulls events from a lazy range cursor one page at a time.
+ *
+ * <p>Only the first page is read when the model is created. Further pages are read when the view
+ * asks for rows near the end of what has been loaded, typically as the user scrolls, and are
+ * announced with an interval-added event so the list grows in place. Rows hold references to the
+ * events the cursor yields; nothing is formatted until a row is rendered.
+ */
+public class EventListModel extends AbstractListModel<Event> {
+
+  /**
+   * The number of events read from the cursor per page.
+   */
+  public static final int DEFAULT_PAGE_SIZE = 200;
+
+  private final Iterator<Event> cursor;
+  private final int pageSize;
+  private final List<Event> loaded;
+
+  /**
+   * Creates a model over a cursor using the default page size.
+   *
+   * @param cursor the events to list, in display order
+   */
+  public EventListModel(Iterator<Event> cursor) {
+    this(cursor, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Creates a model over a cursor and reads the first page.
+   *
+   * @param cursor   the events to list, in display order
+   * @param pageSize the number of events read per page
+   * @throws IllegalArgumentException if the page size is not positive
+   */
+  public EventListModel(Iterator<Event> cursor, int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    this.cursor = cursor != null ? cursor : Collections.emptyIterator();
+    this.pageSize = pageSize;
+    this.loaded = new ArrayList<>();
+    loadNextPage();
+  }
+
+  /**
+   * Creates a model with no events.
+   *
+   * @return an empty model
+   */
+  public static EventListModel empty() {
+    return new EventListModel(Collections.emptyIterator());
+  }
+
+  @Override
+  public int getSize() {
+    return loaded.size();
+  }
+
+  @Override
+  public Event getElementAt(int index) {
+    return loaded.get(index);
+  }
+
+  /**
+   * Checks whether the cursor has events that have not been loaded yet.
+   *
+   * @return true if more pages can be loaded
+   */
+  public boolean hasMore() {
+    return cursor.hasNext();
+  }
+
+  /**
+   * Reads the next page of events from the cursor.
+   *
+   * @return the number of events added
+   */
+  public int loadNextPage() {
+    int first = loaded.size();
+    for (int i = 0; i < pageSize && cursor.hasNext(); i++) {
+      loaded.add(cursor.next());
+    }
+    int added = loaded.size() - first;
+    if (added > 0) {
+      fireIntervalAdded(this, first, loaded.size() - 1);
+    }
+    return added;
+  }
+
+  /**
+   * Reads pages until the given row is loaded or the cursor is exhausted.
+   *
+   * @param index the row that should be available
+   */
+  public void ensureLoaded(int index) {
+    while (index >= loaded.size() && cursor.hasNext()) {
+      loadNextPage();
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package view.display;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.ListSelectionModel;
+
+import model.event.Event;
+
+/**
+ * Scrollable list of events that only materializes the rows on screen.
+ *
+ * <p>The events come from an {@link EventListModel}, which reads its cursor a page at a time as
+ * the user scrolls towards the end of what has been loaded. Rows have a fixed height, so the list
+ * never measures rows that are not visible, and they are drawn by a single shared
+ * {@link EventListCellRenderer}. Edit and print act on the selected row; double-clicking a row
+ * edits it.
+ */
+public class EventListView extends JPanel {
+
+  private static final int PREFETCH_ROWS = 50;
+  private static final Color HEADER_COLOR = new Color(0x4a86e8);
+
+  private final JLabel titleLabel;
+  private final JList<Event> list;
+  private final JButton editButton;
+  private final JButton printButton;
+  private EventListModel model;
+  private Consumer<Event> onEdit;
+  private Consumer<Event> onPrint;
+
+  /**
+   * Creates an empty event list that shows times in the given timezone.
+   *
+   * @param timezone the timezone to display event times in
+   */
+  public EventListView(String timezone) {
+    super(new BorderLayout(0, 5));
+    setBackground(Color.WHITE);
+    onEdit = event -> {
+    };
+    onPrint = event -> {
+    };
+
+    titleLabel = new JLabel();
+    titleLabel.setFont(new Font("Arial", Font.BOLD, 16));
+    titleLabel.setForeground(HEADER_COLOR);
+    titleLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 5, 0));
+
+    model = EventListModel.empty();
+    list = new JList<>(model);
+    list.setCellRenderer(new EventListCellRenderer(timezone));
+    list.setFixedCellHeight(EventListCellRenderer.ROW_HEIGHT);
+    // A fixed width as well keeps the list from measuring every row; rows still span the viewport
+    list.setFixedCellWidth(1);
+    list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+    list.addListSelectionListener(e -> updateButtons());
+    list.addMouseListener(new MouseAdapter() {
+      @Override
+      public void mouseClicked(MouseEvent e) {
+        if (e.getClickCount() == 2 && getSelectedEvent() != null) {
+          onEdit.accept(getSelectedEvent());
+        }
+      }
+    });
+
+    JScrollPane scrollPane = new JScrollPane(list);
+    scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+    scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+    scrollPane.setBorder(null);
+    scrollPane.getViewport().setBackground(Color.WHITE);
+    scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+    scrollPane.getViewport().addChangeListener(e -> prefetch());
+
+    editButton = new JButton("Edit");
+    editButton.addActionListener(e -> onEdit.accept(getSelectedEvent()));
+    printButton = new JButton("Print");
+    printButton.addActionListener(e -> onPrint.accept(getSelectedEvent()));
+    JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+    buttonPanel.setBackground(Color.WHITE);
+    buttonPanel.add(editButton);
+    buttonPanel.add(printButton);
+
+    add(titleLabel, BorderLayout.NORTH);
+    add(scrollPane, BorderLayout.CENTER);
+    add(buttonPanel, BorderLayout.SOUTH);
+    updateButtons();
+  }
+
+  /**
+   * Sets the actions run for the selected event.
+   *
+   * @param onEdit  called when the user edits an event
+   * @param onPrint called when the user prints an event
+   */
+  public void setEventActions(Consumer<Event> onEdit, Consumer<Event> onPrint) {
+    this.onEdit = onEdit;
+    this.onPrint = onPrint;
+  }
+
+  /**
+   * Shows the events of a cursor. Only the first page is read now; the rest is read on scroll.
+   *
+   * @param title  the heading shown above the list
+   * @param events the events to show, in display order
+   */
+  public void showEvents(String title, Iterator<Event> events) {
+    titleLabel.setText(title);
+    setModel(new EventListModel(events));
+  }
+
+  /**
+   * Shows a message in place of the events.
+   *
+   * @param message the message to show
+   */
+  public void showMessage(String message) {
+    titleLabel.setText(message);
+    setModel(EventListModel.empty());
+  }
+
+  /**
+   * Gets the event selected in the list.
+   *
+   * @return the selected event, or null if none is selected
+   */
+  public Event getSelectedEvent() {
+    return list.getSelectedValue();
+  }
+
+  /**
+   * Gets the model backing the list.
+   *
+   * @return the current model
+   */
+  public EventListModel getModel() {
+    return model;
+  }
+
+  private void setModel(EventListModel model) {
+    this.model = model;
+    list.setModel(model);
+    list.ensureIndexIsVisible(0);
+    updateButtons();
+  }
+
+  private void prefetch() {
+    int lastVisible = list.getLastVisibleIndex();
+    if (model.hasMore() && lastVisible >= model.getSize() - PREFETCH_ROWS) {
+      model.ensureLoaded(lastVisible + PREFETCH_ROWS);
+    }
+  }
+
+  private void updateButtons() {
+    boolean selected = getSelectedEvent() != null;
+    editButton.setEnabled(selected);
+    printButton.setEnabled(selected);
+  }
+}
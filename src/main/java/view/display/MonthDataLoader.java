@@ -0,0 +1,327 @@
+package view.display;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.swing.SwingWorker;
+
+import controller.execution.CalendarMailboxExecutor;
+import model.calendar.Calendar;
+import model.calendar.DaySummary;
+import model.calendar.ICalendar;
+import model.event.Event;
+import utilities.Log;
+import utilities.TimeZoneHandler;
+import utilities.ZoneOffsetCursor;
+
+/**
+ * Loads the events of the visible month off the Event Dispatch Thread.
+ *
+ * <p>Each call to {@link #load(ICalendar, YearMonth, Consumer)} starts a {@link SwingWorker} that
+ * buckets the month's events by local date and takes a {@link DaySummary} for every day. A
+ * {@link Calendar} keeps its day summaries indexed in the loader's timezone, so they are looked
+ * up rather than built, and a load that only needs the summaries does not read any event. The
+ * result is handed back to the EDT in a single callback, so the grid is rebuilt once per month
+ * rather than once per event. Starting a new load cancels the previous one, and results of a
+ * superseded load are dropped even if it has already finished, so quickly paging through months
+ * only ever renders the month that is on screen.
+ *
+ * <p>Calendars are not thread-safe, so the month is never read while another thread may be
+ * writing it. A loader given the {@link CalendarMailboxExecutor} that serializes the calendar's
+ * writes reads the month in the calendar's mailbox. A loader without one is used where the
+ * calendar is edited on the thread that starts the load, which in the GUI is the EDT. That thread
+ * only takes a constant-time {@link Calendar#snapshot() snapshot} of the calendar, and the worker
+ * reads the month from the snapshot; an edit made meanwhile goes to a private copy of the
+ * calendar's storage, so the worker never sees it. Only calendars other than {@link Calendar},
+ * which cannot be snapshotted, are still read on the thread that starts the load.
+ */
+public class MonthDataLoader {
+
+  private final String timezone;
+  private final CalendarMailboxExecutor mailboxes;
+  private SwingWorker<MonthData, Void> currentWorker;
+  private long generation;
+
+  /**
+   * Creates a loader that groups events by date in the system default timezone.
+   */
+  public MonthDataLoader() {
+    this(new TimeZoneHandler().getSystemDefaultTimezone());
+  }
+
+  /**
+   * Creates a loader that groups events by date in the given timezone and reads calendars on the
+   * thread that starts each load.
+   *
+   * @param timezone the timezone used to decide which local date an event falls on
+   */
+  public MonthDataLoader(String timezone) {
+    this(timezone, null);
+  }
+
+  /**
+   * Creates a loader that groups events by date in the given timezone and reads calendars in
+   * their mailboxes.
+   *
+   * @param timezone  the timezone used to decide which local date an event falls on
+   * @param mailboxes the executor that serializes the calendars' writes, or null to read on the
+   *                  thread that starts each load
+   */
+  public MonthDataLoader(String timezone, CalendarMailboxExecutor mailboxes) {
+    this.timezone = timezone;
+    this.mailboxes = mailboxes;
+  }
+
+  /**
+   * Starts loading a month in the background, cancelling any load still in progress. Must be
+   * called on the EDT.
+   *
+   * @param calendar the calendar to read
+   * @param month    the month to load
+   * @param onLoaded called on the EDT with the loaded data, unless the load is superseded
+   */
+  public void load(ICalendar calendar, YearMonth month, Consumer<MonthData> onLoaded) {
+    load(calendar, month, true, onLoaded);
+  }
+
+  /**
+   * Starts loading a month in the background, cancelling any load still in progress. Must be
+   * called on the EDT.
+   *
+   * @param calendar   the calendar to read
+   * @param month      the month to load
+   * @param withEvents false if only the day summaries are needed, in which case the events of a
+   *                   calendar that indexes its summaries are not read
+   * @param onLoaded   called on the EDT with the loaded data, unless the load is superseded
+   */
+  public void load(ICalendar calendar, YearMonth month, boolean withEvents,
+                   Consumer<MonthData> onLoaded) {
+    cancel();
+    if (calendar == null || month == null) {
+      return;
+    }
+
+    final long requested = ++generation;
+    // Without a mailbox the calendar is only written on this thread. A Calendar is snapshotted
+    // here in constant time and read on the worker; anything else has to be read here.
+    final Calendar view = mailboxes == null && calendar instanceof Calendar
+            ? ((Calendar) calendar).snapshot() : null;
+    final MonthSnapshot copied = mailboxes == null && view == null
+            ? snapshot(calendar, month, timezone, withEvents) : null;
+    final AtomicBoolean claimed = new AtomicBoolean();
+    SwingWorker<MonthData, Void> worker = new SwingWorker<MonthData, Void>() {
+      @Override
+      protected MonthData doInBackground() throws Exception {
+        MonthSnapshot read;
+        if (view != null) {
+          if (!claimed.compareAndSet(false, true)) {
+            return null;
+          }
+          try {
+            read = snapshot(view, month, timezone, withEvents);
+          } finally {
+            view.releaseSnapshot();
+          }
+        } else if (copied != null) {
+          read = copied;
+        } else {
+          read = mailboxes.execute(calendar,
+                  () -> snapshot(calendar, month, timezone, withEvents));
+        }
+        return bucket(read, month, timezone);
+      }
+
+      @Override
+      protected void done() {
+        // A load cancelled before it started still has to give its snapshot back
+        if (view != null && claimed.compareAndSet(false, true)) {
+          view.releaseSnapshot();
+        }
+        if (isCancelled() || requested != generation) {
+          return;
+        }
+        try {
+          onLoaded.accept(get());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          Log.error(() -> "Error loading month " + month + ": " + e.getCause().getMessage(),
+                  e.getCause());
+        }
+      }
+    };
+    currentWorker = worker;
+    worker.execute();
+  }
+
+  /**
+   * Cancels the load in progress, if any. Its results will not be delivered.
+   */
+  public void cancel() {
+    generation++;
+    if (currentWorker != null) {
+      currentWorker.cancel(true);
+      currentWorker = null;
+    }
+  }
+
+  /**
+   * Reads a month's events and summarizes them per local date. This is the work a load performs;
+   * it must be called on the thread that writes the calendar, or in the calendar's mailbox.
+   *
+   * @param calendar the calendar to read
+   * @param month    the month to load
+   * @param timezone the timezone used to decide which local date an event falls on
+   * @return the events and summaries of every day in the month
+   */
+  public static MonthData compute(ICalendar calendar, YearMonth month, String timezone) {
+    return bucket(snapshot(calendar, month, timezone, true), month, timezone);
+  }
+
+  /**
+   * Takes the summaries of a month's days from the calendar's index, if it keeps one, and copies
+   * the month's events if they are wanted or needed to build the summaries.
+   */
+  private static MonthSnapshot snapshot(ICalendar calendar, YearMonth month, String timezone,
+                                        boolean withEvents) {
+    Map<LocalDate, DaySummary> summaries = null;
+    if (calendar instanceof Calendar) {
+      summaries = ((Calendar) calendar).getDaySummaries(month.atDay(1), month.atEndOfMonth(),
+              timezone);
+    }
+    if (!withEvents && summaries != null) {
+      return new MonthSnapshot(null, summaries);
+    }
+
+    List<Event> events = new ArrayList<>();
+    for (Event event : readMonth(calendar, month, timezone)) {
+      events.add(event.copy());
+    }
+    return new MonthSnapshot(events, summaries);
+  }
+
+  private static List<Event> readMonth(ICalendar calendar, YearMonth month, String timezone) {
+    if (calendar instanceof Calendar) {
+      ZoneOffsetCursor zone = new ZoneOffsetCursor(timezone);
+      LocalDateTime fromUTC = zone.toUTC(month.atDay(1).atStartOfDay());
+      LocalDateTime toUTC = zone.toUTC(month.plusMonths(1).atDay(1).atStartOfDay())
+              .minusNanos(1);
+      List<Event> events = new ArrayList<>();
+      Iterator<Event> cursor = ((Calendar) calendar).getEventCursorBetween(fromUTC, toUTC);
+      while (cursor.hasNext()) {
+        events.add(cursor.next());
+      }
+      return events;
+    }
+    return calendar.getEventsInRange(month.atDay(1), month.atEndOfMonth());
+  }
+
+  private static MonthData bucket(MonthSnapshot snapshot, YearMonth month, String timezone) {
+    ZoneOffsetCursor zone = new ZoneOffsetCursor(timezone);
+    if (snapshot.events == null) {
+      return new MonthData(month, null, snapshot.summaries);
+    }
+
+    Map<LocalDate, List<Event>> eventsByDate = new HashMap<>();
+    Set<UUID> seen = new HashSet<>();
+    for (Event event : snapshot.events) {
+      if (!seen.add(event.getId())) {
+        continue;
+      }
+      LocalDate date = zone.fromUTC(event.getStartDateTime()).toLocalDate();
+      if (YearMonth.from(date).equals(month)) {
+        eventsByDate.computeIfAbsent(date, key -> new ArrayList<>()).add(event);
+      }
+    }
+
+    Map<LocalDate, DaySummary> summaries = snapshot.summaries;
+    if (summaries == null) {
+      summaries = new HashMap<>();
+      for (int day = 1; day <= month.lengthOfMonth(); day++) {
+        LocalDate date = month.atDay(day);
+        summaries.put(date, DaySummary.of(date,
+                eventsByDate.getOrDefault(date, Collections.emptyList())));
+      }
+    }
+    return new MonthData(month, eventsByDate, summaries);
+  }
+
+  /**
+   * The events of a month as read from a calendar, or null if they were not read, and the day
+   * summaries from its index if it keeps one. Nothing in it is shared with the calendar.
+   */
+  private static class MonthSnapshot {
+    private final List<Event> events;
+    private final Map<LocalDate, DaySummary> summaries;
+
+    MonthSnapshot(List<Event> events, Map<LocalDate, DaySummary> summaries) {
+      this.events = events;
+      this.summaries = summaries;
+    }
+  }
+
+  /**
+   * The result of loading one month: the events of each day and their summaries.
+   */
+  public static class MonthData {
+    private final YearMonth month;
+    private final Map<LocalDate, List<Event>> eventsByDate;
+    private final Map<LocalDate, DaySummary> summaries;
+
+    MonthData(YearMonth month, Map<LocalDate, List<Event>> eventsByDate,
+              Map<LocalDate, DaySummary> summaries) {
+      this.month = month;
+      this.eventsByDate = eventsByDate;
+      this.summaries = summaries;
+    }
+
+    /**
+     * Gets the loaded month.
+     *
+     * @return the month
+     */
+    public YearMonth getMonth() {
+      return month;
+    }
+
+    /**
+     * Checks whether the events of the month were loaded, or only the summaries of its days.
+     *
+     * @return true if {@link #getEventsByDate()} holds the month's events
+     */
+    public boolean hasEvents() {
+      return eventsByDate != null;
+    }
+
+    /**
+     * Gets the events of each day that has any, keyed by local date.
+     *
+     * @return the events by date, which is empty if only the summaries were loaded
+     */
+    public Map<LocalDate, List<Event>> getEventsByDate() {
+      return eventsByDate != null ? eventsByDate : Collections.emptyMap();
+    }
+
+    /**
+     * Gets the summary of every day in the month, keyed by local date.
+     *
+     * @return the summaries by date
+     */
+    public Map<LocalDate, DaySummary> getSummaries() {
+      return summaries;
+    }
+  }
+}
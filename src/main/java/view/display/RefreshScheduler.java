@@ -0,0 +1,193 @@
+package view.display;
+
+import java.awt.Component;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import utilities.trace.GuiRefreshTrace;
+
+/**
+ * Merges refresh requests for parts of the GUI and runs them at most once per frame.
+ *
+ * <p>Callers mark regions dirty instead of rebuilding them directly. The first mark after an idle
+ * period starts a one-frame timer; every mark that arrives before it fires is merged into the
+ * same pending set, so a burst of updates, such as an import notifying once per event, causes one
+ * rebuild of each affected region. When the timer fires on the Event Dispatch Thread, each dirty
+ * region's handler runs once and the root component is revalidated and repainted once.
+ *
+ * <p>Regions can be marked from any thread. The counters report how many region refreshes were
+ * requested, how many actually ran and therefore how many were coalesced away.
+ */
+public class RefreshScheduler {
+
+  /**
+   * The parts of the GUI that can be refreshed independently.
+   */
+  public enum Region {
+    /**
+     * The month grid.
+     */
+    GRID,
+    /**
+     * Single date cells of the month grid whose events changed. Runs after {@link #GRID}, so
+     * the cells are rebuilt in a grid rebuilt in the same frame.
+     */
+    CELLS,
+    /**
+     * The list of events of the selected date or range.
+     */
+    EVENT_LIST,
+    /**
+     * The status and side panels around the grid.
+     */
+    STATUS
+  }
+
+  /**
+   * The length of a frame, and therefore the longest a refresh is delayed.
+   */
+  public static final int FRAME_MILLIS = 16;
+
+  private final Component root;
+  private final Map<Region, Runnable> handlers;
+  private final EnumSet<Region> dirty;
+  private final Timer timer;
+  private final AtomicLong requests;
+  private final AtomicLong refreshes;
+  private final AtomicLong frames;
+
+  /**
+   * Creates a scheduler that revalidates and repaints the given component after each flush.
+   *
+   * @param root the component to repaint after running the region handlers, or null
+   */
+  public RefreshScheduler(Component root) {
+    this.root = root;
+    this.handlers = new EnumMap<>(Region.class);
+    this.dirty = EnumSet.noneOf(Region.class);
+    this.timer = new Timer(FRAME_MILLIS, e -> flush());
+    this.timer.setRepeats(false);
+    this.requests = new AtomicLong();
+    this.refreshes = new AtomicLong();
+    this.frames = new AtomicLong();
+  }
+
+  /**
+   * Sets the action that rebuilds a region. It always runs on the Event Dispatch Thread.
+   *
+   * @param region  the region
+   * @param handler the action rebuilding the region
+   */
+  public void register(Region region, Runnable handler) {
+    synchronized (dirty) {
+      handlers.put(region, handler);
+    }
+  }
+
+  /**
+   * Marks regions as needing a refresh. The refresh runs within one frame; marks arriving before
+   * then are merged with these.
+   *
+   * @param regions the regions to refresh
+   */
+  public void markDirty(Region... regions) {
+    synchronized (dirty) {
+      for (Region region : regions) {
+        dirty.add(region);
+        requests.incrementAndGet();
+      }
+      // Marks made while a flush is already pending ride along with it
+      if (!timer.isRunning()) {
+        timer.start();
+      }
+    }
+  }
+
+  /**
+   * Runs the pending refreshes now instead of waiting for the end of the frame. Must be called
+   * on the Event Dispatch Thread.
+   */
+  public void flush() {
+    if (!SwingUtilities.isEventDispatchThread()) {
+      SwingUtilities.invokeLater(this::flush);
+      return;
+    }
+
+    EnumSet<Region> pending;
+    Map<Region, Runnable> current;
+    synchronized (dirty) {
+      timer.stop();
+      if (dirty.isEmpty()) {
+        return;
+      }
+      pending = EnumSet.copyOf(dirty);
+      dirty.clear();
+      current = new EnumMap<>(handlers);
+    }
+
+    GuiRefreshTrace trace = new GuiRefreshTrace();
+    trace.begin();
+    frames.incrementAndGet();
+    int run = 0;
+    for (Region region : pending) {
+      Runnable handler = current.get(region);
+      if (handler != null) {
+        refreshes.incrementAndGet();
+        run++;
+        handler.run();
+      }
+    }
+    if (root != null) {
+      root.revalidate();
+      root.repaint();
+    }
+    trace.record(pending, run, requests.get());
+  }
+
+  /**
+   * Gets the number of region refreshes requested so far.
+   *
+   * @return the number of requests
+   */
+  public long getRequestCount() {
+    return requests.get();
+  }
+
+  /**
+   * Gets the number of region refreshes that actually ran.
+   *
+   * @return the number of refreshes
+   */
+  public long getRefreshCount() {
+    return refreshes.get();
+  }
+
+  /**
+   * Gets the number of requested region refreshes that were merged into another refresh.
+   *
+   * @return the number of coalesced requests
+   */
+  public long getCoalescedCount() {
+    return requests.get() - refreshes.get();
+  }
+
+  /**
+   * Gets the number of frames in which refreshes ran.
+   *
+   * @return the number of flushes that did work
+   */
+  public long getFrameCount() {
+    return frames.get();
+  }
+
+  @Override
+  public String toString() {
+    return "Refreshes: " + getRequestCount() + " requested, " + getRefreshCount() + " run, "
+            + getCoalescedCount() + " coalesced in " + getFrameCount() + " frames";
+  }
+}
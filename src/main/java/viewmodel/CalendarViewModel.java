@@ -6,8 +6,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import model.calendar.CalendarChange;
+import model.calendar.CalendarChangeListener;
 import model.calendar.ICalendar;
 import model.event.Event;
 import model.event.RecurringEvent;
@@ -30,6 +33,7 @@ public class CalendarViewModel implements IViewModel {
   private final List<CalendarViewModelListener> listeners;
   private YearMonth currentMonth;
   private Map<LocalDate, List<Event>> eventsByDate = new HashMap<>();
+  private final CalendarChangeListener changeListener = this::applyChange;
 
   /**
    * Interface for listeners that want to be notified of changes in the CalendarViewModel.
@@ -67,6 +71,7 @@ public class CalendarViewModel implements IViewModel {
 
   @Override
   public void dispose() {
+    bindCalendar(null);
     listeners.clear();
   }
 
@@ -103,7 +108,7 @@ public class CalendarViewModel implements IViewModel {
    */
   public void setCurrentCalendar(ICalendar calendar) throws ConflictingEventException,
           InvalidEventException, EventNotFoundException {
-    this.currentCalendar = calendar;
+    bindCalendar(calendar);
     // Get calendar name from toString
     this.selectedCalendarName = calendar != null ? calendar.toString() : "None";
     notifyCalendarChanged();
@@ -142,6 +147,54 @@ public class CalendarViewModel implements IViewModel {
     }
   }
 
+  /**
+   * Makes a calendar the current one and subscribes to its changes, unsubscribing from the
+   * previous calendar.
+   *
+   * @param calendar the new current calendar, or null
+   */
+  private void bindCalendar(ICalendar calendar) {
+    if (currentCalendar != calendar) {
+      if (currentCalendar != null) {
+        currentCalendar.removeChangeListener(changeListener);
+      }
+      if (calendar != null) {
+        calendar.addChangeListener(changeListener);
+      }
+    }
+    this.currentCalendar = calendar;
+  }
+
+  /**
+   * Applies a change of the current calendar to the events of the selected date. Only a change
+   * touching the selected date notifies listeners, and the date is not re-read from the calendar.
+   *
+   * @param change the change to apply
+   */
+  private void applyChange(CalendarChange change) {
+    ICalendar calendar = currentCalendar;
+    if (calendar == null || selectedDate == null) {
+      return;
+    }
+    String timezone = calendar.getTimeZone().getID();
+    if (!change.getAffectedDates(timezone).contains(selectedDate)) {
+      return;
+    }
+
+    UUID id = change.getEvent().getId();
+    List<Event> updated = new ArrayList<>(events.size() + 1);
+    for (Event event : events) {
+      if (!event.getId().equals(id)) {
+        updated.add(event);
+      }
+    }
+    if (change.getCurrentDates(timezone).contains(selectedDate)) {
+      updated.add(change.getEvent());
+    }
+    events = updated;
+    notifyEventsUpdated();
+  }
+
   /**
    * Updates the list of calendar names.
    *
@@ -234,7 +287,7 @@ public class CalendarViewModel implements IViewModel {
    */
   public void updateCalendar(ICalendar calendar) {
     try {
-      this.currentCalendar = calendar;
+      bindCalendar(calendar);
 
       if (calendar != null) {
         List<Event> events = calendar.getAllEvents();
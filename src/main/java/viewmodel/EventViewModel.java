@@ -13,6 +13,9 @@ import java.util.UUID;
 
 import controller.CalendarController;
 import controller.command.edit.strategy.ConsolidatedEventEditor;
+import model.calendar.CalendarChange;
+import model.calendar.CalendarChangeListener;
+import model.calendar.ICalendar;
 import model.event.Event;
 import model.event.RecurringEvent;
 
@@ -27,6 +30,8 @@ public class EventViewModel implements IViewModel {
   private RecurringEvent selectedRecurringEvent;
   private final List<EventViewModelListener> listeners;
   private Map<LocalDate, List<Event>> eventsByDate = new HashMap<>();
+  private final CalendarChangeListener changeListener = this::applyChange;
+  private ICalendar boundCalendar;
   private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
   /**
@@ -67,6 +72,7 @@ public class EventViewModel implements IViewModel {
 
   @Override
   public void dispose() {
+    bindCalendar(null);
     listeners.clear();
   }
 
@@ -75,6 +81,7 @@ public class EventViewModel implements IViewModel {
     // Refresh the event state if needed
     try {
       if (controller.getCurrentCalendar() != null) {
+        bindCalendar(controller.getCurrentCalendar());
         updateEvents(controller.getCurrentCalendar().getAllEvents());
       }
     } catch (Exception e) {
@@ -188,6 +195,58 @@ public class EventViewModel implements IViewModel {
     listeners.add(listener);
   }
 
+  /**
+   * Subscribes to the changes of a calendar, so that edits to it are applied to the cached
+   * events date by date instead of re-reading the calendar. Unsubscribes from the calendar bound
+   * before.
+   *
+   * @param calendar the calendar whose changes to follow, or null to stop following
+   */
+  public void bindCalendar(ICalendar calendar) {
+    if (boundCalendar == calendar) {
+      return;
+    }
+    if (boundCalendar != null) {
+      boundCalendar.removeChangeListener(changeListener);
+    }
+    if (calendar != null) {
+      calendar.addChangeListener(changeListener);
+    }
+    boundCalendar = calendar;
+  }
+
+  /**
+   * Moves a changed event between the cached dates and notifies the listeners of that event
+   * alone.
+   *
+   * @param change the change to apply
+   */
+  private void applyChange(CalendarChange change) {
+    Event event = change.getEvent();
+    Event before = change.getPrevious() != null ? change.getPrevious() : event;
+    LocalDate oldDate = before.getStartDateTime().toLocalDate();
+    List<Event> oldDateEvents = eventsByDate.get(oldDate);
+    if (oldDateEvents != null) {
+      oldDateEvents.removeIf(e -> e.getId().equals(event.getId()));
+    }
+
+    switch (change.getType()) {
+      case ADDED:
+        eventsByDate.computeIfAbsent(event.getStartDateTime().toLocalDate(),
+                k -> new ArrayList<>()).add(event);
+        notifyEventCreated(event);
+        break;
+      case UPDATED:
+        eventsByDate.computeIfAbsent(event.getStartDateTime().toLocalDate(),
+                k -> new ArrayList<>()).add(event);
+        notifyEventUpdated(event);
+        break;
+      default:
+        notifyEventsUpdated(getEventsForDate(oldDate));
+        break;
+    }
+  }
+
   /**
    * Updates the event collection with a new set of events.
    * Moved from GUICalendarPanel to follow the MVVM pattern.
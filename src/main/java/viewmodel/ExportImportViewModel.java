@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Set;
 
 import model.calendar.CalendarManager;
+import model.calendar.ConflictPolicy;
 import model.calendar.ICalendar;
 import model.exceptions.CalendarNotFoundException;
 import view.IGUIView;
@@ -163,19 +164,16 @@ public class ExportImportViewModel implements IViewModel {
       model.export.CSVExporter csvExporter = new model.export.CSVExporter();
       List<model.event.Event> importedEvents = csvExporter.importEvents(file);
 
-      int successCount = 0;
-      for (model.event.Event event : importedEvents) {
-        try {
-          boolean added = currentCalendar.addEvent(event, true);
-          if (added) {
-            successCount++;
-          }
-        } catch (Exception e) {
-          // Continue with other events even if one fails
-        }
-      }
+      // Add the whole file at once, skipping events that conflict with the calendar or with
+      // an earlier event of the file
+      int rejected = currentCalendar.addEvents(importedEvents, ConflictPolicy.REJECT)
+              .cardinality();
+      int successCount = importedEvents.size() - rejected;
 
       String message = "Successfully imported " + successCount + " events";
+      if (rejected > 0) {
+        message += "; skipped " + rejected + " conflicting events";
+      }
       notifyImportSuccess(message);
 
       // Update view if available
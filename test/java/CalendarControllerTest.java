@@ -582,6 +582,16 @@ public class CalendarControllerTest {
             result);
   }
 
+  @Test
+  public void testProcessCommandRecordsMetrics() {
+    controller.processCommand("create calendar --name Work --timezone America/New_York");
+
+    assertEquals(1, controller.getMetrics().getStats("create calendar").getCount());
+    assertEquals(1, controller.getMetrics().getStats("create calendar")
+            .getExecuteHistogram().getCount());
+    assertTrue(controller.processCommand("show metrics").contains("create calendar"));
+  }
+
   @Test
   public void testProcessCommandWithExitCommand() {
     String result = controller.processCommand("exit");
@@ -739,7 +749,7 @@ public class CalendarControllerTest {
   public void testProcessCalendarCommandUnknown() {
     String result = controller.processCommand("unknown calendar");
     assertEquals("Error: Invalid command: unknown. "
-            + "Valid commands are: create, use, show, edit, copy, exit, print, export", result);
+            + "Valid commands are: create, use, show, edit, copy, exit, print, export, search", result);
   }
 
   @Test
@@ -1025,19 +1035,19 @@ public class CalendarControllerTest {
   @Test
   public void testProcessImportCommand() {
     String result = controller.processCommand("import calendar --file calendar.ics");
-    assertEquals("Error: Invalid command: import. Valid commands are: create, use, show, edit, copy, exit, print, export", result);
+    assertEquals("Error: Invalid command: import. Valid commands are: create, use, show, edit, copy, exit, print, export, search", result);
   }
 
   @Test
   public void testProcessFindEventsCommand() {
     String result = controller.processCommand("find events --query \"Meeting\"");
-    assertEquals("Error: Invalid command: find. Valid commands are: create, use, show, edit, copy, exit, print, export", result);
+    assertEquals("Error: Invalid command: find. Valid commands are: create, use, show, edit, copy, exit, print, export, search", result);
   }
 
   @Test
   public void testProcessListEventsCommand() {
     String result = controller.processCommand("list events --date 2023-05-15");
-    assertEquals("Error: Invalid command: list. Valid commands are: create, use, show, edit, copy, exit, print, export", result);
+    assertEquals("Error: Invalid command: list. Valid commands are: create, use, show, edit, copy, exit, print, export, search", result);
   }
 
   @Test
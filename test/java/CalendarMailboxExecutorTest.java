@@ -0,0 +1,196 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+import controller.execution.CalendarMailboxExecutor;
+import model.calendar.Calendar;
+import model.exceptions.ConflictingEventException;
+
+/**
+ * Test class for the per-calendar mailbox executor.
+ */
+public class CalendarMailboxExecutorTest {
+
+  private CalendarMailboxExecutor executor;
+  private ExecutorService callers;
+  private Calendar work;
+  private Calendar home;
+
+  @Before
+  public void setUp() {
+    executor = new CalendarMailboxExecutor();
+    callers = Executors.newFixedThreadPool(4);
+    work = new Calendar("Work", "UTC");
+    home = new Calendar("Home", "UTC");
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdown();
+    callers.shutdownNow();
+  }
+
+  @Test
+  public void testExecuteReturnsResult() throws Exception {
+    assertEquals("done", executor.execute(work, () -> "done"));
+    assertEquals(1, executor.getMailboxCount());
+  }
+
+  @Test
+  public void testWritesToSameCalendarAreOrdered() throws Exception {
+    List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    List<Future<Integer>> pending = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      final int value = i;
+      pending.add(executor.submit(work, () -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        Thread.sleep(1);
+        applied.add(value);
+        inFlight.decrementAndGet();
+        return value;
+      }));
+    }
+    for (Future<Integer> future : pending) {
+      future.get(5, TimeUnit.SECONDS);
+    }
+
+    assertEquals(1, maxInFlight.get());
+    assertEquals(50, applied.size());
+    for (int i = 0; i < 50; i++) {
+      assertEquals(Integer.valueOf(i), applied.get(i));
+    }
+  }
+
+  @Test
+  public void testRenamedCalendarKeepsItsMailbox() throws Exception {
+    String before = executor.execute(work, () -> Thread.currentThread().getName());
+    work.setName("Office");
+    String after = executor.execute(work, () -> Thread.currentThread().getName());
+
+    assertEquals(before, after);
+    assertEquals(1, executor.getMailboxCount());
+  }
+
+  @Test
+  public void testReleaseDrainsAndDropsMailbox() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch proceed = new CountDownLatch(1);
+    Future<String> running = executor.submit(work, () -> {
+      started.countDown();
+      proceed.await();
+      return "first";
+    });
+    Future<String> queued = executor.submit(work, () -> "second");
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    executor.release(work);
+    assertEquals(0, executor.getMailboxCount());
+    proceed.countDown();
+
+    assertEquals("first", running.get(5, TimeUnit.SECONDS));
+    assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+    assertEquals("again", executor.execute(work, () -> "again"));
+    assertEquals(1, executor.getMailboxCount());
+  }
+
+  @Test
+  public void testControlStepHoldsCalendarMailbox() throws Exception {
+    List<String> order = Collections.synchronizedList(new ArrayList<>());
+    Future<String> rename = callers.submit(() -> executor.executeControl(() -> {
+      Thread.sleep(100);
+      order.add("rename");
+      return "renamed";
+    }, work));
+    Thread.sleep(20);
+    executor.execute(work, () -> order.add("write"));
+
+    rename.get(5, TimeUnit.SECONDS);
+    assertEquals("rename", order.get(0));
+    assertEquals("write", order.get(1));
+  }
+
+  @Test
+  public void testDifferentCalendarsRunInParallel() throws Exception {
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    Future<String> atWork = callers.submit(() -> executor.execute(work, () -> {
+      barrier.await(5, TimeUnit.SECONDS);
+      return "work";
+    }));
+    Future<String> atHome = callers.submit(() -> executor.execute(home, () -> {
+      barrier.await(5, TimeUnit.SECONDS);
+      return "home";
+    }));
+
+    assertEquals("work", atWork.get(5, TimeUnit.SECONDS));
+    assertEquals("home", atHome.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testOpposingCrossCalendarStepsDoNotDeadlock() throws Exception {
+    List<Future<String>> pending = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      final boolean forward = i % 2 == 0;
+      pending.add(callers.submit(() -> executor.executeAcross(
+              forward ? work : home, forward ? home : work, () -> "copied")));
+    }
+    for (Future<String> future : pending) {
+      assertEquals("copied", future.get(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void testCrossCalendarStepHoldsBothMailboxes() throws Exception {
+    List<String> order = Collections.synchronizedList(new ArrayList<>());
+    Future<String> copy = callers.submit(() -> executor.executeAcross(work, home, () -> {
+      Thread.sleep(100);
+      order.add("copy");
+      return "copied";
+    }));
+    Thread.sleep(20);
+    executor.execute(home, () -> order.add("home"));
+
+    copy.get(5, TimeUnit.SECONDS);
+    assertEquals("copy", order.get(0));
+    assertEquals("home", order.get(1));
+  }
+
+  @Test
+  public void testNestedCallOnSameMailboxRunsInline() throws Exception {
+    String result = executor.execute(work, () -> executor.execute(work, () -> "nested"));
+    assertEquals("nested", result);
+  }
+
+  @Test
+  public void testCheckedExceptionIsRethrown() throws Exception {
+    try {
+      executor.execute(work, () -> {
+        throw new ConflictingEventException("conflict");
+      });
+      fail("Expected ConflictingEventException");
+    } catch (ConflictingEventException e) {
+      assertEquals("conflict", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testNullCalendarRunsOnControlLane() throws Exception {
+    assertEquals("control", executor.execute(null, () -> "control"));
+    assertTrue(executor.getMailboxCount() == 0);
+  }
+}
@@ -1,15 +1,22 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 import model.calendar.Calendar;
 import model.calendar.CalendarRegistry;
+import model.event.Event;
 import model.exceptions.CalendarNotFoundException;
 import model.exceptions.DuplicateCalendarException;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 
@@ -86,6 +93,50 @@ public class CalendarRegistryTest {
     calendarRegistry.renameCalendar("Calendar1", "Calendar2");
   }
 
+  @Test
+  public void testRenameCalendarKeepsInstanceAndActiveName()
+          throws DuplicateCalendarException, CalendarNotFoundException {
+    calendarRegistry.registerCalendar("Old Name", mockCalendar);
+    calendarRegistry.renameCalendar("Old Name", "New Name");
+    assertSame(mockCalendar, calendarRegistry.getCalendarByName("New Name"));
+    assertEquals("New Name", mockCalendar.getName());
+    assertEquals("New Name", calendarRegistry.getActiveCalendarName());
+  }
+
+  @Test
+  public void testCopyCalendarIsIndependentAfterEdits() throws Exception {
+    Calendar source = new Calendar("Work", "UTC");
+    source.addEvent(new Event("Standup", LocalDateTime.of(2024, 3, 4, 9, 0),
+            LocalDateTime.of(2024, 3, 4, 9, 30), null, null, true), false);
+    calendarRegistry.registerCalendar("Work", source);
+
+    calendarRegistry.copyCalendar("Work", "Work Copy");
+    Calendar copy = calendarRegistry.getCalendarByName("Work Copy");
+    assertEquals("Work", calendarRegistry.getActiveCalendarName());
+    assertEquals("Work Copy", copy.getName());
+    assertEquals(1, copy.getEventsInRange(LocalDate.of(2024, 3, 4),
+            LocalDate.of(2024, 3, 4)).size());
+
+    copy.editSingleEvent("Standup", LocalDateTime.of(2024, 3, 4, 9, 0), "location", "Room 2");
+    copy.addEvent(new Event("Review", LocalDateTime.of(2024, 3, 4, 14, 0),
+            LocalDateTime.of(2024, 3, 4, 15, 0), null, null, true), false);
+    source.editSingleEvent("Standup", LocalDateTime.of(2024, 3, 4, 9, 0), "subject", "Sync");
+
+    Event sourceEvent = source.findEvent("Sync", LocalDateTime.of(2024, 3, 4, 9, 0));
+    Event copiedEvent = copy.findEvent("Standup", LocalDateTime.of(2024, 3, 4, 9, 0));
+    assertEquals("", sourceEvent.getLocation());
+    assertEquals("Room 2", copiedEvent.getLocation());
+    assertNull(source.findEvent("Review", LocalDateTime.of(2024, 3, 4, 14, 0)));
+    assertNull(copy.findEvent("Sync", LocalDateTime.of(2024, 3, 4, 9, 0)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCopyCalendarToExistingName() throws DuplicateCalendarException {
+    calendarRegistry.registerCalendar("Calendar1", mockCalendar);
+    calendarRegistry.registerCalendar("Calendar2", new CalendarMock("Calendar2"));
+    calendarRegistry.copyCalendar("Calendar1", "Calendar2");
+  }
+
   @Test
   public void testGetActiveCalendar() throws DuplicateCalendarException, CalendarNotFoundException {
     calendarRegistry.registerCalendar("Test Calendar", mockCalendar);
@@ -143,6 +194,36 @@ public class CalendarRegistryTest {
     });
   }
 
+  @Test
+  public void testRemovingCopyReleasesSharedEvents() throws Exception {
+    Calendar source = new Calendar("Source", "UTC");
+    Event[] stored = new Event[1];
+    source.addChangeListener(change -> stored[0] = change.getEvent());
+    source.addEvent(new Event("Lunch", LocalDateTime.of(2024, 5, 4, 12, 0),
+            LocalDateTime.of(2024, 5, 4, 13, 0), null, null, true), false);
+    calendarRegistry.registerCalendar("Source", source);
+    calendarRegistry.copyCalendar("Source", "Copy");
+
+    calendarRegistry.removeCalendar("Copy");
+
+    // With the copy's claim released, the source reads and writes its storage in place
+    assertSame(stored[0], source.getEventById(stored[0].getId()));
+    assertTrue(calendarRegistry.getCalendarByName("Source").getAllEvents().contains(stored[0]));
+  }
+
+  @Test
+  public void testRemovalListenerReceivesRemovedCalendar() throws Exception {
+    Calendar work = new Calendar("Work", "UTC");
+    calendarRegistry.registerCalendar("Work", work);
+    List<Calendar> removed = new ArrayList<>();
+    calendarRegistry.addRemovalListener(removed::add);
+
+    calendarRegistry.removeCalendar("Work");
+
+    assertEquals(1, removed.size());
+    assertSame(work, removed.get(0));
+  }
+
   private class CalendarMock extends Calendar {
 
     private String name;
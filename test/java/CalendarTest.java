@@ -2,11 +2,16 @@ import java.io.IOException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -18,6 +23,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import model.calendar.Calendar;
+import model.calendar.CalendarChange;
+import model.calendar.CalendarChangeListener;
+import model.calendar.ConflictPolicy;
+import model.calendar.EventPage;
+import model.calendar.iterator.PagedEventIterator;
 import model.event.Event;
 import model.event.RecurringEvent;
 import model.exceptions.ConflictingEventException;
@@ -351,7 +361,10 @@ public class CalendarTest {
 
     List<Event> eventsInRange = calendar.getEventsInRange(startDate, endDate);
 
-    assertEquals(7, eventsInRange.size());
+    // The meeting and the Monday, Wednesday and Friday occurrences, each listed once
+    assertEquals(4, eventsInRange.size());
+    assertEquals(eventsInRange.size(),
+            eventsInRange.stream().map(Event::getStartDateTime).distinct().count());
   }
 
   @Test
@@ -746,14 +759,15 @@ public class CalendarTest {
       destCalendar.addEvent(event, false);
     }
     
-    // Verify the event appears on the correct date in the destination calendar
-    LocalDate dateToCheck = LocalDate.of(2023, 4, 10);
+    // getAllEvents returns UTC times (02:00-03:00 on April 11), which the destination
+    // takes as Tokyo local times, so the copy falls on April 11 in Tokyo
+    LocalDate dateToCheck = LocalDate.of(2023, 4, 11);
     List<Event> destEvents = destCalendar.getEventsOnDate(dateToCheck);
     
-    // The event should still be found on April 10 even though 
-    // 10 PM in NY is 11 AM on April 11 in Tokyo
     assertEquals("Event should be found in destination calendar", 1, destEvents.size());
     assertEquals("Evening Meeting", destEvents.get(0).getSubject());
+    assertTrue("Event should not be found on the Tokyo day before",
+            destCalendar.getEventsOnDate(LocalDate.of(2023, 4, 10)).isEmpty());
   }
 
   @Test
@@ -790,4 +804,356 @@ public class CalendarTest {
       assertEquals("Midnight Sharp Meeting", eventsOnPreviousDate.get(0).getSubject());
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testAddShiftedCopiesKeepsLocalTimeAcrossDst() throws ConflictingEventException {
+    Calendar source = new Calendar("Source", "Europe/London");
+    source.addEvent(new Event("Standup", LocalDateTime.of(2024, 3, 8, 9, 0),
+            LocalDateTime.of(2024, 3, 8, 9, 30), null, null, true), true);
+
+    calendar.addShiftedCopies(source.getAllEvents(), "Europe/London", 7);
+
+    List<Event> copies = calendar.getAllEvents();
+    assertEquals(1, copies.size());
+    // 09:00 New York time on 2024-03-15 is after the US DST change, so it is 13:00 UTC
+    assertEquals(LocalDateTime.of(2024, 3, 15, 13, 0), copies.get(0).getStartDateTime());
+    assertEquals(LocalDateTime.of(2024, 3, 15, 13, 30), copies.get(0).getEndDateTime());
+  }
+
+  @Test
+  public void testAddShiftedCopiesRejectsConflicts() throws ConflictingEventException {
+    calendar.addEvent(new Event("Busy", LocalDateTime.of(2024, 3, 16, 10, 0),
+            LocalDateTime.of(2024, 3, 16, 11, 0), null, null, true), true);
+
+    List<Event> sourceEvents = java.util.Arrays.asList(
+            new Event("Clash", LocalDateTime.of(2024, 3, 15, 10, 0),
+                    LocalDateTime.of(2024, 3, 15, 11, 0), null, null, true),
+            new Event("Fine", LocalDateTime.of(2024, 3, 15, 18, 0),
+                    LocalDateTime.of(2024, 3, 15, 19, 0), null, null, true));
+
+    java.util.BitSet rejected = calendar.addShiftedCopies(sourceEvents, "UTC", 1);
+
+    assertTrue(rejected.get(0));
+    assertFalse(rejected.get(1));
+    assertEquals(2, calendar.getAllEvents().size());
+  }
+
+  @Test
+  public void testDaySummaryIsMaintainedOnMutation() throws ConflictingEventException {
+    LocalDate day = LocalDate.of(2023, 5, 10);
+    calendar.addEvent(singleEvent, false);
+    calendar.addEvent(new Event("Late Call", LocalDateTime.of(2023, 5, 10, 22, 0),
+            LocalDateTime.of(2023, 5, 10, 23, 0), null, null, true), false);
+
+    model.calendar.DaySummary summary = calendar.getDaySummary(day);
+    assertEquals(2, summary.getEventCount());
+    assertEquals(java.util.Arrays.asList("Team Meeting", "Late Call"), summary.getSubjects());
+    assertTrue(summary.isBusy());
+    assertTrue(calendar.getDaySummary(day.plusDays(1)).isEmpty());
+
+    calendar.editSingleEvent("Team Meeting", startDateTime, "subject", "Standup");
+    assertEquals(java.util.Arrays.asList("Standup", "Late Call"),
+            calendar.getDaySummary(day).getSubjects());
+
+    // 22:00 in New York is 02:00 the next day in UTC
+    calendar.setTimezone("UTC");
+    assertEquals(1, calendar.getDaySummary(day).getEventCount());
+    assertEquals(java.util.Arrays.asList("Late Call"),
+            calendar.getDaySummary(day.plusDays(1)).getSubjects());
+  }
+
+  @Test
+  public void testDaySummariesInViewTimezoneAreMaintained() throws ConflictingEventException {
+    LocalDate day = LocalDate.of(2023, 5, 10);
+    calendar.addEvent(singleEvent, false);
+    calendar.addEvent(new Event("Late Call", LocalDateTime.of(2023, 5, 10, 22, 0),
+            LocalDateTime.of(2023, 5, 10, 23, 0), null, null, true), false);
+
+    // 22:00 in New York is 02:00 the next day in UTC
+    assertEquals(1, calendar.getDaySummaries(day, day, "UTC").get(day).getEventCount());
+    assertEquals(java.util.Arrays.asList("Late Call"),
+            calendar.getDaySummaries(day.plusDays(1), day.plusDays(1), "UTC")
+                    .get(day.plusDays(1)).getSubjects());
+
+    calendar.addEvent(new Event("Lunch", LocalDateTime.of(2023, 5, 10, 12, 0),
+            LocalDateTime.of(2023, 5, 10, 13, 0), null, null, true), false);
+    assertEquals(2, calendar.getDaySummaries(day, day, "UTC").get(day).getEventCount());
+    assertEquals(3, calendar.getDaySummary(day).getEventCount());
+  }
+
+  @Test
+  public void testDaySummaryOfCopyIsIndependent() throws ConflictingEventException {
+    LocalDate day = LocalDate.of(2023, 5, 10);
+    calendar.addEvent(singleEvent, false);
+    Calendar copy = calendar.copyAs("Copy");
+
+    copy.addEvent(new Event("Lunch", LocalDateTime.of(2023, 5, 10, 12, 0),
+            LocalDateTime.of(2023, 5, 10, 13, 0), null, null, true), false);
+
+    assertEquals(1, calendar.getDaySummary(day).getEventCount());
+    assertEquals(2, copy.getDaySummary(day).getEventCount());
+    assertEquals(3, copy.getDaySummaries(day.minusDays(1), day.plusDays(1)).size());
+  }
+
+  @Test
+  public void testChangeListenerReceivesDeltas() throws ConflictingEventException {
+    List<CalendarChange> changes = new ArrayList<>();
+    CalendarChangeListener listener = changes::add;
+    calendar.addChangeListener(listener);
+
+    calendar.addEvent(singleEvent, false);
+    assertEquals(1, changes.size());
+    assertEquals(CalendarChange.Type.ADDED, changes.get(0).getType());
+    Event stored = changes.get(0).getEvent();
+
+    Event moved = new Event("Team Meeting", stored.getStartDateTime().plusDays(1),
+            stored.getEndDateTime().plusDays(1), null, null, true);
+    assertTrue(calendar.updateEvent(stored.getId(), moved));
+    assertEquals(2, changes.size());
+    CalendarChange update = changes.get(1);
+    assertEquals(CalendarChange.Type.UPDATED, update.getType());
+    assertEquals(stored.getId(), update.getEvent().getId());
+    assertEquals(stored.getStartDateTime(), update.getPrevious().getStartDateTime());
+    assertEquals(2, update.getAffectedDates("America/New_York").size());
+    assertEquals(1, update.getCurrentDates("America/New_York").size());
+
+    calendar.copyAs("Copy").addEvent(new Event("Lunch", LocalDateTime.of(2023, 5, 12, 12, 0),
+            LocalDateTime.of(2023, 5, 12, 13, 0), null, null, true), false);
+    calendar.removeChangeListener(listener);
+    calendar.addEvent(new Event("Dinner", LocalDateTime.of(2023, 5, 12, 19, 0),
+            LocalDateTime.of(2023, 5, 12, 20, 0), null, null, true), false);
+    assertEquals(2, changes.size());
+  }
+
+  @Test
+  public void testLookupByIdAndSeries() throws ConflictingEventException {
+    calendar.addEvent(singleEvent, false);
+    assertTrue(calendar.addRecurringEvent(recurringEvent, false));
+    Event stored = calendar.findEvent("Team Meeting", startDateTime);
+    UUID seriesId = recurringEvent.getRecurringId();
+
+    assertEquals(stored, calendar.getEventById(stored.getId()));
+    assertNull(calendar.getSeriesId(stored.getId()));
+    assertNull(calendar.getEventById(UUID.randomUUID()));
+
+    List<Event> series = calendar.getSeriesEvents(seriesId);
+    assertEquals(recurringEvent.getAllOccurrences().size(), series.size());
+    Event occurrence = series.get(0);
+    assertEquals(seriesId, calendar.getSeriesId(occurrence.getId()));
+    assertEquals(seriesId, calendar.getSeriesId(recurringEvent.getId()));
+
+    Event moved = new Event("Recurring Meeting", occurrence.getStartDateTime().minusHours(3),
+            occurrence.getEndDateTime().minusHours(3), null, null, true);
+    assertTrue(calendar.updateEvent(occurrence.getId(), moved));
+    assertEquals(seriesId, calendar.getSeriesId(occurrence.getId()));
+    assertEquals(series.size(), calendar.getSeriesEvents(seriesId).size());
+
+    Calendar copy = calendar.copyAs("Copy");
+    copy.addEvent(new Event("Lunch", LocalDateTime.of(2023, 5, 11, 12, 0),
+            LocalDateTime.of(2023, 5, 11, 13, 0), null, null, true), false);
+    assertEquals(series.size(), copy.getSeriesEvents(seriesId).size());
+    assertTrue(copy.getSeriesEvents(seriesId).get(0) != calendar.getSeriesEvents(seriesId).get(0));
+  }
+
+  @Test
+  public void testCopyDoesNotShareEventInstances() throws ConflictingEventException {
+    Calendar utc = new Calendar("Source", "UTC");
+    utc.addEvent(new Event("Lunch", LocalDateTime.of(2024, 5, 4, 12, 0),
+            LocalDateTime.of(2024, 5, 4, 13, 0), null, null, true), false);
+    RecurringEvent standup = new RecurringEvent.Builder("Standup",
+            LocalDateTime.of(2024, 5, 6, 9, 0), LocalDateTime.of(2024, 5, 6, 9, 15),
+            EnumSet.of(DayOfWeek.MONDAY)).occurrences(2).build();
+    assertTrue(utc.addRecurringEvent(standup, false));
+    Calendar copy = utc.copyAs("Copy");
+
+    Event lunch = utc.findEvent("Lunch", LocalDateTime.of(2024, 5, 4, 12, 0));
+    assertTrue(lunch != copy.getEventById(lunch.getId()));
+    assertTrue(utc.editEventById(lunch.getId(), "subject", "Dinner"));
+    assertTrue(utc.editEventById(standup.getId(), "location", "Room 9"));
+
+    assertNotNull(copy.findEvent("Lunch", LocalDateTime.of(2024, 5, 4, 12, 0)));
+    assertNull(copy.findEvent("Dinner", LocalDateTime.of(2024, 5, 4, 12, 0)));
+    assertEquals("Lunch", copy.getEventById(lunch.getId()).getSubject());
+    assertEquals("", copy.getEventById(standup.getId()).getLocation());
+    assertEquals("Room 9", utc.getEventById(standup.getId()).getLocation());
+  }
+
+  @Test
+  public void testReadsOnSharedCalendarHandOutCopies() throws ConflictingEventException {
+    Calendar utc = new Calendar("Source", "UTC");
+    LocalDateTime start = LocalDateTime.of(2024, 5, 4, 12, 0);
+    utc.addEvent(new Event("Lunch", start, start.plusHours(1), null, null, true), false);
+    Calendar copy = utc.copyAs("Copy");
+
+    copy.getEventsOnDate(start.toLocalDate()).get(0).setSubject("Dinner");
+    copy.getAllEvents().get(0).setSubject("Dinner");
+    copy.searchEvents("Lunch", null, null, 0, 10).getEvents().get(0).setSubject("Dinner");
+
+    assertEquals("Lunch", utc.findEvent("Lunch", start).getSubject());
+    assertEquals("Lunch", copy.findEvent("Lunch", start).getSubject());
+  }
+
+  @Test
+  public void testGeneratedOccurrencesAreHandedOutAsCopies() throws ConflictingEventException {
+    Calendar utc = new Calendar("Source", "UTC");
+    LocalDateTime start = LocalDate.now().plusDays(1).atTime(9, 0);
+    RecurringEvent standup = new RecurringEvent.Builder("Standup", start, start.plusMinutes(15),
+            EnumSet.allOf(DayOfWeek.class)).occurrences(3).build();
+    assertTrue(utc.addRecurringEvent(standup, false));
+
+    for (Event event : utc.getAllEvents()) {
+      event.setSubject("Changed");
+    }
+
+    for (Event occurrence : standup.getOccurrencesBetween(start.toLocalDate(),
+            start.toLocalDate().plusDays(7))) {
+      assertEquals("Standup", occurrence.getSubject());
+    }
+  }
+
+  @Test
+  public void testSubjectIndexFollowsSubjectEdits() throws ConflictingEventException {
+    Calendar utc = new Calendar("Subjects", "UTC");
+    for (int day = 1; day <= 5; day++) {
+      utc.addEvent(new Event("Standup", LocalDateTime.of(2024, 4, day, 9, 0),
+              LocalDateTime.of(2024, 4, day, 9, 15), null, null, true), false);
+    }
+
+    assertEquals(3, utc.editEventsFromDate("Standup", LocalDateTime.of(2024, 4, 3, 9, 0),
+            "subject", "Sync"));
+    assertNotNull(utc.findEvent("Standup", LocalDateTime.of(2024, 4, 2, 9, 0)));
+    assertNull(utc.findEvent("Standup", LocalDateTime.of(2024, 4, 3, 9, 0)));
+    assertNotNull(utc.findEvent("Sync", LocalDateTime.of(2024, 4, 5, 9, 0)));
+
+    assertEquals(3, utc.editAllEvents("Sync", "location", "Room 2"));
+    assertEquals(2, utc.editAllEvents("Standup", "subject", "Sync"));
+    assertEquals(0, utc.editAllEvents("Standup", "location", "Room 3"));
+    assertEquals(5, utc.editAllEvents("Sync", "description", "Daily"));
+  }
+
+  @Test
+  public void testEventsInRangeByPage() throws ConflictingEventException {
+    Calendar utc = new Calendar("Paged", "UTC");
+    for (int day = 1; day <= 25; day++) {
+      utc.addEvent(new Event("Standup", LocalDateTime.of(2024, 4, day, 9, 0),
+              LocalDateTime.of(2024, 4, day, 9, 15), null, null, true), false);
+    }
+    LocalDate from = LocalDate.of(2024, 4, 3);
+    LocalDate to = LocalDate.of(2024, 4, 24);
+
+    EventPage first = utc.getEventsInRange(from, to, 10, null);
+    assertEquals(10, first.getEvents().size());
+    assertEquals(3, first.getEvents().get(0).getStartDateTime().getDayOfMonth());
+    assertTrue(first.hasNext());
+
+    // Events added behind the cursor are not seen; events ahead of it are
+    utc.addEvent(new Event("Early", LocalDateTime.of(2024, 4, 4, 12, 0),
+            LocalDateTime.of(2024, 4, 4, 13, 0), null, null, true), false);
+    utc.addEvent(new Event("Late", LocalDateTime.of(2024, 4, 20, 12, 0),
+            LocalDateTime.of(2024, 4, 20, 13, 0), null, null, true), false);
+
+    EventPage second = utc.getEventsInRange(from, to, 10, first.getNextPageToken());
+    assertEquals(13, second.getEvents().get(0).getStartDateTime().getDayOfMonth());
+    EventPage third = utc.getEventsInRange(from, to, 10, second.getNextPageToken());
+    assertEquals(3, third.getEvents().size());
+    assertFalse(third.hasNext());
+
+    int streamed = 0;
+    Iterator<Event> events = new PagedEventIterator(utc, from, to, 4);
+    while (events.hasNext()) {
+      events.next();
+      streamed++;
+    }
+    assertEquals(24, streamed);
+
+    try {
+      utc.getEventsInRange(from, to, 10, "not-a-token");
+      fail("Expected an invalid token to be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Invalid page token", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testAddEventsReportsRejectedPositions() throws ConflictingEventException {
+    Calendar newYork = new Calendar("Bulk", "America/New_York");
+    newYork.addEvent(new Event("Existing", LocalDateTime.of(2024, 4, 10, 9, 0),
+            LocalDateTime.of(2024, 4, 10, 10, 0), null, null, true), false);
+
+    List<Event> batch = Arrays.asList(
+            new Event("Afternoon", LocalDateTime.of(2024, 4, 10, 14, 0),
+                    LocalDateTime.of(2024, 4, 10, 15, 0), null, null, true),
+            new Event("Clashes With Existing", LocalDateTime.of(2024, 4, 10, 9, 30),
+                    LocalDateTime.of(2024, 4, 10, 9, 45), null, null, true),
+            new Event("Touches Afternoon", LocalDateTime.of(2024, 4, 10, 15, 0),
+                    LocalDateTime.of(2024, 4, 10, 16, 0), null, null, true),
+            new Event("Morning", LocalDateTime.of(2024, 4, 10, 11, 0),
+                    LocalDateTime.of(2024, 4, 10, 12, 0), null, null, true));
+
+    BitSet rejected = newYork.addEvents(batch, ConflictPolicy.REJECT);
+    assertEquals("{1, 2}", rejected.toString());
+    List<Event> day = newYork.getEventsOnDate(LocalDate.of(2024, 4, 10));
+    assertEquals(3, day.size());
+    // Times are converted from the calendar's timezone, as addEvent does
+    assertEquals(LocalDateTime.of(2024, 4, 10, 15, 0), day.get(1).getStartDateTime());
+    assertEquals("Morning", day.get(1).getSubject());
+
+    Calendar allowing = new Calendar("Allowing", "UTC");
+    assertTrue(allowing.addEvents(batch, ConflictPolicy.ALLOW).isEmpty());
+    assertEquals(4, allowing.getAllEvents().size());
+  }
+
+  @Test
+  public void testEventsOnDateAcrossDstTransitions() throws ConflictingEventException {
+    Calendar newYork = new Calendar("DST", "America/New_York");
+    // 2024-03-10 is 23 hours long in New York and 2024-11-03 is 25 hours long
+    newYork.addEvent(new Event("Before Spring", LocalDateTime.of(2024, 3, 9, 23, 30),
+            LocalDateTime.of(2024, 3, 10, 0, 0), null, null, true), false);
+    newYork.addEvent(new Event("Spring Late", LocalDateTime.of(2024, 3, 10, 23, 30),
+            LocalDateTime.of(2024, 3, 10, 23, 45), null, null, true), false);
+    newYork.addEvent(new Event("Fall Early", LocalDateTime.of(2024, 11, 3, 0, 15),
+            LocalDateTime.of(2024, 11, 3, 0, 45), null, null, true), false);
+    newYork.addEvent(new Event("Fall Late", LocalDateTime.of(2024, 11, 3, 23, 30),
+            LocalDateTime.of(2024, 11, 4, 0, 30), null, null, true), false);
+    newYork.addEvent(new Event("After Fall", LocalDateTime.of(2024, 11, 4, 1, 0),
+            LocalDateTime.of(2024, 11, 4, 1, 15), null, null, true), false);
+
+    List<Event> spring = newYork.getEventsOnDate(LocalDate.of(2024, 3, 10));
+    assertEquals(1, spring.size());
+    assertEquals("Spring Late", spring.get(0).getSubject());
+    assertEquals(1, newYork.getEventsOnDate(LocalDate.of(2024, 3, 9)).size());
+
+    List<Event> fall = newYork.getEventsOnDate(LocalDate.of(2024, 11, 3));
+    assertEquals(2, fall.size());
+    assertEquals("Fall Early", fall.get(0).getSubject());
+    assertEquals("Fall Late", fall.get(1).getSubject());
+
+    List<Event> afterFall = newYork.getEventsOnDate(LocalDate.of(2024, 11, 4));
+    assertEquals(2, afterFall.size());
+    assertEquals(0, newYork.getEventsOnDate(LocalDate.of(2024, 11, 2)).size());
+  }
+
+  @Test
+  public void testEventsInWindowUseCalendarZone() throws ConflictingEventException {
+    Calendar newYork = new Calendar("Window", "America/New_York");
+    newYork.addEvent(new Event("Late Call", LocalDateTime.of(2024, 4, 10, 21, 0),
+            LocalDateTime.of(2024, 4, 10, 22, 0), null, null, true), false);
+    newYork.addEvent(new Event("Standup", LocalDateTime.of(2024, 4, 11, 9, 0),
+            LocalDateTime.of(2024, 4, 11, 9, 15), null, null, true), false);
+
+    // The late call is stored on April 11 in UTC but belongs to the local evening of April 10
+    List<Event> evening = newYork.getEventsInWindow(LocalDateTime.of(2024, 4, 10, 18, 0),
+            LocalDateTime.of(2024, 4, 10, 23, 59), 10, null).getEvents();
+    assertEquals(1, evening.size());
+    assertEquals("Late Call", evening.get(0).getSubject());
+
+    List<Event> nextDay = newYork.getEventsInWindow(LocalDateTime.of(2024, 4, 11, 0, 0),
+            LocalDateTime.of(2024, 4, 11, 23, 59), 10, null).getEvents();
+    assertEquals(1, nextDay.size());
+    assertEquals("Standup", nextDay.get(0).getSubject());
+
+    // Both ends of the window are inclusive
+    assertEquals(1, newYork.getEventsInWindow(LocalDateTime.of(2024, 4, 11, 9, 15),
+            LocalDateTime.of(2024, 4, 11, 12, 0), 10, null).getEvents().size());
+  }
+}
@@ -0,0 +1,76 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import model.calendar.Calendar;
+import model.event.Event;
+import utilities.trace.AddEventTrace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the Flight Recorder events emitted by calendar operations.
+ */
+public class CalendarTraceTest {
+
+  @Test
+  public void testCalendarSettingsRecordOperations() throws Exception {
+    Configuration settings = Configuration.create(Paths.get("src/main/resources/calendar.jfc"));
+    Path output = Files.createTempFile("calendar", ".jfr");
+    try (Recording recording = new Recording(settings)) {
+      recording.enable("calendar.ConflictCheck").withThreshold(Duration.ZERO);
+      recording.start();
+
+      Calendar calendar = new Calendar("Work", "UTC");
+      calendar.addEvent(new Event("Standup", LocalDateTime.of(2024, 3, 4, 9, 0),
+              LocalDateTime.of(2024, 3, 4, 9, 30), null, null, true), false);
+      calendar.getEventsInRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+
+      recording.stop();
+      recording.dump(output);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(output).stream()
+            .filter(e -> e.getEventType().getName().startsWith("calendar."))
+            .collect(Collectors.toList());
+    Files.deleteIfExists(output);
+
+    RecordedEvent added = find(events, "calendar.AddEvent");
+    assertEquals("Work", added.getString("calendar"));
+    assertEquals("Standup", added.getString("subject"));
+    assertTrue(added.getBoolean("added"));
+    assertEquals(1, added.getInt("eventCount"));
+
+    RecordedEvent query = find(events, "calendar.RangeQuery");
+    assertEquals("eventsInRange", query.getString("query"));
+    assertEquals(1, query.getInt("resultSize"));
+
+    assertTrue(events.stream()
+            .anyMatch(e -> e.getEventType().getName().equals("calendar.ConflictCheck")));
+  }
+
+  @Test
+  public void testTracesAreDisabledWithoutRecording() {
+    AddEventTrace trace = new AddEventTrace();
+    trace.begin();
+    assertFalse(trace.shouldCommit());
+  }
+
+  private static RecordedEvent find(List<RecordedEvent> events, String name) {
+    return events.stream().filter(e -> e.getEventType().getName().equals(name)).findFirst()
+            .orElseThrow(() -> new AssertionError("No " + name + " event recorded"));
+  }
+}
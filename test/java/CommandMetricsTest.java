@@ -0,0 +1,97 @@
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import controller.metrics.CommandMetrics;
+import controller.metrics.LatencyHistogram;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class for the command metrics registry and its latency histograms.
+ */
+public class CommandMetricsTest {
+
+  private CommandMetrics metrics;
+
+  @Before
+  public void setUp() {
+    metrics = new CommandMetrics();
+  }
+
+  @Test
+  public void testHistogramPercentilesWithinBucketPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000);
+    }
+
+    assertEquals(1000, histogram.getCount());
+    assertEquals(1_000_000, histogram.getMax());
+    assertEquals(500_500, histogram.getMean(), 0.001);
+    assertWithin(500_000, histogram.getPercentile(50));
+    assertWithin(990_000, histogram.getPercentile(99));
+    assertEquals(1_000_000, histogram.getPercentile(100));
+  }
+
+  @Test
+  public void testEmptyHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getPercentile(99));
+    assertEquals(0, histogram.getMean(), 0);
+  }
+
+  @Test
+  public void testParseAndExecuteRecordedSeparately() throws Exception {
+    metrics.recordParse("create", 2_000, false);
+    assertEquals("done", metrics.timeExecution("create", () -> "done"));
+    metrics.recordParse("create", 3_000, false);
+    metrics.timeExecution("create", () -> "Error: conflict");
+
+    CommandMetrics.CommandStats stats = metrics.getStats("create");
+    assertEquals(2, stats.getCount());
+    assertEquals(1, stats.getErrorCount());
+    assertEquals(2, stats.getParseHistogram().getCount());
+    assertEquals(2, stats.getExecuteHistogram().getCount());
+  }
+
+  @Test
+  public void testThrowingExecutionCountsAsError() {
+    metrics.recordParse("edit", 1_000, false);
+    try {
+      metrics.timeExecution("edit", () -> {
+        throw new IllegalStateException("boom");
+      });
+      fail("Expected the exception to propagate");
+    } catch (Exception e) {
+      assertEquals("boom", e.getMessage());
+    }
+    assertEquals(1, metrics.getStats("edit").getErrorCount());
+    assertEquals(1, metrics.getStats("edit").getExecuteHistogram().getCount());
+  }
+
+  @Test
+  public void testDumpWritesReport() throws Exception {
+    metrics.recordParse("print", 1_000, false);
+    metrics.recordExecute("print", 5_000_000, false);
+    Path file = Files.createTempFile("metrics", ".txt");
+    try {
+      metrics.dump(file);
+      String written = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      assertEquals(metrics.report(), written);
+      assertTrue(written.contains("print"));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static void assertWithin(long expected, long actual) {
+    assertTrue("Expected about " + expected + " but was " + actual,
+            Math.abs(actual - expected) <= expected / 16);
+  }
+}
@@ -508,6 +508,21 @@ public class CommandParserTest {
     assertEquals("2023-04-20", args[2]);
   }
 
+  @Test
+  public void testParseSearchEvents() {
+    String[] args = parser.parseCommand("search events \"team sync\"").getArgs();
+    assertEquals("team sync", args[0]);
+    assertNull(args[1]);
+    assertNull(args[3]);
+
+    args = parser.parseCommand(
+            "search events \"review\" from 2023-04-10 to 2023-04-20 page 2").getArgs();
+    assertEquals("review", args[0]);
+    assertEquals("2023-04-10", args[1]);
+    assertEquals("2023-04-20", args[2]);
+    assertEquals("2", args[3]);
+  }
+
   @Test
   public void testParseShowStatus() {
     String commandString = "show status on 2023-04-10T10:30";
@@ -752,7 +767,7 @@ public class CommandParserTest {
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
             () -> parser.parseCommand("unknown calendar"));
     assertEquals("Invalid command: unknown. Valid commands are: "
-            + "create, use, show, edit, copy, exit, print, export", exception.getMessage());
+            + "create, use, show, edit, copy, exit, print, export, search", exception.getMessage());
   }
 
   @Test
@@ -760,7 +775,7 @@ public class CommandParserTest {
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
             () -> parser.parseCommand("   unknown   calendar   "));
     assertEquals("Invalid command: unknown. Valid commands are:"
-            + " create, use, show, edit, copy, exit, print, export", exception.getMessage());
+            + " create, use, show, edit, copy, exit, print, export, search", exception.getMessage());
   }
 
   @Test
@@ -768,7 +783,7 @@ public class CommandParserTest {
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
             () -> parser.parseCommand("UNKNOWN CALENDAR"));
     assertEquals("Invalid command: unknown. Valid commands are: "
-            + "create, use, show, edit, copy, exit, print, export", exception.getMessage());
+            + "create, use, show, edit, copy, exit, print, export, search", exception.getMessage());
   }
 
   @Test
@@ -776,7 +791,7 @@ public class CommandParserTest {
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
             () -> parser.parseCommand("UnKnOwN calendar"));
     assertEquals("Invalid command: unknown. Valid commands are: "
-            + "create, use, show, edit, copy, exit, print, export", exception.getMessage());
+            + "create, use, show, edit, copy, exit, print, export, search", exception.getMessage());
   }
 
   @Test
@@ -784,7 +799,7 @@ public class CommandParserTest {
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
             () -> parser.parseCommand("unknown@calendar"));
     assertEquals("Invalid command: unknown@calendar. Valid commands are:"
-            + " create, use, show, edit, copy, exit, print, export", exception.getMessage());
+            + " create, use, show, edit, copy, exit, print, export, search", exception.getMessage());
   }
 
   @Test
@@ -792,7 +807,7 @@ public class CommandParserTest {
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
             () -> parser.parseCommand("unknown123 calendar"));
     assertEquals("Invalid command: unknown123. Valid commands are:"
-            + " create, use, show, edit, copy, exit, print, export", exception.getMessage());
+            + " create, use, show, edit, copy, exit, print, export, search", exception.getMessage());
   }
 
   @Test
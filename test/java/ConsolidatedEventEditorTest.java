@@ -13,12 +13,14 @@ import java.util.UUID;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Test;
 
 import controller.command.edit.strategy.ConsolidatedEventEditor;
 import controller.command.edit.strategy.EventEditor;
+import model.calendar.Calendar;
 import model.calendar.ICalendar;
 import model.event.Event;
 import model.event.RecurringEvent;
@@ -139,6 +141,57 @@ public class ConsolidatedEventEditorTest {
             editor instanceof ConsolidatedEventEditor);
     }
     
+    @Test
+    public void testExecuteEdit_SingleEvent_KeepsCalendarIndexesCurrent() throws Exception {
+        Calendar calendar = new Calendar("Work", "UTC");
+        calendar.addEvent(new Event("Lunch", LocalDateTime.of(2024, 5, 4, 12, 0),
+            LocalDateTime.of(2024, 5, 4, 13, 0), null, null, true), false);
+        UUID lunchId = calendar.findEvent("Lunch", LocalDateTime.of(2024, 5, 4, 12, 0)).getId();
+
+        ConsolidatedEventEditor.createSingleEventEditor(
+            lunchId, "Lunch", "end", "2024-05-05T11:00").executeEdit(calendar);
+        String result = ConsolidatedEventEditor.createSingleEventEditor(
+            lunchId, "Lunch", "start", "2024-05-05T10:00").executeEdit(calendar);
+
+        assertEquals("Event updated: Lunch", result);
+        assertTrue(calendar.getEventsOnDate(LocalDate.of(2024, 5, 4)).isEmpty());
+        List<Event> onDay = calendar.getEventsOnDate(LocalDate.of(2024, 5, 5));
+        assertEquals(1, onDay.size());
+        assertEquals(lunchId, onDay.get(0).getId());
+        assertNotNull(calendar.findEvent("Lunch", LocalDateTime.of(2024, 5, 5, 10, 0)));
+        assertNull(calendar.findEvent("Lunch", LocalDateTime.of(2024, 5, 4, 12, 0)));
+        assertEquals(1, calendar.getAllEvents().size());
+    }
+
+    @Test
+    public void testExecuteEdit_AllEvents_EditsWholeSeries() throws Exception {
+        Calendar calendar = new Calendar("Work", "UTC");
+        Set<DayOfWeek> days = new HashSet<>();
+        days.add(DayOfWeek.MONDAY);
+        days.add(DayOfWeek.WEDNESDAY);
+        RecurringEvent standup = new RecurringEvent.Builder("Standup",
+            LocalDateTime.of(2024, 5, 6, 9, 0), LocalDateTime.of(2024, 5, 6, 9, 15), days)
+            .occurrences(3)
+            .build();
+        calendar.addRecurringEvent(standup, false);
+        calendar.addEvent(new Event("Review", LocalDateTime.of(2024, 5, 6, 14, 0),
+            LocalDateTime.of(2024, 5, 6, 15, 0), null, "Room 1", true), false);
+        UUID firstId = calendar.getSeriesEvents(standup.getRecurringId()).get(0).getId();
+
+        String result = ConsolidatedEventEditor.createAllEventsEditor(
+            firstId, "Standup", "location", "Room 9").executeEdit(calendar);
+
+        assertEquals("Updated 3 events in the series", result);
+        List<Event> members = calendar.getSeriesEvents(standup.getRecurringId());
+        assertEquals(3, members.size());
+        for (Event member : members) {
+            assertEquals("Room 9", member.getLocation());
+        }
+        assertEquals(3, calendar.searchEvents("Room 9", null, null, 0, 10).getTotal());
+        assertEquals("Room 1", calendar.findEvent("Review",
+            LocalDateTime.of(2024, 5, 6, 14, 0)).getLocation());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testCreateSeriesFromDateEditor_NullDate() {
         // This should throw IllegalArgumentException
@@ -634,6 +687,36 @@ public class ConsolidatedEventEditorTest {
                 return true;
             }
 
+            @Override
+            public boolean editEventById(UUID eventId, String property, String newValue) {
+                Event event = getEventById(eventId);
+                if (event == null) {
+                    return false;
+                }
+                switch (property) {
+                    case "subject":
+                        event.setSubject(newValue);
+                        return true;
+                    case "description":
+                        event.setDescription(newValue);
+                        return true;
+                    case "location":
+                        event.setLocation(newValue);
+                        return true;
+                    case "start":
+                        event.setStartDateTime(LocalDateTime.parse(newValue));
+                        return true;
+                    case "end":
+                        event.setEndDateTime(LocalDateTime.parse(newValue));
+                        return true;
+                    case "public":
+                        event.setPublic(Boolean.parseBoolean(newValue));
+                        return true;
+                    default:
+                        return false;
+                }
+            }
+
             @Override
             public boolean updateEvent(UUID eventId, Event updatedEvent) {
                 for (Event event : events) {
@@ -0,0 +1,98 @@
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.Test;
+
+import model.event.Event;
+import view.display.EventListModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the paged event list model.
+ */
+public class EventListModelTest {
+
+  /**
+   * Cursor that counts how many events have been read from it.
+   */
+  private static class CountingCursor implements Iterator<Event> {
+    private final int total;
+    private int read;
+
+    CountingCursor(int total) {
+      this.total = total;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return read < total;
+    }
+
+    @Override
+    public Event next() {
+      LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(read);
+      read++;
+      return new Event("Event " + read, start, start.plusMinutes(1), null, null, true);
+    }
+  }
+
+  @Test
+  public void testOnlyFirstPageIsReadUpFront() {
+    CountingCursor cursor = new CountingCursor(100_000);
+    EventListModel model = new EventListModel(cursor, 50);
+
+    assertEquals(50, model.getSize());
+    assertEquals(50, cursor.read);
+    assertTrue(model.hasMore());
+    assertEquals("Event 1", model.getElementAt(0).getSubject());
+  }
+
+  @Test
+  public void testEnsureLoadedReadsWholePagesAndNotifies() {
+    CountingCursor cursor = new CountingCursor(120);
+    EventListModel model = new EventListModel(cursor, 50);
+    List<int[]> added = new ArrayList<>();
+    model.addListDataListener(new ListDataListener() {
+      @Override
+      public void intervalAdded(ListDataEvent e) {
+        added.add(new int[]{e.getIndex0(), e.getIndex1()});
+      }
+
+      @Override
+      public void intervalRemoved(ListDataEvent e) {
+        // not used
+      }
+
+      @Override
+      public void contentsChanged(ListDataEvent e) {
+        // not used
+      }
+    });
+
+    model.ensureLoaded(60);
+    assertEquals(100, model.getSize());
+    assertEquals(1, added.size());
+    assertEquals(50, added.get(0)[0]);
+    assertEquals(99, added.get(0)[1]);
+
+    model.ensureLoaded(500);
+    assertEquals(120, model.getSize());
+    assertFalse(model.hasMore());
+    assertEquals(0, model.loadNextPage());
+  }
+
+  @Test
+  public void testEmptyModel() {
+    EventListModel model = EventListModel.empty();
+    assertEquals(0, model.getSize());
+    assertFalse(model.hasMore());
+  }
+}
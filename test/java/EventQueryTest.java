@@ -0,0 +1,109 @@
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+import model.calendar.Calendar;
+import model.calendar.EventFilter;
+import model.calendar.EventQuery;
+import model.calendar.QueryPlan;
+import model.event.Event;
+import model.event.RecurringEvent;
+import model.exceptions.ConflictingEventException;
+
+/**
+ * Test class for EventQuery and the query planning of Calendar.
+ */
+public class EventQueryTest {
+
+  private Calendar calendar;
+
+  @Before
+  public void setUp() throws ConflictingEventException {
+    calendar = new Calendar("Work", "UTC");
+    for (int day = 1; day <= 30; day++) {
+      calendar.addEvent(new Event("Standup", LocalDateTime.of(2024, 4, day, 9, 0),
+              LocalDateTime.of(2024, 4, day, 9, 15), null, day % 2 == 0 ? "Room 1" : "Room 2",
+              true), false);
+      calendar.addEvent(new Event("Focus", LocalDateTime.of(2024, 4, day, 13, 0),
+              LocalDateTime.of(2024, 4, day, 15, 0), null, null, day % 5 != 0), false);
+    }
+    calendar.addRecurringEvent(new RecurringEvent.Builder("Review",
+            LocalDateTime.of(2024, 4, 1, 16, 0), LocalDateTime.of(2024, 4, 1, 17, 0),
+            EnumSet.of(DayOfWeek.FRIDAY)).occurrences(3).build(), false);
+  }
+
+  @Test
+  public void testMatchesWithoutCalendar() {
+    Event event = new Event("Standup", LocalDateTime.of(2024, 4, 2, 9, 0),
+            LocalDateTime.of(2024, 4, 2, 9, 15), null, "Room 1", false);
+
+    assertTrue(EventQuery.subject("Standup").and(EventQuery.location("Room 1"))
+            .matches(event));
+    assertTrue(EventQuery.isPublic(false).and(EventQuery.allDay(false)).matches(event));
+    assertFalse(EventQuery.recurring(true).matches(event));
+    assertTrue(EventQuery.during(LocalDateTime.of(2024, 4, 2, 9, 15),
+            LocalDateTime.of(2024, 4, 2, 10, 0)).matches(event));
+    assertFalse(EventQuery.subject("Focus").or(EventQuery.location("Room 2")).matches(event));
+    assertTrue(EventQuery.location("Room 2").negate().matches(event));
+  }
+
+  @Test
+  public void testPlannerPicksMostSelectiveIndex() {
+    QueryPlan bySubject = calendar.plan(EventQuery.subject("Standup")
+            .and(EventQuery.during(LocalDateTime.of(2024, 4, 1, 0, 0),
+                    LocalDateTime.of(2024, 4, 30, 23, 59))));
+    assertTrue(bySubject.getAccess().startsWith("SubjectIndex"));
+    assertEquals(30, bySubject.getEstimate());
+
+    QueryPlan byTime = calendar.plan(EventQuery.subject("Standup")
+            .and(EventQuery.during(LocalDateTime.of(2024, 4, 10, 0, 0),
+                    LocalDateTime.of(2024, 4, 11, 0, 0))));
+    assertTrue(byTime.getAccess().startsWith("TimeIndex"));
+    assertEquals("TimeIndex time overlaps [2024-04-10T00:00, 2024-04-11T00:00] "
+            + "(estimated " + byTime.getEstimate() + " of 63 events)\n"
+            + "  Filter: subject = \"Standup\"", byTime.explain());
+    assertEquals(1, byTime.execute().size());
+
+    QueryPlan bySeries = calendar.plan(EventQuery.recurring(true).and(EventQuery.isPublic(true)));
+    assertEquals("SeriesIndex (estimated 3 of 63 events)\n  Filter: public",
+            bySeries.explain());
+    assertEquals(3, bySeries.execute().size());
+  }
+
+  @Test
+  public void testUnindexedConditionsScanWithResiduals() {
+    EventFilter lambda = event -> event.getStartDateTime().getDayOfMonth() <= 10;
+    EventQuery query = EventQuery.location("Room 1").and(lambda);
+
+    assertEquals("FullScan (estimated 63 of 63 events)\n"
+            + "  Filter: location = \"Room 1\" AND <filter>", calendar.explain(query));
+    assertEquals(5, calendar.query(query).size());
+    assertEquals(6, calendar.query(EventQuery.subject("Focus").and(EventQuery.isPublic(false)))
+            .size());
+    assertEquals(60, calendar.query(EventQuery.recurring(false)).size());
+  }
+
+  @Test
+  public void testQueryFollowsEditsAndMatchesLambdaFilter() {
+    calendar.editEventsFromDate("Standup", LocalDateTime.of(2024, 4, 21, 0, 0),
+            "subject", "Sync");
+
+    List<Event> planned = calendar.getFilteredEvents(EventQuery.subject("Sync")
+            .and(EventQuery.location("Room 2")));
+    assertEquals(5, planned.size());
+
+    EventFilter lambda = event -> "Sync".equals(event.getSubject())
+            && "Room 2".equals(event.getLocation());
+    assertEquals(planned.size(), calendar.query(EventQuery.of(lambda)).size());
+    assertTrue(calendar.explain(EventQuery.of(lambda)).startsWith("FullScan"));
+    assertEquals(LocalDate.of(2024, 4, 21), planned.get(0).getStartDateTime().toLocalDate());
+  }
+}
@@ -0,0 +1,89 @@
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+import model.calendar.EventSearchIndex;
+import model.calendar.SearchResult;
+import model.event.Event;
+
+/**
+ * Test class for EventSearchIndex.
+ */
+public class EventSearchIndexTest {
+
+  private EventSearchIndex index;
+
+  @Before
+  public void setUp() {
+    index = new EventSearchIndex();
+  }
+
+  private Event event(String subject, String description, String location, int day) {
+    return new Event(subject, LocalDateTime.of(2024, 3, day, 10, 0),
+            LocalDateTime.of(2024, 3, day, 11, 0), description, location, true);
+  }
+
+  @Test
+  public void testTokenize() {
+    assertEquals(Arrays.asList("team", "sync", "q3"),
+            EventSearchIndex.tokenize("Team-sync: Q3, team"));
+    assertTrue(EventSearchIndex.tokenize(null).isEmpty());
+  }
+
+  @Test
+  public void testAllTermsMustMatchAndSubjectRanksFirst() {
+    Event inDescription = event("Planning", "budget review", "Room 1", 4);
+    Event inSubject = event("Budget review", null, null, 5);
+    index.add(event("Budget", null, null, 6));
+    index.add(inDescription);
+    index.add(inSubject);
+
+    SearchResult result = index.search("review BUDGET", null, 0, 10);
+    assertEquals(2, result.getTotal());
+    assertSame(inSubject, result.getEvents().get(0));
+    assertSame(inDescription, result.getEvents().get(1));
+    assertEquals(0, index.search("budget lunch", null, 0, 10).getTotal());
+    assertEquals(0, index.search("  ", null, 0, 10).getTotal());
+  }
+
+  @Test
+  public void testPagingAndFilter() {
+    for (int day = 1; day <= 25; day++) {
+      index.add(event("Standup", null, null, day));
+    }
+
+    SearchResult first = index.search("standup", null, 0, 10);
+    assertEquals(25, first.getTotal());
+    assertEquals(10, first.getEvents().size());
+    assertEquals(1, first.getEvents().get(0).getStartDateTime().getDayOfMonth());
+    assertTrue(first.hasMore());
+
+    SearchResult last = index.search("standup", null, 20, 10);
+    assertEquals(5, last.getEvents().size());
+    assertEquals(21, last.getEvents().get(0).getStartDateTime().getDayOfMonth());
+    assertFalse(last.hasMore());
+
+    List<Event> filtered = index.search("standup",
+            e -> e.getStartDateTime().getDayOfMonth() > 23, 0, 10).getEvents();
+    assertEquals(2, filtered.size());
+  }
+
+  @Test
+  public void testRemoveAfterTextChangedInPlace() {
+    Event meeting = event("Design meeting", null, "Room 4", 7);
+    index.add(meeting);
+    meeting.setSubject("Retro");
+
+    assertTrue(index.remove(meeting));
+    assertEquals(0, index.size());
+    assertEquals(0, index.search("design", null, 0, 10).getTotal());
+    assertFalse(index.remove(meeting));
+  }
+}
@@ -0,0 +1,72 @@
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+import model.calendar.EventSubjectIndex;
+import model.event.Event;
+
+/**
+ * Test class for EventSubjectIndex.
+ */
+public class EventSubjectIndexTest {
+
+  private EventSubjectIndex index;
+
+  @Before
+  public void setUp() {
+    index = new EventSubjectIndex();
+  }
+
+  private Event event(String subject, int day) {
+    return new Event(subject, LocalDateTime.of(2024, 3, day, 10, 0),
+            LocalDateTime.of(2024, 3, day, 11, 0), null, null, true);
+  }
+
+  @Test
+  public void testFindBySubjectAndStart() {
+    Event meeting = event("Meeting", 15);
+    index.add(event("Lunch", 15));
+    index.add(meeting);
+
+    assertSame(meeting, index.find("Meeting", LocalDateTime.of(2024, 3, 15, 10, 0)));
+    assertNull(index.find("Meeting", LocalDateTime.of(2024, 3, 16, 10, 0)));
+    assertNull(index.find("Review", LocalDateTime.of(2024, 3, 15, 10, 0)));
+  }
+
+  @Test
+  public void testGetFromReturnsTailInStartOrder() {
+    index.add(event("Meeting", 20));
+    index.add(event("Meeting", 10));
+    index.add(event("Meeting", 15));
+    index.add(event("Lunch", 18));
+
+    List<Event> all = index.get("Meeting");
+    assertEquals(3, all.size());
+    assertEquals(10, all.get(0).getStartDateTime().getDayOfMonth());
+
+    List<Event> tail = index.getFrom("Meeting", LocalDateTime.of(2024, 3, 15, 10, 0));
+    assertEquals(2, tail.size());
+    assertEquals(15, tail.get(0).getStartDateTime().getDayOfMonth());
+    assertEquals(20, tail.get(1).getStartDateTime().getDayOfMonth());
+    assertTrue(index.getFrom("Review", LocalDateTime.MIN).isEmpty());
+  }
+
+  @Test
+  public void testRemoveAfterSubjectChangedInPlace() {
+    Event meeting = event("Meeting", 15);
+    index.add(meeting);
+    meeting.setSubject("Renamed");
+
+    assertTrue(index.remove(meeting));
+    assertEquals(0, index.size());
+    assertTrue(index.get("Meeting").isEmpty());
+    assertFalse(index.remove(meeting));
+  }
+}
@@ -11,6 +11,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import model.event.Event;
+import model.event.Intervals;
 
 /**
  * Test class for Event.
@@ -488,4 +489,49 @@ public class EventTest {
     // Only check end time, which should be set to end of day
     assertEquals(LocalTime.of(23, 59, 59), event.getEndDateTime().toLocalTime());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testEpochSecondsFollowSetters() {
+    Event event = new Event(subject, startDateTime, endDateTime, description, location, isPublic);
+    assertEquals(Intervals.epochSecond(startDateTime), event.getStartEpochSecond());
+    assertEquals(event.getStartEpochSecond() + 3600, event.getEndEpochSecond());
+
+    Event later = new Event("Later", LocalDateTime.of(2023, 4, 10, 12, 0),
+            LocalDateTime.of(2023, 4, 10, 13, 0), null, null, true);
+    assertFalse(event.conflictsWith(later));
+
+    // Moving the end onto the other event's start makes them touch, which is a conflict
+    event.setEndDateTime(LocalDateTime.of(2023, 4, 10, 12, 0));
+    assertEquals(later.getStartEpochSecond(), event.getEndEpochSecond());
+    assertTrue(event.conflictsWith(later));
+
+    later.setEndDateTime(LocalDateTime.of(2023, 4, 10, 18, 0));
+    later.setStartDateTime(LocalDateTime.of(2023, 4, 10, 17, 0));
+    assertFalse(event.conflictsWith(later));
+    event.setAllDay(true);
+    assertTrue(event.conflictsWith(later));
+  }
+
+  @Test
+  public void testConflictsWithFractionalSeconds() {
+    Event event = new Event(subject, startDateTime, endDateTime.plusNanos(500), description,
+            location, isPublic);
+    Event justAfter = new Event("Next", endDateTime.plusNanos(501),
+            endDateTime.plusHours(1), null, null, true);
+    Event touching = new Event("Next", endDateTime.plusNanos(500),
+            endDateTime.plusHours(1), null, null, true);
+
+    assertFalse(event.conflictsWith(justAfter));
+    assertTrue(event.conflictsWith(touching));
+  }
+
+  @Test
+  public void testIntervalPrimitives() {
+    assertTrue(Intervals.conflicts(0, 10, 10, 20));
+    assertFalse(Intervals.overlaps(0, 10, 10, 20));
+    assertTrue(Intervals.overlaps(0, 10, 9, 20));
+    assertFalse(Intervals.conflicts(0, 10, 11, 20));
+    assertTrue(Intervals.contains(0, 10, 10));
+    assertFalse(Intervals.contains(0, 10, 11));
+  }
+}
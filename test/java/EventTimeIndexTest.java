@@ -0,0 +1,101 @@
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+import model.calendar.EventTimeIndex;
+import model.event.Event;
+
+/**
+ * Test class for EventTimeIndex.
+ */
+public class EventTimeIndexTest {
+
+  private EventTimeIndex index;
+
+  @Before
+  public void setUp() {
+    index = new EventTimeIndex();
+  }
+
+  private Event event(String subject, int startHour, int endHour) {
+    return new Event(subject, LocalDateTime.of(2024, 3, 15, startHour, 0),
+            LocalDateTime.of(2024, 3, 15, endHour, 0), null, null, true);
+  }
+
+  @Test
+  public void testAddAndRemove() {
+    Event meeting = event("Meeting", 10, 11);
+    index.add(meeting);
+    assertEquals(1, index.size());
+
+    assertTrue(index.remove(meeting));
+    assertEquals(0, index.size());
+    assertFalse(index.remove(meeting));
+  }
+
+  @Test
+  public void testRemoveAfterStartChanged() {
+    Event meeting = event("Meeting", 10, 11);
+    index.add(meeting);
+    meeting.setStartDateTime(LocalDateTime.of(2024, 3, 15, 9, 0));
+
+    assertTrue(index.remove(meeting));
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  public void testGetOverlappingIncludesLongEarlierEvent() {
+    Event workshop = event("Workshop", 8, 17);
+    Event lunch = event("Lunch", 12, 13);
+    Event evening = event("Evening", 18, 19);
+    index.add(workshop);
+    index.add(lunch);
+    index.add(evening);
+
+    List<Event> overlapping = index.getOverlapping(LocalDateTime.of(2024, 3, 15, 12, 30),
+            LocalDateTime.of(2024, 3, 15, 14, 0));
+    assertEquals(Arrays.asList(workshop, lunch), overlapping);
+  }
+
+  @Test
+  public void testHasConflict() {
+    index.add(event("Meeting", 10, 11));
+    assertTrue(index.hasConflict(event("Overlap", 10, 12)));
+    assertFalse(index.hasConflict(event("Later", 12, 13)));
+  }
+
+  @Test
+  public void testFindConflictsAgainstIndexAndBatch() {
+    index.add(event("Existing", 10, 11));
+
+    List<Event> candidates = Arrays.asList(
+            event("Early", 8, 9),
+            event("Clash", 10, 12),
+            event("Free", 13, 14),
+            event("Clash With Free", 13, 15));
+
+    BitSet rejected = index.findConflicts(candidates);
+    assertFalse(rejected.get(0));
+    assertTrue(rejected.get(1));
+    assertFalse(rejected.get(2));
+    assertTrue(rejected.get(3));
+    assertEquals(2, rejected.cardinality());
+  }
+
+  @Test
+  public void testIteratorIsStartOrdered() {
+    Event late = event("Late", 15, 16);
+    Event early = event("Early", 9, 10);
+    index.add(late);
+    index.add(early);
+
+    assertEquals(early, index.iterator().next());
+  }
+}
@@ -0,0 +1,103 @@
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.calendar.CalendarManager;
+import model.calendar.FreeBusyMap;
+import model.event.Event;
+import utilities.CalendarNameValidator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the free/busy bitmap.
+ */
+public class FreeBusyMapTest {
+
+  private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 3, 4, 0, 0);
+
+  private CalendarManager calendarManager;
+
+  @Before
+  public void setUp() throws Exception {
+    CalendarNameValidator.clear();
+    calendarManager = new CalendarManager.Builder().build();
+    calendarManager.createCalendar("Work", "America/New_York");
+    calendarManager.createCalendar("Home", "America/New_York");
+
+    addEvent("Work", MONDAY.withHour(9), MONDAY.withHour(12));
+    addEvent("Home", MONDAY.withHour(11), MONDAY.withHour(13).withMinute(30));
+    addEvent("Work", MONDAY.plusDays(1).withHour(8), MONDAY.plusDays(1).withHour(17));
+  }
+
+  private void addEvent(String calendar, LocalDateTime start, LocalDateTime end)
+          throws Exception {
+    calendarManager.getCalendar(calendar).addEvent(new Event("Busy", start, end, null, null,
+            true), false);
+  }
+
+  private FreeBusyMap week() throws Exception {
+    return calendarManager.getFreeBusy(Arrays.asList("Work", "Home"), "America/New_York",
+            MONDAY, MONDAY.plusDays(7));
+  }
+
+  @Test
+  public void testIsBusyCombinesCalendars() throws Exception {
+    FreeBusyMap map = week();
+    assertTrue(map.isBusy(MONDAY.withHour(9)));
+    assertTrue(map.isBusy(MONDAY.withHour(13).withMinute(29)));
+    assertFalse(map.isBusy(MONDAY.withHour(13).withMinute(30)));
+    assertFalse(map.isBusy(MONDAY.withHour(8).withMinute(59)));
+  }
+
+  @Test
+  public void testBusyIntervalsAreMerged() throws Exception {
+    List<FreeBusyMap.Interval> intervals = week().getBusyIntervals();
+    assertEquals(2, intervals.size());
+    assertEquals(MONDAY.withHour(9), intervals.get(0).getStart());
+    assertEquals(MONDAY.withHour(13).withMinute(30), intervals.get(0).getEnd());
+    assertEquals(MONDAY.plusDays(1).withHour(8), intervals.get(1).getStart());
+  }
+
+  @Test
+  public void testFirstFreeSlotSkipsBusyTimeAndOtherDays() throws Exception {
+    FreeBusyMap map = week();
+    assertEquals(MONDAY, map.findFirstFreeSlot(Duration.ofHours(8),
+            EnumSet.of(DayOfWeek.MONDAY)));
+    assertEquals(MONDAY.withHour(13).withMinute(30), map.findFirstFreeSlot(Duration.ofHours(10),
+            EnumSet.of(DayOfWeek.MONDAY)));
+    assertEquals(MONDAY.plusDays(1), map.findFirstFreeSlot(Duration.ofHours(8),
+            EnumSet.of(DayOfWeek.TUESDAY)));
+    assertNull(map.findFirstFreeSlot(Duration.ofMinutes(8 * 60 + 1),
+            EnumSet.of(DayOfWeek.TUESDAY)));
+    assertEquals(MONDAY.plusDays(2), map.findFirstFreeSlot(Duration.ofHours(12),
+            EnumSet.of(DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY)));
+    assertNull(map.findFirstFreeSlot(Duration.ofHours(25), EnumSet.allOf(DayOfWeek.class)));
+  }
+
+  @Test
+  public void testWindowAcrossDstChange() {
+    FreeBusyMap map = new FreeBusyMap("America/New_York", LocalDateTime.of(2024, 3, 10, 0, 0),
+            LocalDateTime.of(2024, 3, 11, 0, 0));
+    map.markBusy(new Event("Late", LocalDateTime.of(2024, 3, 11, 2, 0),
+            LocalDateTime.of(2024, 3, 11, 3, 0), null, null, true));
+    // 02:00 UTC on March 11 is 22:00 EDT on March 10
+    assertTrue(map.isBusy(LocalDateTime.of(2024, 3, 10, 22, 30)));
+    assertEquals(LocalDateTime.of(2024, 3, 10, 23, 0),
+            map.getBusyIntervals().get(0).getEnd());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testQueryOutsideWindow() throws Exception {
+    week().isBusy(MONDAY.minusMinutes(1));
+  }
+}
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import controller.command.event.ImportCalendarCommand;
+import model.calendar.Calendar;
 import model.calendar.ICalendar;
 import model.event.Event;
 import model.exceptions.ConflictingEventException;
@@ -174,6 +175,19 @@ public class ImportCalendarCommandTest {
     assertEquals("Failed to import any events", result);
   }
 
+  @Test
+  public void testImportSkipsConflictingEvents() throws IOException {
+    try (FileWriter writer = new FileWriter(TEST_FILE_PATH, true)) {
+      writer.write("Overlap,2023-05-15,10:30,2023-05-15,11:30,false,,,true\n");
+    }
+    Calendar calendar = new Calendar("Work", "UTC");
+
+    String result = new ImportCalendarCommand(calendar).importFromFile(new File(TEST_FILE_PATH));
+
+    assertEquals("Successfully imported 2 events; rejected events 3", result);
+    assertEquals(2, calendar.getAllEvents().size());
+  }
+
   @Test
   public void testImportWithViewUpdate() {
     // Create command with view but no view model
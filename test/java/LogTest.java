@@ -0,0 +1,85 @@
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import utilities.Log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the leveled logging facade.
+ */
+public class LogTest {
+
+  private Log.Level original;
+
+  @Before
+  public void setUp() {
+    original = Log.getLevel();
+  }
+
+  @After
+  public void tearDown() {
+    Log.setLevel(original);
+  }
+
+  @Test
+  public void testDisabledLevelDoesNotBuildMessage() {
+    Log.setLevel(Log.Level.WARN);
+    AtomicInteger built = new AtomicInteger();
+
+    Log.debug(() -> "debug " + built.incrementAndGet());
+    Log.info(() -> "info " + built.incrementAndGet());
+
+    assertEquals(0, built.get());
+    assertFalse(Log.isEnabled(Log.Level.DEBUG));
+    assertTrue(Log.isEnabled(Log.Level.ERROR));
+  }
+
+  @Test
+  public void testEnabledLevelBuildsMessageOnceAndFlushes() {
+    Log.setLevel(Log.Level.DEBUG);
+    AtomicInteger built = new AtomicInteger();
+
+    Log.debug(() -> "message " + built.incrementAndGet());
+
+    assertEquals(1, built.get());
+    assertTrue(Log.flush(5000));
+  }
+
+  @Test
+  public void testStackTraceIsOnlyPrintedWhenEnabled() {
+    AtomicInteger printed = new AtomicInteger();
+    Exception cause = new IllegalStateException("broken") {
+      @Override
+      public void printStackTrace(PrintWriter writer) {
+        printed.incrementAndGet();
+        super.printStackTrace(writer);
+      }
+    };
+
+    Log.setLevel(Log.Level.ERROR);
+    Log.debug(() -> "debug", cause);
+    assertEquals(0, printed.get());
+
+    Log.setLevel(Log.Level.OFF);
+    Log.error(() -> "error", cause);
+    assertEquals(0, printed.get());
+    Log.setLevel(Log.Level.ERROR);
+    Log.error(() -> "error", cause);
+    assertEquals(1, printed.get());
+    assertTrue(Log.flush(5000));
+  }
+
+  @Test
+  public void testOffDisablesEverything() {
+    Log.setLevel(Log.Level.OFF);
+    assertFalse(Log.isEnabled(Log.Level.ERROR));
+    assertFalse(Log.isEnabled(Log.Level.OFF));
+  }
+}
@@ -0,0 +1,187 @@
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import controller.execution.CalendarMailboxExecutor;
+import model.calendar.Calendar;
+import model.calendar.DaySummary;
+import model.event.Event;
+import view.display.MonthDataLoader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for background month loading.
+ */
+public class MonthDataLoaderTest {
+
+  private Calendar calendar;
+
+  @Before
+  public void setUp() throws Exception {
+    calendar = new Calendar("Work", "UTC");
+    addEvent("Standup", LocalDateTime.of(2024, 3, 4, 9, 0));
+    addEvent("Review", LocalDateTime.of(2024, 3, 4, 11, 0));
+    addEvent("Standup", LocalDateTime.of(2024, 3, 4, 15, 0));
+    addEvent("Planning", LocalDateTime.of(2024, 3, 4, 16, 0));
+    addEvent("Retro", LocalDateTime.of(2024, 3, 4, 17, 0));
+    addEvent("Late", LocalDateTime.of(2024, 3, 4, 23, 30));
+    addEvent("Next month", LocalDateTime.of(2024, 4, 1, 9, 0));
+    calendar.addEvent(Event.createAllDayEvent("Holiday", LocalDate.of(2024, 3, 8), null, null,
+            true), false);
+  }
+
+  private void addEvent(String subject, LocalDateTime start) throws Exception {
+    calendar.addEvent(new Event(subject, start, start.plusMinutes(30), null, null, true), false);
+  }
+
+  @Test
+  public void testComputeSummarizesEveryDayOfMonth() {
+    MonthDataLoader.MonthData data = MonthDataLoader.compute(calendar, YearMonth.of(2024, 3),
+            "UTC");
+
+    assertEquals(31, data.getSummaries().size());
+    DaySummary busyDay = data.getSummaries().get(LocalDate.of(2024, 3, 4));
+    assertEquals(6, busyDay.getEventCount());
+    assertEquals(Arrays.asList("Standup", "Review", "Planning"), busyDay.getSubjects());
+    assertTrue(busyDay.isBusy());
+    assertEquals(6, data.getEventsByDate().get(LocalDate.of(2024, 3, 4)).size());
+
+    DaySummary holiday = data.getSummaries().get(LocalDate.of(2024, 3, 8));
+    assertEquals(Arrays.asList("Holiday"), holiday.getSubjects());
+    assertTrue(data.getSummaries().get(LocalDate.of(2024, 3, 31)).isEmpty());
+    assertFalse(data.getEventsByDate().containsKey(LocalDate.of(2024, 4, 1)));
+  }
+
+  @Test
+  public void testComputeBucketsByDisplayTimezone() {
+    MonthDataLoader.MonthData data = MonthDataLoader.compute(calendar, YearMonth.of(2024, 3),
+            "Asia/Tokyo");
+
+    // 15:00 UTC and later is already March 5 in Tokyo
+    assertEquals(2, data.getSummaries().get(LocalDate.of(2024, 3, 4)).getEventCount());
+    DaySummary nextDay = data.getSummaries().get(LocalDate.of(2024, 3, 5));
+    assertEquals(4, nextDay.getEventCount());
+    assertEquals(Arrays.asList("Standup", "Planning", "Retro"), nextDay.getSubjects());
+  }
+
+  @Test
+  public void testSummaryOnlyLoadReadsNoEvents() throws Exception {
+    AtomicReference<Boolean> read = new AtomicReference<>(false);
+    Calendar watched = new Calendar("Watched", "UTC") {
+      @Override
+      public Iterator<Event> getEventCursorBetween(LocalDateTime fromUTC, LocalDateTime toUTC) {
+        read.set(true);
+        return super.getEventCursorBetween(fromUTC, toUTC);
+      }
+    };
+    watched.addEvent(new Event("Late", LocalDateTime.of(2024, 3, 4, 23, 30),
+            LocalDateTime.of(2024, 3, 4, 23, 45), null, null, true), false);
+    // Read in the mailbox, since a snapshot would not go through the override
+    CalendarMailboxExecutor mailboxes = new CalendarMailboxExecutor();
+    MonthDataLoader loader = new MonthDataLoader("Asia/Tokyo", mailboxes);
+    AtomicReference<MonthDataLoader.MonthData> delivered = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    SwingUtilities.invokeAndWait(() -> loader.load(watched, YearMonth.of(2024, 3), false,
+        data -> {
+          delivered.set(data);
+          latch.countDown();
+        }));
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    mailboxes.shutdown();
+    assertFalse(read.get());
+    assertFalse(delivered.get().hasEvents());
+    assertEquals(31, delivered.get().getSummaries().size());
+    // 23:30 UTC is already March 5 in Tokyo
+    assertEquals(1, delivered.get().getSummaries().get(LocalDate.of(2024, 3, 5))
+            .getEventCount());
+  }
+
+  @Test
+  public void testNewerLoadSupersedesOlderOne() throws Exception {
+    MonthDataLoader loader = new MonthDataLoader("UTC");
+    AtomicReference<YearMonth> delivered = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    SwingUtilities.invokeAndWait(() -> {
+      loader.load(calendar, YearMonth.of(2024, 2), data -> delivered.set(data.getMonth()));
+      loader.load(calendar, YearMonth.of(2024, 3), data -> {
+        delivered.set(data.getMonth());
+        latch.countDown();
+      });
+    });
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    // Let any late callback from the first load run before checking
+    SwingUtilities.invokeAndWait(() -> { });
+    assertEquals(YearMonth.of(2024, 3), delivered.get());
+  }
+
+  @Test
+  public void testLoadReadsSnapshotTakenWhenLoadStarts() throws Exception {
+    MonthDataLoader loader = new MonthDataLoader("UTC");
+    AtomicReference<MonthDataLoader.MonthData> delivered = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    SwingUtilities.invokeAndWait(() -> {
+      loader.load(calendar, YearMonth.of(2024, 3), data -> {
+        delivered.set(data);
+        latch.countDown();
+      });
+      try {
+        addEvent("Added later", LocalDateTime.of(2024, 3, 4, 19, 0));
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(6, delivered.get().getEventsByDate().get(LocalDate.of(2024, 3, 4)).size());
+    assertEquals(6, delivered.get().getSummaries().get(LocalDate.of(2024, 3, 4))
+            .getEventCount());
+    assertEquals(7, calendar.getEventsOnDate(LocalDate.of(2024, 3, 4)).size());
+  }
+
+  @Test
+  public void testLoadReadsInCalendarMailbox() throws Exception {
+    AtomicReference<String> readingThread = new AtomicReference<>();
+    Calendar watched = new Calendar("Watched", "UTC") {
+      @Override
+      public Iterator<Event> getEventCursorBetween(LocalDateTime fromUTC, LocalDateTime toUTC) {
+        readingThread.set(Thread.currentThread().getName());
+        return super.getEventCursorBetween(fromUTC, toUTC);
+      }
+    };
+    watched.addEvent(new Event("Standup", LocalDateTime.of(2024, 3, 4, 9, 0),
+            LocalDateTime.of(2024, 3, 4, 9, 30), null, null, true), false);
+    CalendarMailboxExecutor mailboxes = new CalendarMailboxExecutor();
+    MonthDataLoader loader = new MonthDataLoader("UTC", mailboxes);
+    AtomicReference<MonthDataLoader.MonthData> delivered = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    SwingUtilities.invokeAndWait(() -> loader.load(watched, YearMonth.of(2024, 3), data -> {
+      delivered.set(data);
+      latch.countDown();
+    }));
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    mailboxes.shutdown();
+    assertEquals("mailbox-calendar-Watched", readingThread.get());
+    assertEquals(1, delivered.get().getSummaries().get(LocalDate.of(2024, 3, 4))
+            .getEventCount());
+  }
+}
@@ -786,7 +786,7 @@ public class PrintEventsCommandTest {
             true
     );
     
-    // Early morning event on next day (should be included)
+    // Early morning event on next day (belongs to the next day)
     Event earlyMorningNextDay = new MockEvent(
             "Early Morning Event",
             false,
@@ -833,7 +833,8 @@ public class PrintEventsCommandTest {
     String result = commandWithNextDayEvents.execute(args);
     
     assertTrue(result.contains("Regular Event"));
-    assertTrue(result.contains("Early Morning Event"));
+    assertFalse(result.contains("Early Morning Event"));
     assertFalse(result.contains("Late Morning Event"));
+    assertEquals(inputDate, spyCalendar.getLastCheckedDate());
   }
 }
\ No newline at end of file
@@ -2,18 +2,21 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import org.junit.Test;
 
 import model.event.Event;
+import model.event.OccurrenceCache;
 import model.event.RecurringEvent;
 
 /**
@@ -476,4 +479,107 @@ public class RecurringEventTest {
           assertEquals(59, occurrence.getEndDateTime().getMinute());
         }
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testOccurrenceDatesBetweenAreBoundedByWindowAndSeries() {
+        Set<DayOfWeek> days = new HashSet<>();
+        days.add(DayOfWeek.MONDAY);
+        days.add(DayOfWeek.WEDNESDAY);
+        // Monday 2025-01-06, ten occurrences: the last is Wednesday 2025-02-05
+        RecurringEvent series = new RecurringEvent.Builder(
+                "Standup",
+                LocalDateTime.of(2025, 1, 6, 9, 0),
+                LocalDateTime.of(2025, 1, 6, 9, 15),
+                days).occurrences(10).build();
+
+        assertEquals(LocalDate.of(2025, 2, 5), series.getLastOccurrenceDate());
+
+        Iterator<LocalDate> dates = series.getOccurrenceDatesBetween(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 12));
+        assertEquals(LocalDate.of(2025, 1, 6), dates.next());
+        assertEquals(LocalDate.of(2025, 1, 8), dates.next());
+        assertFalse(dates.hasNext());
+
+        dates = series.getOccurrenceDatesBetween(
+                LocalDate.of(2025, 2, 1), LocalDate.of(2030, 1, 1));
+        assertEquals(LocalDate.of(2025, 2, 3), dates.next());
+        assertEquals(LocalDate.of(2025, 2, 5), dates.next());
+        assertFalse(dates.hasNext());
+    }
+
+    @Test
+    public void testOccurrenceDatesBetweenHonoursEndDate() {
+        Set<DayOfWeek> days = new HashSet<>();
+        days.add(DayOfWeek.FRIDAY);
+        RecurringEvent series = new RecurringEvent.Builder(
+                "Review",
+                LocalDateTime.of(2025, 1, 3, 14, 0),
+                LocalDateTime.of(2025, 1, 3, 15, 0),
+                days).endDate(LocalDate.of(2025, 1, 20)).build();
+
+        Iterator<LocalDate> dates = series.getOccurrenceDatesBetween(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        int count = 0;
+        while (dates.hasNext()) {
+            assertEquals(DayOfWeek.FRIDAY, dates.next().getDayOfWeek());
+            count++;
+        }
+        assertEquals(3, count);
+    }
+
+    @Test
+    public void testOccurrencesAreCachedByMonth() {
+        RecurringEvent event = new RecurringEvent.Builder(
+                "Standup",
+                LocalDateTime.of(2024, 1, 1, 9, 0),
+                LocalDateTime.of(2024, 1, 1, 9, 15),
+                Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+                .endDate(LocalDate.of(2024, 12, 31))
+                .build();
+        OccurrenceCache cache = event.getOccurrenceCache();
+
+        List<Event> march = event.getOccurrencesBetween(
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+        assertEquals(8, march.size());
+        assertEquals(1, cache.getMisses());
+
+        // The same month, or a week inside it, reuses the cached occurrences
+        assertSame(march, event.getOccurrencesBetween(
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)));
+        List<Event> week = event.getOccurrencesBetween(
+                LocalDate.of(2024, 3, 11), LocalDate.of(2024, 3, 17));
+        assertEquals(2, week.size());
+        assertSame(march.get(2), week.get(0));
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+
+        // A range across months expands only the months it has not seen
+        assertEquals(17, event.getOccurrencesBetween(
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 30)).size());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testOccurrenceCacheFollowsEditsAndBudget() {
+        RecurringEvent event = new RecurringEvent.Builder(
+                "Standup",
+                LocalDateTime.of(2024, 1, 1, 9, 0),
+                LocalDateTime.of(2024, 1, 1, 9, 15),
+                Set.of(DayOfWeek.values()))
+                .endDate(LocalDate.of(2030, 12, 31))
+                .build();
+        OccurrenceCache cache = event.getOccurrenceCache();
+
+        LocalDate day = LocalDate.of(2024, 5, 6);
+        assertFalse("Room 4".equals(event.getOccurrencesBetween(day, day).get(0).getLocation()));
+        event.setLocation("Room 4");
+        assertEquals(0, cache.size());
+        assertEquals("Room 4", event.getOccurrencesBetween(day, day).get(0).getLocation());
+
+        // Daily occurrences over five years are far more than the cache keeps
+        assertEquals(1827, event.getOccurrencesBetween(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2028, 12, 31)).size());
+        assertTrue(cache.getEvictions() > 0);
+        assertTrue(cache.size() <= OccurrenceCache.DEFAULT_BUDGET);
+    }
+}
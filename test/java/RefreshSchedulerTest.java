@@ -0,0 +1,95 @@
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import view.display.RefreshScheduler;
+import view.display.RefreshScheduler.Region;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for the coalescing GUI refresh scheduler.
+ */
+public class RefreshSchedulerTest {
+
+  private RefreshScheduler scheduler;
+  private AtomicInteger gridRuns;
+  private AtomicInteger listRuns;
+
+  @Before
+  public void setUp() {
+    scheduler = new RefreshScheduler(null);
+    gridRuns = new AtomicInteger();
+    listRuns = new AtomicInteger();
+    scheduler.register(Region.GRID, gridRuns::incrementAndGet);
+    scheduler.register(Region.EVENT_LIST, listRuns::incrementAndGet);
+  }
+
+  @Test
+  public void testBurstOfRequestsRunsEachRegionOnce() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      scheduler.markDirty(Region.GRID);
+    }
+    for (int i = 0; i < 50; i++) {
+      scheduler.markDirty(Region.GRID, Region.EVENT_LIST);
+    }
+    SwingUtilities.invokeAndWait(scheduler::flush);
+
+    assertEquals(1, gridRuns.get());
+    assertEquals(1, listRuns.get());
+    assertEquals(200, scheduler.getRequestCount());
+    assertEquals(2, scheduler.getRefreshCount());
+    assertEquals(198, scheduler.getCoalescedCount());
+    assertEquals(1, scheduler.getFrameCount());
+  }
+
+  @Test
+  public void testCellsAreRefreshedAfterTheGrid() throws Exception {
+    StringBuilder order = new StringBuilder();
+    scheduler.register(Region.GRID, () -> order.append("grid "));
+    scheduler.register(Region.CELLS, () -> order.append("cells"));
+
+    scheduler.markDirty(Region.CELLS);
+    scheduler.markDirty(Region.CELLS);
+    scheduler.markDirty(Region.GRID);
+    SwingUtilities.invokeAndWait(scheduler::flush);
+
+    assertEquals("grid cells", order.toString());
+  }
+
+  @Test
+  public void testFlushWithNothingPendingDoesNothing() throws Exception {
+    SwingUtilities.invokeAndWait(scheduler::flush);
+    assertEquals(0, scheduler.getFrameCount());
+    assertEquals(0, gridRuns.get());
+  }
+
+  @Test
+  public void testPendingRefreshRunsWithinAFrameOnTheEdt() throws Exception {
+    CountDownLatch ran = new CountDownLatch(1);
+    AtomicInteger offEdt = new AtomicInteger();
+    scheduler.register(Region.STATUS, () -> {
+      if (!SwingUtilities.isEventDispatchThread()) {
+        offEdt.incrementAndGet();
+      }
+      ran.countDown();
+    });
+
+    scheduler.markDirty(Region.STATUS);
+    scheduler.markDirty(Region.STATUS);
+
+    assertTrue(ran.await(5, TimeUnit.SECONDS));
+    SwingUtilities.invokeAndWait(() -> {
+      // Let the timer's flush finish before reading the counters
+    });
+    assertEquals(0, offEdt.get());
+    assertEquals(1, scheduler.getRefreshCount());
+    assertEquals(1, scheduler.getCoalescedCount());
+  }
+}
@@ -0,0 +1,74 @@
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+import controller.command.event.SearchEventsCommand;
+import model.calendar.Calendar;
+import model.event.Event;
+import model.exceptions.ConflictingEventException;
+
+/**
+ * Test class for SearchEventsCommand, run against a real calendar.
+ */
+public class SearchEventsCommandTest {
+
+  private Calendar calendar;
+  private SearchEventsCommand command;
+
+  @Before
+  public void setUp() throws ConflictingEventException {
+    calendar = new Calendar("Work", "UTC");
+    command = new SearchEventsCommand(calendar);
+    for (int day = 1; day <= 25; day++) {
+      calendar.addEvent(new Event("Standup", LocalDateTime.of(2024, 4, day, 9, 0),
+              LocalDateTime.of(2024, 4, day, 9, 15), "daily sync", null, true), false);
+    }
+    calendar.addEvent(new Event("Sync with design", LocalDateTime.of(2024, 4, 10, 14, 0),
+            LocalDateTime.of(2024, 4, 10, 15, 0), null, "Room 4", true), false);
+  }
+
+  @Test
+  public void testRanksSubjectMatchesFirst() {
+    String result = command.execute(new String[]{"sync", null, null, null});
+
+    assertTrue(result.startsWith("Events matching \"sync\" (1-20 of 26):\n"
+            + "1. Sync with design on 2024-04-10 14:00 to 15:00 at Room 4\n"
+            + "2. Standup on 2024-04-01 09:00 to 09:15\n"));
+    assertTrue(result.endsWith("More results: search events \"sync\" page 2\n"));
+  }
+
+  @Test
+  public void testDateRangeAndPages() {
+    String result = command.execute(new String[]{"standup", "2024-04-20", "2024-04-30", "1"});
+    assertTrue(result.startsWith("Events matching \"standup\" (1-6 of 6):\n"));
+    assertFalse(result.contains("More results"));
+
+    result = command.execute(new String[]{"standup", null, null, "2"});
+    assertTrue(result.startsWith("Events matching \"standup\" (21-25 of 25):\n"
+            + "21. Standup on 2024-04-21 09:00"));
+  }
+
+  @Test
+  public void testEditsAreSearchable() {
+    calendar.editAllEvents("Standup", "location", "Atrium");
+
+    assertTrue(command.execute(new String[]{"atrium standup", null, null, null})
+            .contains("of 25)"));
+    assertEquals("No events matching \"lunch\"",
+            command.execute(new String[]{"lunch", null, null, null}));
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertEquals("Error: Missing query for 'search events' command",
+            command.execute(new String[]{" "}));
+    assertEquals("Error: Page number must be at least 1",
+            command.execute(new String[]{"standup", null, null, "0"}));
+    assertEquals("Error: Start date cannot be after end date",
+            command.execute(new String[]{"standup", "2024-04-30", "2024-04-01", null}));
+  }
+}
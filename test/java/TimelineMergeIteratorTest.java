@@ -0,0 +1,108 @@
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.calendar.CalendarManager;
+import model.calendar.TimelineEntry;
+import model.calendar.iterator.TimelineMergeIterator;
+import model.event.Event;
+import model.exceptions.CalendarNotFoundException;
+import utilities.CalendarNameValidator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for merged multi-calendar timelines.
+ */
+public class TimelineMergeIteratorTest {
+
+  private CalendarManager calendarManager;
+
+  @Before
+  public void setUp() throws Exception {
+    CalendarNameValidator.clear();
+    calendarManager = new CalendarManager.Builder().build();
+    calendarManager.createCalendar("Work", "UTC");
+    calendarManager.createCalendar("Home", "UTC");
+    calendarManager.createCalendar("Remote", "Asia/Tokyo");
+
+    addEvent("Work", "Standup", LocalDateTime.of(2024, 3, 4, 9, 0));
+    addEvent("Work", "Review", LocalDateTime.of(2024, 3, 5, 15, 0));
+    addEvent("Home", "Gym", LocalDateTime.of(2024, 3, 4, 7, 0));
+    addEvent("Home", "Dinner", LocalDateTime.of(2024, 3, 5, 19, 0));
+    addEvent("Home", "Next week", LocalDateTime.of(2024, 3, 12, 19, 0));
+    // 10:00 in Tokyo is 01:00 UTC
+    addEvent("Remote", "Sync", LocalDateTime.of(2024, 3, 5, 10, 0));
+  }
+
+  private void addEvent(String calendar, String subject, LocalDateTime start) throws Exception {
+    calendarManager.getCalendar(calendar).addEvent(new Event(subject, start, start.plusHours(1),
+            null, null, true), false);
+  }
+
+  @Test
+  public void testMergedTimelineIsOrderedAcrossCalendars() throws CalendarNotFoundException {
+    List<String> subjects = calendarManager.getMergedTimeline(
+                    Arrays.asList("Work", "Home", "Remote"),
+                    LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 5))
+            .map(entry -> entry.getEvent().getSubject())
+            .collect(Collectors.toList());
+
+    assertEquals(Arrays.asList("Gym", "Standup", "Sync", "Review", "Dinner"), subjects);
+  }
+
+  @Test
+  public void testMergedTimelineTagsCalendarAndHonoursLimit() throws CalendarNotFoundException {
+    List<TimelineEntry> entries = calendarManager.getMergedTimeline(
+            Arrays.asList("Work", "Home"), LocalDate.of(2024, 3, 1),
+            LocalDate.of(2024, 3, 31), 2);
+
+    assertEquals(2, entries.size());
+    assertEquals("Home", entries.get(0).getCalendarName());
+    assertEquals("Work", entries.get(1).getCalendarName());
+  }
+
+  @Test(expected = CalendarNotFoundException.class)
+  public void testMergedTimelineRejectsUnknownCalendar() throws CalendarNotFoundException {
+    calendarManager.getMergedTimeline(Arrays.asList("Work", "Missing"),
+            LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 5));
+  }
+
+  @Test
+  public void testMergeDoesNotReadAheadOfConsumer() {
+    int[] pulled = new int[1];
+    Iterator<Event> counting = new Iterator<Event>() {
+      private int hour = 0;
+
+      @Override
+      public boolean hasNext() {
+        return hour < 24;
+      }
+
+      @Override
+      public Event next() {
+        pulled[0]++;
+        LocalDateTime start = LocalDateTime.of(2024, 3, 4, hour++, 0);
+        return new Event("Slot", start, start.plusMinutes(30), null, null, true);
+      }
+    };
+
+    TimelineMergeIterator merged = new TimelineMergeIterator(
+            Arrays.asList("Busy", "Empty"),
+            Arrays.asList(counting, Collections.<Event>emptyIterator()));
+    assertTrue(merged.hasNext());
+    merged.next();
+    merged.next();
+    assertEquals(3, pulled[0]);
+    assertFalse(merged.next().getCalendarName().isEmpty());
+  }
+}